@@ -41,6 +41,8 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata {
 	
 	private Set<String> classpath;
 
+	private Set<String> sourceTypes;
+
 	/**
 	 * Returns the project URI.
 	 *
@@ -84,4 +86,28 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata {
 	public void setClasspath(Set<String> classpath) {
 		this.classpath = classpath;
 	}
+
+	/**
+	 * Returns the Java types whose properties and hints must be replaced with the
+	 * properties and hints of this project information when only some Java
+	 * compilation units have been scanned, and null when all Java sources of the
+	 * project have been scanned.
+	 *
+	 * @return the Java types whose properties and hints must be replaced and null
+	 *         when all Java sources of the project have been scanned.
+	 */
+	public Set<String> getSourceTypes() {
+		return sourceTypes;
+	}
+
+	/**
+	 * Set the Java types whose properties and hints must be replaced with the
+	 * properties and hints of this project information.
+	 *
+	 * @param sourceTypes the Java types whose properties and hints must be
+	 *                    replaced.
+	 */
+	public void setSourceTypes(Set<String> sourceTypes) {
+		this.sourceTypes = sourceTypes;
+	}
 }
@@ -14,6 +14,7 @@
 package org.eclipse.lsp4mp.commons;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * MicroProfile project information parameters.
@@ -29,6 +30,10 @@ public class MicroProfileProjectInfoParams {
 
 	private DocumentFormat documentFormat;
 
+	private Set<String> sourceURIs;
+
+	private boolean lazyDescriptions;
+
 	public MicroProfileProjectInfoParams() {
 	}
 
@@ -89,4 +94,50 @@ public class MicroProfileProjectInfoParams {
 	public DocumentFormat getDocumentFormat() {
 		return documentFormat;
 	}
+
+	/**
+	 * Returns the URIs of the Java compilation units to scan when the search scope
+	 * is only sources and null if all Java sources of the project must be scanned.
+	 *
+	 * @return the URIs of the Java compilation units to scan and null if all Java
+	 *         sources of the project must be scanned.
+	 */
+	public Set<String> getSourceURIs() {
+		return sourceURIs;
+	}
+
+	/**
+	 * Set the URIs of the Java compilation units to scan when the search scope is
+	 * only sources.
+	 *
+	 * @param sourceURIs the URIs of the Java compilation units to scan and null if
+	 *                   all Java sources of the project must be scanned.
+	 */
+	public void setSourceURIs(Set<String> sourceURIs) {
+		this.sourceURIs = sourceURIs;
+	}
+
+	/**
+	 * Returns true if the descriptions of the properties declared in Java must not
+	 * be sent with the project information and false otherwise. In this case the
+	 * description must be retrieved with the property documentation request.
+	 *
+	 * @return true if the descriptions of the properties declared in Java must not
+	 *         be sent with the project information and false otherwise.
+	 */
+	public boolean isLazyDescriptions() {
+		return lazyDescriptions;
+	}
+
+	/**
+	 * Set true if the descriptions of the properties declared in Java must not be
+	 * sent with the project information and false otherwise.
+	 *
+	 * @param lazyDescriptions true if the descriptions of the properties declared
+	 *                         in Java must not be sent with the project
+	 *                         information and false otherwise.
+	 */
+	public void setLazyDescriptions(boolean lazyDescriptions) {
+		this.lazyDescriptions = lazyDescriptions;
+	}
 }
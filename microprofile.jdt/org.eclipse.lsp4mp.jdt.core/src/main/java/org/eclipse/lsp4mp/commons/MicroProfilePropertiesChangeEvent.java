@@ -28,6 +28,8 @@ public class MicroProfilePropertiesChangeEvent {
 
 	private Set<String> projectURIs;
 
+	private Set<String> sourceURIs;
+
 	/**
 	 * Returns the search scope to collect the MicroProfile properties.
 	 *
@@ -64,4 +66,26 @@ public class MicroProfilePropertiesChangeEvent {
 		this.projectURIs = projectURIs;
 	}
 
+	/**
+	 * Returns the URIs of the Java compilation units which have changed and null
+	 * if they are unknown (in this case all Java sources of the projects must be
+	 * scanned). This information is only available when the type scope is only
+	 * sources.
+	 *
+	 * @return the URIs of the Java compilation units which have changed and null
+	 *         if they are unknown.
+	 */
+	public Set<String> getSourceURIs() {
+		return sourceURIs;
+	}
+
+	/**
+	 * Set the URIs of the Java compilation units which have changed.
+	 *
+	 * @param sourceURIs the URIs of the Java compilation units which have changed.
+	 */
+	public void setSourceURIs(Set<String> sourceURIs) {
+		this.sourceURIs = sourceURIs;
+	}
+
 }
@@ -13,7 +13,10 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.commons.metadata;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Configuration metadata
@@ -24,10 +27,67 @@ import java.util.List;
  */
 public class ConfigurationMetadata {
 
+	/**
+	 * Item hints indexed by name for a given state of the hints list.
+	 */
+	private static class HintsIndex {
+
+		private final List<ItemHint> hints;
+
+		private volatile int size;
+
+		private final Map<String, ItemHint> hintsByName;
+
+		private final Map<String, Integer> positions;
+
+		public HintsIndex(List<ItemHint> hints) {
+			this.hints = hints;
+			this.hintsByName = new ConcurrentHashMap<>();
+			this.positions = new ConcurrentHashMap<>();
+			// Copy the hints to avoid concurrent modification errors
+			Object[] items = hints.toArray();
+			for (int i = 0; i < items.length; i++) {
+				add((ItemHint) items[i], i);
+			}
+			this.size = items.length;
+		}
+
+		/**
+		 * Index the given item hint added at the given position of the hints list.
+		 *
+		 * @param itemHint the added item hint.
+		 * @param position the position of the item hint in the hints list.
+		 */
+		private void add(ItemHint itemHint, int position) {
+			if (itemHint != null && itemHint.getName() != null
+					&& hintsByName.putIfAbsent(itemHint.getName(), itemHint) == null) {
+				// the first hint of the list wins
+				positions.put(itemHint.getName(), position);
+			}
+		}
+
+		/**
+		 * Index the hints added at the end of the hints list since the last update
+		 * of the index.
+		 */
+		public void update() {
+			for (int i = size; i < hints.size(); i++) {
+				add(hints.get(i), i);
+			}
+			size = hints.size();
+		}
+
+		public boolean isValid(List<ItemHint> hints) {
+			return this.hints == hints && this.size == hints.size();
+		}
+	}
+
 	private List<ItemMetadata> properties;
 
 	private List<ItemHint> hints;
 
+	private transient volatile HintsIndex hintsIndex;
+
 	public List<ItemMetadata> getProperties() {
 		return properties;
 	}
@@ -36,12 +96,64 @@ public class ConfigurationMetadata {
 		this.properties = properties;
 	}
 
+	/**
+	 * Returns the item hints.
+	 *
+	 * <p>
+	 * To update the hints, {@link #addHint(ItemHint)},
+	 * {@link #addHints(Collection)} and {@link #removeHints(Collection)} must be
+	 * used, to keep the index of hints by name up to date. The index detects
+	 * only the changes of the list size: a hint replaced in the returned list
+	 * (ex : with <code>List#set</code>) is not seen by {@link #getHint(String...)}
+	 * until the hints are updated with those methods or
+	 * {@link #setHints(List)}.
+	 * </p>
+	 *
+	 * @return the item hints.
+	 */
 	public List<ItemHint> getHints() {
 		return hints;
 	}
 
 	public void setHints(List<ItemHint> hints) {
 		this.hints = hints;
+		this.hintsIndex = null;
+	}
+
+	/**
+	 * Add the given item hint.
+	 *
+	 * @param hint the item hint to add.
+	 */
+	public void addHint(ItemHint hint) {
+		HintsIndex index = getUpToDateHintsIndex();
+		hints.add(hint);
+		if (index != null) {
+			index.update();
+		}
+	}
+
+	/**
+	 * Add the given item hints.
+	 *
+	 * @param hints the item hints to add.
+	 */
+	public void addHints(Collection<ItemHint> hints) {
+		HintsIndex index = getUpToDateHintsIndex();
+		this.hints.addAll(hints);
+		if (index != null) {
+			index.update();
+		}
+	}
+
+	/**
+	 * Remove the given item hints.
+	 *
+	 * @param hints the item hints to remove.
+	 */
+	public void removeHints(Collection<? extends ItemHint> hints) {
+		this.hints.removeAll(hints);
+		hintsIndex = null;
 	}
 
 	/**
@@ -66,14 +178,42 @@ public class ConfigurationMetadata {
 		if (hints == null || hint == null) {
 			return null;
 		}
-		for (ItemHint itemHint : hints) {
-			for (String name : hint) {
-				if (itemHint.getName().equals(name)) {
-					return itemHint;
-				}
+		HintsIndex index = getHintsIndex();
+		String result = null;
+		for (String name : hint) {
+			if (name != null && index.hintsByName.containsKey(name)
+					&& (result == null || index.positions.get(name) < index.positions.get(result))) {
+				// the first hint of the list which matches one of the given names wins
+				result = name;
 			}
 		}
-		return null;
+		return result != null ? index.hintsByName.get(result) : null;
+	}
+
+	/**
+	 * Returns the index of hints if it is up to date with the hints list and null
+	 * otherwise (the index will be rebuilt by the next lookup).
+	 *
+	 * @return the index of hints if it is up to date with the hints list and null
+	 *         otherwise.
+	 */
+	private HintsIndex getUpToDateHintsIndex() {
+		HintsIndex index = hintsIndex;
+		if (index != null && !index.isValid(hints)) {
+			hintsIndex = null;
+			return null;
+		}
+		return index;
+	}
+
+	private HintsIndex getHintsIndex() {
+		List<ItemHint> hints = this.hints;
+		HintsIndex index = hintsIndex;
+		if (index == null || !index.isValid(hints)) {
+			index = new HintsIndex(hints);
+			hintsIndex = index;
+		}
+		return index;
 	}
 
 }
@@ -16,6 +16,8 @@ package org.eclipse.lsp4mp.commons.metadata;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.lsp4j.Location;
+
 /**
  * Configuration item metadata.
  *
@@ -67,6 +69,8 @@ public class ItemMetadata extends ItemBase {
 
 	private List<ConverterKind> converterKinds;
 
+	private Location sourceLocation;
+
 	public String getType() {
 		return type;
 	}
@@ -133,6 +137,28 @@ public class ItemMetadata extends ItemBase {
 		this.converterKinds = converterKinds;
 	}
 
+	/**
+	 * Returns the location of the Java field or method which declares the
+	 * property when it has been collected from a Java source and null otherwise.
+	 *
+	 * @return the location of the Java field or method which declares the
+	 *         property when it has been collected from a Java source and null
+	 *         otherwise.
+	 */
+	public Location getSourceLocation() {
+		return sourceLocation;
+	}
+
+	/**
+	 * Set the location of the Java field or method which declares the property.
+	 *
+	 * @param sourceLocation the location of the Java field or method which
+	 *                       declares the property.
+	 */
+	public void setSourceLocation(Location sourceLocation) {
+		this.sourceLocation = sourceLocation;
+	}
+
 	/**
 	 * Returns all possible expansions of the property name pattern contained in
 	 * this metadata.
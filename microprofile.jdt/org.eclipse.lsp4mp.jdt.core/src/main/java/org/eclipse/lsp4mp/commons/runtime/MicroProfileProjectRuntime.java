@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -58,7 +59,7 @@ public class MicroProfileProjectRuntime implements TypeProvider {
 	private final ClassLoader parentClassLoader;
 
 	/** Dedicated ClassLoader for the project runtime, created from the classpath */
-	private ProjectClassLoader runtimeClassLoader;
+	private volatile ProjectClassLoader runtimeClassLoader;
 
 	private Set<String> classpath;
 
@@ -239,11 +240,32 @@ public class MicroProfileProjectRuntime implements TypeProvider {
 	}
 
 	/**
-	 * Clears cached classes (to call after project rebuild)
+	 * Clears cached classes (to call after project rebuild).
+	 *
+	 * <p>
+	 * Only the classes of the project output directories are reloaded, and only
+	 * when a class file of a loaded class has changed. The classes of the project
+	 * jars and the converters of the types which don't reference a reloaded class
+	 * are kept.
+	 * </p>
 	 */
 	public void clearProjectClassCache() {
-		classpath.clear();
-		runtimeClassLoader.clearProjectClassCache();
+		ProjectClassLoader oldClassLoader = runtimeClassLoader;
+		ProjectClassLoader newClassLoader = oldClassLoader.refresh();
+		if (newClassLoader == oldClassLoader) {
+			return;
+		}
+		this.runtimeClassLoader = newClassLoader;
+		if (oldClassLoader.isProjectServicesLoaded()) {
+			// the config could use services (ex : discovered converters) of the output
+			// directories
+			fullRuntimesSupport.values().forEach(MicroProfileRuntimeSupport::reset);
+			safeRuntimesSupport.values().forEach(MicroProfileRuntimeSupport::reset);
+			return;
+		}
+		Predicate<Class<?>> reloadedClass = oldClassLoader::isProjectClass;
+		fullRuntimesSupport.values().forEach(support -> support.invalidate(reloadedClass));
+		safeRuntimesSupport.values().forEach(support -> support.invalidate(reloadedClass));
 	}
 
 	/**
@@ -13,6 +13,8 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.commons.runtime;
 
+import java.util.function.Predicate;
+
 /**
  * Base class for all runtime support components within a MicroProfile project.
  *
@@ -47,4 +49,18 @@ public interface MicroProfileRuntimeSupport {
 	 */
 	void reset();
 
+	/**
+	 * Invalidate method to clear the cached state which depends on classes of the
+	 * project output directories which have been reloaded.
+	 * 
+	 * <p>
+	 * By default, all the cached state is cleared with {@link #reset()}.
+	 * </p>
+	 * 
+	 * @param reloadedClass returns true if the given class has been reloaded.
+	 */
+	default void invalidate(Predicate<Class<?>> reloadedClass) {
+		reset();
+	}
+
 }
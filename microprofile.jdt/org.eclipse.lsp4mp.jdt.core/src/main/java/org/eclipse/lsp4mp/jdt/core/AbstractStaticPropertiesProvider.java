@@ -21,6 +21,10 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -29,6 +33,9 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.lsp4j.jsonrpc.json.adapters.EnumTypeAdapter;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.jdt.core.IPropertiesCollector.MergingStrategy;
 
 import com.google.gson.Gson;
@@ -41,6 +48,12 @@ import com.google.gson.GsonBuilder;
  * class is present in the classpath. As a result, no search patterns are
  * required.
  *
+ * The metadata of a given JSON file is parsed once and shared by all providers
+ * and all project scans. The shared metadata never leaves this class: each
+ * scan collects a copy of its properties and hints, which the scan (ex :
+ * merge of hints, lazy descriptions) can modify without impacting the other
+ * projects.
+ *
  * @author Angelo ZERR
  *
  */
@@ -50,6 +63,11 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 
 	private static final String PLATFORM_PLUGIN = "platform:/plugin/"; //$NON-NLS-1$
 
+	private static final Gson GSON = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory())
+			.create();
+
+	private static final Map<String /* pluginId + path */, ConfigurationMetadata> SHARED_METADATA = new ConcurrentHashMap<>();
+
 	private final String pluginId;
 
 	private final String path;
@@ -94,14 +112,108 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 	protected void collectStaticProperties(SearchContext context, IProgressMonitor monitor) {
 		if (metadata == null) {
 			try {
-				metadata = getMetadata();
+				metadata = getSharedMetadata();
 			} catch (IOException e) {
 				LOGGER.log(Level.SEVERE, "In AbstractStaticPropertiesProvider#collectStaticProperties, IOException", e);
 			}
 		}
 		if (metadata != null) {
-			context.getCollector().merge(metadata, mergingStrategy);
+			context.getCollector().merge(copy(metadata), mergingStrategy);
+		}
+	}
+
+	/**
+	 * Returns the <code>ConfigurationMetadata</code> shared by all providers which
+	 * use the json file located at <code>this.path</code>.
+	 *
+	 * @return the <code>ConfigurationMetadata</code> shared by all providers which
+	 *         use the json file located at <code>this.path</code>.
+	 * @throws IOException
+	 */
+	private ConfigurationMetadata getSharedMetadata() throws IOException {
+		String key = pluginId + path;
+		ConfigurationMetadata sharedMetadata = SHARED_METADATA.get(key);
+		if (sharedMetadata == null) {
+			sharedMetadata = getMetadata();
+			ConfigurationMetadata existingMetadata = SHARED_METADATA.putIfAbsent(key, sharedMetadata);
+			if (existingMetadata != null) {
+				sharedMetadata = existingMetadata;
+			}
 		}
+		return sharedMetadata;
+	}
+
+	/**
+	 * Returns a copy of the given shared metadata to contribute to a scan.
+	 *
+	 * @param metadata the shared metadata.
+	 * @return a copy of the given shared metadata to contribute to a scan.
+	 */
+	private static ConfigurationMetadata copy(ConfigurationMetadata metadata) {
+		ConfigurationMetadata copy = new ConfigurationMetadata();
+		List<ItemMetadata> properties = metadata.getProperties();
+		if (properties != null) {
+			List<ItemMetadata> copiedProperties = new ArrayList<>(properties.size());
+			for (ItemMetadata property : properties) {
+				copiedProperties.add(copy(property));
+			}
+			copy.setProperties(copiedProperties);
+		}
+		List<ItemHint> hints = metadata.getHints();
+		if (hints != null) {
+			List<ItemHint> copiedHints = new ArrayList<>(hints.size());
+			for (ItemHint hint : hints) {
+				copiedHints.add(copy(hint));
+			}
+			copy.setHints(copiedHints);
+		}
+		return copy;
+	}
+
+	private static ItemMetadata copy(ItemMetadata property) {
+		ItemMetadata copy = new ItemMetadata();
+		copy.setName(property.getName());
+		copy.setDescription(property.getDescription());
+		copy.setType(property.getType());
+		copy.setSourceType(property.getSourceType());
+		copy.setSourceField(property.getSourceField());
+		copy.setSourceMethod(property.getSourceMethod());
+		copy.setSource(property.getSource());
+		copy.setOrigin(property.getOrigin());
+		copy.setDefaultValue(property.getDefaultValue());
+		copy.setExtensionName(property.getExtensionName());
+		copy.setRequired(property.isRequired());
+		copy.setPhase(property.getPhase());
+		if (property.getConverterKinds() != null) {
+			copy.setConverterKinds(new ArrayList<>(property.getConverterKinds()));
+		}
+		copy.setSourceLocation(property.getSourceLocation());
+		return copy;
+	}
+
+	private static ItemHint copy(ItemHint hint) {
+		ItemHint copy = new ItemHint();
+		copy.setName(hint.getName());
+		copy.setDescription(hint.getDescription());
+		copy.setSourceType(hint.getSourceType());
+		copy.setSource(hint.getSource());
+		copy.setOrigin(hint.getOrigin());
+		if (hint.getValues() != null) {
+			List<ValueHint> copiedValues = new ArrayList<>(hint.getValues().size());
+			for (ValueHint value : hint.getValues()) {
+				ValueHint copiedValue = new ValueHint();
+				copiedValue.setValue(value.getValue());
+				copiedValue.setDescription(value.getDescription());
+				copiedValue.setSourceType(value.getSourceType());
+				copiedValues.add(copiedValue);
+			}
+			copy.setValues(copiedValues);
+		}
+		if (hint.getProviders() != null) {
+			// the value providers are never modified by the scans
+			copy.setProviders(new ArrayList<>(hint.getProviders()));
+		}
+		return copy;
 	}
 
 	/**
@@ -113,9 +225,9 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 	 * @throws IOException
 	 */
 	protected ConfigurationMetadata getMetadata() throws IOException {
-		InputStream in = getInputStream();
-		Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8.name());
-		return createGson().fromJson(reader, ConfigurationMetadata.class);
+		try (Reader reader = new InputStreamReader(getInputStream(), StandardCharsets.UTF_8.name())) {
+			return GSON.fromJson(reader, ConfigurationMetadata.class);
+		}
 	}
 
 	/**
@@ -138,10 +250,6 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 		return new FileInputStream(new File(path));
 	}
 
-	private static Gson createGson() {
-		return new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
-	}
-
 	@Override
 	public void collectProperties(SearchMatch match, SearchContext context, IProgressMonitor monitor) {
 		// Do nothing
@@ -15,8 +15,11 @@ package org.eclipse.lsp4mp.jdt.core;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -24,7 +27,12 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.internal.core.JavaProject;
+import org.eclipse.jdt.internal.core.NameLookup;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaProjectLabelsParams;
 import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
@@ -54,16 +62,14 @@ public class ProjectLabelManager {
 	 * @return project label results for all projects in the workspace
 	 */
 	public List<ProjectLabelInfoEntry> getProjectLabelInfo() {
-		List<ProjectLabelInfoEntry> results = new ArrayList<>();
 		IProject[] projects = ResourcesPlugin.getWorkspace().getRoot().getProjects();
-
-		for (IProject project : projects) {
-			ProjectLabelInfoEntry info = getProjectLabelInfo(project, null);
-			if (info != null) {
-				results.add(info);
-			}
-		}
-		return results;
+		// The projects are independent, compute their labels in parallel (the order of
+		// the projects is kept).
+		return Arrays.stream(projects) //
+				.parallel() //
+				.map(project -> getProjectLabelInfo(project, null)) //
+				.filter(Objects::nonNull) //
+				.collect(Collectors.toList());
 	}
 
 	/**
@@ -138,15 +144,59 @@ public class ProjectLabelManager {
 		}
 		// Update labels by checking if some Java types are in the classpath of the Java
 		// project.
-		if (types != null) {
-			for (String type : types) {
-				if (JDTTypeUtils.findType(javaProject, type) != null) {
-					projectLabels.add(type);
+		if (types != null && !types.isEmpty()) {
+			projectLabels.addAll(getExistingTypes(javaProject, types));
+		}
+
+		return projectLabels;
+	}
+
+	/**
+	 * Returns the types from the given list which are in the classpath of the given
+	 * Java project.
+	 *
+	 * @param javaProject the Java project.
+	 * @param types       the Java type list to check.
+	 * @return the types from the given list which are in the classpath of the given
+	 *         Java project.
+	 */
+	private static List<String> getExistingTypes(IJavaProject javaProject, List<String> types) {
+		NameLookup nameLookup = null;
+		try {
+			// IJavaProject#findType creates a name lookup (which collects the package
+			// fragments of all package fragment roots) for each type, create it once to
+			// check all types.
+			nameLookup = ((JavaProject) javaProject).newNameLookup((WorkingCopyOwner) null);
+		} catch (JavaModelException | ClassCastException e) {
+			// use IJavaProject#findType
+		}
+		List<String> existingTypes = new ArrayList<>();
+		for (String type : types) {
+			if (nameLookup != null) {
+				IType result = nameLookup.findType(type, false, NameLookup.ACCEPT_ALL);
+				if (result != null && result.exists()) {
+					existingTypes.add(type);
+					continue;
+				}
+				if (!isMemberType(type)) {
+					continue;
 				}
 			}
+			// member type (ex: 'java.util.Map.Entry') are resolved by IJavaProject#findType
+			if (JDTTypeUtils.findType(javaProject, type) != null) {
+				existingTypes.add(type);
+			}
 		}
+		return existingTypes;
+	}
 
-		return projectLabels;
+	private static boolean isMemberType(String type) {
+		int index = type.lastIndexOf('.');
+		if (index == -1) {
+			return false;
+		}
+		int parentIndex = type.lastIndexOf('.', index - 1);
+		return Character.isUpperCase(type.charAt(parentIndex + 1));
 	}
 
 }
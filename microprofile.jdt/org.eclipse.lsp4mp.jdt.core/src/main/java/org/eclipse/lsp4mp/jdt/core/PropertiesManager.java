@@ -14,10 +14,14 @@
 package org.eclipse.lsp4mp.jdt.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -31,6 +35,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
@@ -60,13 +65,16 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProject;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils;
 import org.eclipse.lsp4mp.jdt.internal.core.FakeJavaProject;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesCollector;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.PropertiesSourceIndex;
 import org.eclipse.lsp4mp.jdt.internal.core.StaticPropertyProviderRegistry;
 
 /**
@@ -90,8 +98,24 @@ public class PropertiesManager {
 		return INSTANCE;
 	}
 
+	private final Map<String /* project name */, PropertiesSourceIndex> sourceIndexes;
+
+	private final Map<String /* project name */, Map<String /* property name */, String>> descriptions;
+
 	private PropertiesManager() {
+		sourceIndexes = new ConcurrentHashMap<>();
+		descriptions = new ConcurrentHashMap<>();
+	}
 
+	/**
+	 * Evict the Java sources index and the lazy descriptions of the given project
+	 * (ex : project closed, deleted or renamed).
+	 *
+	 * @param project the Eclipse project.
+	 */
+	public void evict(IProject project) {
+		sourceIndexes.remove(project.getName());
+		descriptions.remove(project.getName());
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(MicroProfileProjectInfoParams params, IJDTUtils utils,
@@ -106,26 +130,141 @@ public class PropertiesManager {
 			// The uri doesn't belong to a Java project
 			return createInfo(file.getProject(), ClasspathKind.NONE);
 		}
-		return getMicroProfileProjectInfo(file, params.getScopes(), utils, params.getDocumentFormat(), progress);
+		MicroProfileProjectInfo info = getMicroProfileProjectInfo(file, params.getScopes(), params.getSourceURIs(),
+				utils, params.getDocumentFormat(), progress);
+		if (params.isLazyDescriptions()) {
+			removeDescriptions(file.getProject().getName(), info,
+					MicroProfilePropertiesScope.isOnlySources(params.getScopes()));
+		}
+		return info;
+	}
+
+	/**
+	 * Remove the descriptions of the properties declared in Java from the given
+	 * project information and keep them to return them with
+	 * {@link #collectPropertyDocumentation(MicroProfilePropertyDocumentationParams, IJDTUtils, IProgressMonitor)}.
+	 *
+	 * <p>
+	 * The properties of the static metadata are shared by all the scans, so the
+	 * properties are replaced with copies without description instead of being
+	 * updated.
+	 * </p>
+	 *
+	 * <p>
+	 * The descriptions of the dynamic properties (ex :
+	 * mp.messaging.incoming.${smallrye-kafka}.topic) are kept, since the language
+	 * server copies them to the properties generated from the dynamic property
+	 * (ex : mp.messaging.incoming.prices.topic) which cannot be resolved with
+	 * their name.
+	 * </p>
+	 *
+	 * @param projectName the project name.
+	 * @param info        the project information.
+	 * @param onlySources true if the project information contains only the
+	 *                    properties of the Java sources and false otherwise.
+	 */
+	private void removeDescriptions(String projectName, MicroProfileProjectInfo info, boolean onlySources) {
+		List<ItemMetadata> properties = info.getProperties();
+		if (properties == null) {
+			return;
+		}
+		Map<String, String> projectDescriptions = onlySources
+				? descriptions.computeIfAbsent(projectName, k -> new ConcurrentHashMap<>())
+				: new ConcurrentHashMap<>();
+		for (ListIterator<ItemMetadata> it = properties.listIterator(); it.hasNext();) {
+			ItemMetadata property = it.next();
+			String description = property.getDescription();
+			if (property.isJavaOrigin() && description != null && !description.isEmpty()
+					&& !isDynamicProperty(property)) {
+				projectDescriptions.put(property.getName(), description);
+				it.set(copyWithoutDescription(property));
+			}
+		}
+		if (!onlySources) {
+			descriptions.put(projectName, projectDescriptions);
+		}
+	}
+
+	private static boolean isDynamicProperty(ItemMetadata property) {
+		return property.getName() != null && property.getName().contains("${");
+	}
+
+	private static ItemMetadata copyWithoutDescription(ItemMetadata property) {
+		ItemMetadata copy = new ItemMetadata();
+		copy.setName(property.getName());
+		copy.setType(property.getType());
+		copy.setSourceType(property.getSourceType());
+		copy.setSourceField(property.getSourceField());
+		copy.setSourceMethod(property.getSourceMethod());
+		copy.setSource(property.getSource());
+		copy.setOrigin(property.getOrigin());
+		copy.setDefaultValue(property.getDefaultValue());
+		copy.setExtensionName(property.getExtensionName());
+		copy.setRequired(property.isRequired());
+		copy.setPhase(property.getPhase());
+		copy.setConverterKinds(property.getConverterKinds());
+		copy.setSourceLocation(property.getSourceLocation());
+		return copy;
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(IFile file, List<MicroProfilePropertiesScope> scopes,
 			IJDTUtils utils, DocumentFormat documentFormat, IProgressMonitor progress)
 			throws JavaModelException, CoreException {
+		return getMicroProfileProjectInfo(file, scopes, null, utils, documentFormat, progress);
+	}
+
+	public MicroProfileProjectInfo getMicroProfileProjectInfo(IFile file, List<MicroProfilePropertiesScope> scopes,
+			Set<String> sourceURIs, IJDTUtils utils, DocumentFormat documentFormat, IProgressMonitor progress)
+			throws JavaModelException, CoreException {
 		String projectName = file.getProject().getName();
 		IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectName);
 		ClasspathKind classpathKind = JDTMicroProfileUtils.getClasspathKind(file, javaProject);
-		return getMicroProfileProjectInfo(javaProject, scopes, classpathKind, utils, documentFormat, progress);
+		return getMicroProfileProjectInfo(javaProject, scopes, sourceURIs, classpathKind, utils, documentFormat,
+				progress);
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject,
 			List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind, IJDTUtils utils,
 			DocumentFormat documentFormat, IProgressMonitor monitor) throws JavaModelException, CoreException {
+		return getMicroProfileProjectInfo(javaProject, scopes, null, classpathKind, utils, documentFormat, monitor);
+	}
+
+	/**
+	 * Returns the MicroProfile project information for the given java project.
+	 *
+	 * @param javaProject    the java project.
+	 * @param scopes         the search scopes.
+	 * @param sourceURIs     the URIs of the changed Java compilation units to scan
+	 *                       when the scope is only sources and null if all Java
+	 *                       sources must be scanned.
+	 * @param classpathKind  the classpath kind.
+	 * @param utils          the JDT LS utilities.
+	 * @param documentFormat the document format.
+	 * @param monitor        the progress monitor.
+	 * @return the MicroProfile project information for the given java project.
+	 * @throws JavaModelException
+	 * @throws CoreException
+	 */
+	public MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject,
+			List<MicroProfilePropertiesScope> scopes, Set<String> sourceURIs, ClasspathKind classpathKind,
+			IJDTUtils utils, DocumentFormat documentFormat, IProgressMonitor monitor)
+			throws JavaModelException, CoreException {
 		MicroProfileProjectInfo info = createInfo(javaProject.getProject(), classpathKind);
 		if (classpathKind == ClasspathKind.NONE) {
 			info.setProperties(Collections.emptyList());
 			return info;
 		}
+		PropertiesSourceIndex sourceIndex = scopes.contains(MicroProfilePropertiesScope.sources)
+				? sourceIndexes.computeIfAbsent(javaProject.getProject().getName(), k -> new PropertiesSourceIndex())
+				: null;
+		ICompilationUnit[] units = null;
+		if (sourceURIs != null && MicroProfilePropertiesScope.isOnlySources(scopes)) {
+			// Only some Java files have changed, scan only the compilation units impacted
+			// by those changes.
+			Set<String> sourceTypes = new HashSet<>();
+			units = getImpactedUnits(javaProject, sourceURIs, sourceIndex, sourceTypes, utils);
+			info.setSourceTypes(sourceTypes);
+		}
 		long startTime = System.currentTimeMillis();
 		if (LOGGER.isLoggable(Level.INFO)) {
 			LOGGER.info("Start computing MicroProfile properties for '" + info.getProjectURI() + "' project.");
@@ -147,11 +286,23 @@ public class PropertiesManager {
 			}
 
 			// Step2 (50%) : scan Java classes from the search classpath
-			scanJavaClasses(javaProjectForSearch, excludeTestCode, documentFormat, scopes, info, utils,
-					mainMonitor.split(50));
+			scanJavaClasses(javaProjectForSearch, excludeTestCode, documentFormat, scopes, units, sourceIndex, info,
+					utils, mainMonitor.split(50));
 			if (mainMonitor.isCanceled()) {
 				throw new OperationCanceledException();
 			}
+			if (units != null && !isCollectedFromSourceTypes(info)) {
+				// The changed Java sources collect properties of other types (ex : a new class
+				// which uses a configuration group declared in another Java file), the other
+				// Java sources which collect properties of those types must be scanned too.
+				info.setSourceTypes(null);
+				mainMonitor.setWorkRemaining(50);
+				scanJavaClasses(javaProjectForSearch, excludeTestCode, documentFormat, scopes, null, sourceIndex,
+						info, utils, mainMonitor.split(50));
+				if (mainMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
 		} finally {
 			if (LOGGER.isLoggable(Level.INFO)) {
 				LOGGER.info("End computing MicroProfile properties for '" + info.getProjectURI() + "' project in "
@@ -167,6 +318,64 @@ public class PropertiesManager {
 		return info;
 	}
 
+	/**
+	 * Returns true if all the source properties of the given project information
+	 * belong to the source types to replace and false otherwise.
+	 *
+	 * @param info the project information of a scan of some Java sources.
+	 * @return true if all the source properties of the given project information
+	 *         belong to the source types to replace and false otherwise.
+	 */
+	private static boolean isCollectedFromSourceTypes(MicroProfileProjectInfo info) {
+		Set<String> sourceTypes = info.getSourceTypes();
+		return info.getProperties().stream() //
+				.allMatch(property -> property.isBinary() || sourceTypes.contains(property.getSourceType()));
+	}
+
+	/**
+	 * Returns the compilation units which must be scanned when the Java files
+	 * identified by the given URIs have changed.
+	 *
+	 * @param javaProject the java project.
+	 * @param sourceURIs  the URIs of the changed Java files.
+	 * @param sourceIndex the source index of the project.
+	 * @param sourceTypes the source types whose properties and hints must be
+	 *                    replaced (filled by this method).
+	 * @param utils       the JDT LS utilities.
+	 * @return the compilation units which must be scanned.
+	 * @throws JavaModelException
+	 */
+	private static ICompilationUnit[] getImpactedUnits(IJavaProject javaProject, Set<String> sourceURIs,
+			PropertiesSourceIndex sourceIndex, Set<String> sourceTypes, IJDTUtils utils) throws JavaModelException {
+		List<String> changedUnits = new ArrayList<>();
+		Set<String> declaredTypes = new HashSet<>();
+		for (String sourceURI : sourceURIs) {
+			IFile file = utils.findFile(sourceURI);
+			if (file == null || !javaProject.getProject().equals(file.getProject())) {
+				// The Java file doesn't belong to the project
+				continue;
+			}
+			ICompilationUnit unit = JavaCore.createCompilationUnitFrom(file);
+			if (unit == null) {
+				continue;
+			}
+			changedUnits.add(unit.getHandleIdentifier());
+			if (unit.exists()) {
+				for (IType type : unit.getAllTypes()) {
+					declaredTypes.add(JDTTypeUtils.getSourceType(type));
+				}
+			}
+		}
+		List<ICompilationUnit> units = new ArrayList<>();
+		for (String handle : sourceIndex.getImpactedUnits(changedUnits, declaredTypes, sourceTypes)) {
+			IJavaElement unit = JavaCore.create(handle);
+			if (unit instanceof ICompilationUnit && unit.exists()) {
+				units.add((ICompilationUnit) unit);
+			}
+		}
+		return units.toArray(new ICompilationUnit[units.size()]);
+	}
+
 	/**
 	 * Configure the classpath used for the search of MicroProfile properties. At
 	 * this step we can add new JARs to use for the search (ex : for Quarkus we add
@@ -205,6 +414,10 @@ public class PropertiesManager {
 	 * @param documentFormat       the document format to use to format Javadoc (in
 	 *                             Markdown for instance)
 	 * @param scopes               the scopes
+	 * @param units                the compilation units to scan and null if the
+	 *                             search must be done in the whole scopes.
+	 * @param sourceIndex          the source index to update and null if Java
+	 *                             sources are not scanned.
 	 * @param info                 the project information to update.
 	 * @param utils                the JDT LS utilities
 	 * @param mainMonitor          the main progress monitor.
@@ -212,8 +425,9 @@ public class PropertiesManager {
 	 * @throws CoreException
 	 */
 	private void scanJavaClasses(IJavaProject javaProjectForSearch, boolean excludeTestCode,
-			DocumentFormat documentFormat, List<MicroProfilePropertiesScope> scopes, MicroProfileProjectInfo info,
-			IJDTUtils utils, SubMonitor mainMonitor) throws JavaModelException, CoreException {
+			DocumentFormat documentFormat, List<MicroProfilePropertiesScope> scopes, ICompilationUnit[] units,
+			PropertiesSourceIndex sourceIndex, MicroProfileProjectInfo info, IJDTUtils utils, SubMonitor mainMonitor)
+			throws JavaModelException, CoreException {
 		// Create JDT Java search pattern, engine and scope
 		mainMonitor.subTask("Scanning Java classes");
 		SubMonitor subMonitor = mainMonitor.setWorkRemaining(100);
@@ -222,7 +436,21 @@ public class PropertiesManager {
 
 			SearchPattern pattern = createSearchPattern();
 			SearchEngine engine = new SearchEngine();
-			IJavaSearchScope scope = createSearchScope(javaProjectForSearch, scopes, excludeTestCode, subMonitor);
+			IJavaSearchScope scope = units != null
+					? BasicSearchEngine.createJavaSearchScope(excludeTestCode, units, IJavaSearchScope.SOURCES)
+					: createSearchScope(javaProjectForSearch, scopes, excludeTestCode, subMonitor);
+			if (sourceIndex != null) {
+				if (units != null) {
+					List<String> handles = Arrays.stream(units) //
+							.map(ICompilationUnit::getHandleIdentifier) //
+							.collect(Collectors.toList());
+					// The properties collected at the end of the search are collected again
+					handles.add(PropertiesSourceIndex.END_SEARCH);
+					sourceIndex.remove(handles);
+				} else {
+					sourceIndex.clear();
+				}
+			}
 
 			// Execute the search
 			PropertiesCollector collector = new PropertiesCollector(info, scopes);
@@ -233,6 +461,11 @@ public class PropertiesManager {
 
 						@Override
 						public void acceptSearchMatch(SearchMatch match) throws CoreException {
+							if (subMonitor.isCanceled()) {
+								// the scan is superseded (ex : the classpath changed again), stop it
+								// before running the properties providers.
+								throw new OperationCanceledException();
+							}
 							// We collect only references from java code and not from JavaDoc
 
 							// --> In this case ConfigProperties will be collected :
@@ -245,15 +478,85 @@ public class PropertiesManager {
 
 							if (!match.isInsideDocComment()) {
 								collectProperties(match, context, subMonitor);
+								ICompilationUnit unit = getCompilationUnit(match);
+								if (unit != null) {
+									// Record the location of the Java members which declare the properties to
+									// answer the properties definition without searching them again
+									setSourceLocations(collector.getCollectedProperties(), unit, utils);
+								}
+								Set<String> sourceTypes = collector.getCollectedSourceTypes();
+								if (sourceIndex != null && unit != null) {
+									// Track the source types collected from the compilation unit of the match
+									for (String sourceType : sourceTypes) {
+										sourceIndex.add(unit.getHandleIdentifier(), sourceType);
+									}
+								}
 							}
 						}
 					}, subMonitor);
 			endSearch(context, subMonitor);
+			// The properties collected at the end of the search (ex : static properties)
+			// don't belong to a compilation unit.
+			Set<String> sourceTypes = collector.getCollectedSourceTypes();
+			if (sourceIndex != null) {
+				for (String sourceType : sourceTypes) {
+					sourceIndex.add(PropertiesSourceIndex.END_SEARCH, sourceType);
+				}
+			}
+			if (units != null && info.getSourceTypes() != null) {
+				// Those properties are collected again by each scan, replace them
+				info.getSourceTypes().addAll(sourceTypes);
+			}
 		} finally {
 			subMonitor.done();
 		}
 	}
 
+	/**
+	 * Set the location of the Java field or method declared in the given
+	 * compilation unit for each given property.
+	 *
+	 * @param properties the properties collected from the compilation unit.
+	 * @param unit       the compilation unit.
+	 * @param utils      the JDT LS utilities.
+	 */
+	private static void setSourceLocations(List<ItemMetadata> properties, ICompilationUnit unit, IJDTUtils utils) {
+		for (ItemMetadata property : properties) {
+			if (property.getSourceLocation() != null || property.getSourceType() == null
+					|| !property.isJavaOrigin()) {
+				continue;
+			}
+			try {
+				IType type = findType(unit, property.getSourceType());
+				IMember member = type != null
+						? getMember(type, property.getSourceField(), property.getSourceMethod())
+						: null;
+				if (member != null && member.exists()) {
+					property.setSourceLocation(utils.toLocation(member));
+				}
+			} catch (JavaModelException e) {
+				LOGGER.log(Level.WARNING, "Error while computing the location of '" + property.getName() + "'", e);
+			}
+		}
+	}
+
+	private static IType findType(ICompilationUnit unit, String sourceType) throws JavaModelException {
+		for (IType type : unit.getAllTypes()) {
+			if (sourceType.equals(type.getFullyQualifiedName('$'))) {
+				return type;
+			}
+		}
+		return null;
+	}
+
+	private static ICompilationUnit getCompilationUnit(SearchMatch match) {
+		Object element = match.getElement();
+		if (element instanceof IJavaElement javaElement) {
+			return (ICompilationUnit) javaElement.getAncestor(IJavaElement.COMPILATION_UNIT);
+		}
+		return null;
+	}
+
 	private void beginSearch(SearchContext context, IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
 			provider.beginSearch(context, monitor);
@@ -548,31 +851,46 @@ public class PropertiesManager {
 			if (type == null) {
 				return null;
 			}
-
-			if (sourceField != null) {
-				return type.getField(sourceField);
-			}
-			if (sourceMethod != null) {
-				int startBracketIndex = sourceMethod.indexOf('(');
-				String methodName = sourceMethod.substring(0, startBracketIndex);
-				// Method signature has been generated with JDT API, so we are sure that we have
-				// a ')' character.
-				int endBracketIndex = sourceMethod.indexOf(')');
-				String methodSignature = sourceMethod.substring(startBracketIndex, endBracketIndex + 1);
-				String[] paramTypes = methodSignature.isEmpty() ? CharOperation.NO_STRINGS
-						: Signature.getParameterTypes(methodSignature);
-
-				// try findMethod for non constructor. If result is null, findMethod for
-				// constructor
-				IMethod method = JavaModelUtil.findMethod(methodName, paramTypes, false, type);
-				return method != null ? method : JavaModelUtil.findMethod(methodName, paramTypes, true, type);
-			}
-			return type;
+			return getMember(type, sourceField, sourceMethod);
 		} finally {
 			mainMonitor.done();
 		}
 	}
 
+	/**
+	 * Returns the field or method of the given type which declares a property and
+	 * the type itself if the property is declared by the type.
+	 *
+	 * @param type         the source type.
+	 * @param sourceField  the source field and null otherwise.
+	 * @param sourceMethod the source method and null otherwise.
+	 * @return the field or method of the given type which declares a property and
+	 *         the type itself if the property is declared by the type.
+	 * @throws JavaModelException
+	 */
+	private static IMember getMember(IType type, String sourceField, String sourceMethod)
+			throws JavaModelException {
+		if (sourceField != null) {
+			return type.getField(sourceField);
+		}
+		if (sourceMethod != null) {
+			int startBracketIndex = sourceMethod.indexOf('(');
+			String methodName = sourceMethod.substring(0, startBracketIndex);
+			// Method signature has been generated with JDT API, so we are sure that we have
+			// a ')' character.
+			int endBracketIndex = sourceMethod.indexOf(')');
+			String methodSignature = sourceMethod.substring(startBracketIndex, endBracketIndex + 1);
+			String[] paramTypes = methodSignature.isEmpty() ? CharOperation.NO_STRINGS
+					: Signature.getParameterTypes(methodSignature);
+
+			// try findMethod for non constructor. If result is null, findMethod for
+			// constructor
+			IMethod method = JavaModelUtil.findMethod(methodName, paramTypes, false, type);
+			return method != null ? method : JavaModelUtil.findMethod(methodName, paramTypes, true, type);
+		}
+		return type;
+	}
+
 	// ---------------------------------- Properties documentation
 
 	/**
@@ -595,6 +913,15 @@ public class PropertiesManager {
 			throw new UnsupportedOperationException(String.format("Cannot find IFile for '%s'", params.getUri()));
 		}
 		String projectName = file.getProject().getName();
+		if (params.getPropertyName() != null) {
+			// Description removed from the project information (see lazyDescriptions)
+			Map<String, String> projectDescriptions = descriptions.get(projectName);
+			String description = projectDescriptions != null ? projectDescriptions.get(params.getPropertyName())
+					: null;
+			if (description != null || params.getSourceType() == null) {
+				return description;
+			}
+		}
 		IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectName);
 
 		IMember member = findProperty(javaProject, params.getSourceType(), params.getSourceField(),
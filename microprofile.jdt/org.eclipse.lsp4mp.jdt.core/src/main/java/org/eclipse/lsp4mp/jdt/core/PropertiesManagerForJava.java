@@ -45,7 +45,6 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4j.CompletionItem;
@@ -68,6 +67,8 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesResult;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaFileInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaHoverParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaInlayHintParams;
@@ -80,11 +81,14 @@ import org.eclipse.lsp4mp.jdt.core.java.inlayhint.JavaInlayHintsContext;
 import org.eclipse.lsp4mp.jdt.core.utils.ASTNodeUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaASTCache;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaASTFeaturesPass;
 import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.java.codeaction.CodeActionHandler;
 import org.eclipse.lsp4mp.jdt.internal.core.java.codelens.JavaCodeLensDefinition;
 import org.eclipse.lsp4mp.jdt.internal.core.java.completion.JavaCompletionDefinition;
 import org.eclipse.lsp4mp.jdt.internal.core.java.definition.JavaDefinitionDefinition;
+import org.eclipse.lsp4mp.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
 import org.eclipse.lsp4mp.jdt.internal.core.java.diagnostics.JavaDiagnosticsDefinition;
 import org.eclipse.lsp4mp.jdt.internal.core.java.hover.JavaHoverDefinition;
 import org.eclipse.lsp4mp.jdt.internal.core.java.inlayhint.JavaInlayHintDefinition;
@@ -177,7 +181,7 @@ public class PropertiesManagerForJava {
 			return Collections.emptyList();
 		}
 		List<CodeLens> lenses = new ArrayList<>();
-		collectCodeLens(uri, typeRoot, utils, params, lenses, monitor);
+		collectCodeLens(uri, typeRoot, utils, params, lenses, null, monitor);
 		if (monitor.isCanceled()) {
 			return Collections.emptyList();
 		}
@@ -185,9 +189,12 @@ public class PropertiesManagerForJava {
 	}
 
 	private void collectCodeLens(String uri, ITypeRoot typeRoot, IJDTUtils utils, MicroProfileJavaCodeLensParams params,
-			List<CodeLens> lenses, IProgressMonitor monitor) {
+			List<CodeLens> lenses, JavaASTFeaturesPass pass, IProgressMonitor monitor) {
 		// Collect all adapted codeLens participant
 		JavaCodeLensContext context = new JavaCodeLensContext(uri, typeRoot, utils, params);
+		if (pass != null) {
+			pass.attach(context);
+		}
 		List<JavaCodeLensDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaCodeLensDefinitions()
 				.stream().filter(definition -> definition.isAdaptedForCodeLens(context, monitor))
 				.collect(Collectors.toList());
@@ -223,7 +230,7 @@ public class PropertiesManagerForJava {
 			return Collections.emptyList();
 		}
 		List<InlayHint> lenses = new ArrayList<>();
-		collectInlayHints(uri, typeRoot, utils, params, lenses, monitor);
+		collectInlayHints(uri, typeRoot, utils, params, lenses, null, monitor);
 		if (monitor.isCanceled()) {
 			return Collections.emptyList();
 		}
@@ -231,9 +238,13 @@ public class PropertiesManagerForJava {
 	}
 
 	private void collectInlayHints(String uri, ITypeRoot typeRoot, IJDTUtils utils,
-			MicroProfileJavaInlayHintParams params, List<InlayHint> inlayHints, IProgressMonitor monitor) {
+			MicroProfileJavaInlayHintParams params, List<InlayHint> inlayHints, JavaASTFeaturesPass pass,
+			IProgressMonitor monitor) {
 		// Collect all adapted inlayHint participant
 		JavaInlayHintsContext context = new JavaInlayHintsContext(uri, typeRoot, utils, params, inlayHints);
+		if (pass != null) {
+			pass.attach(context);
+		}
 		List<JavaInlayHintDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaInlayHintDefinitions()
 				.stream().filter(definition -> definition.isAdaptedForInlayHint(context, monitor))
 				.collect(Collectors.toList());
@@ -246,7 +257,14 @@ public class PropertiesManagerForJava {
 		definitions.forEach(definition -> {
 			definition.collectInlayHints(context, monitor);
 		});
-		definitions.forEach(definition -> definition.endInlayHint(context, monitor));
+		Runnable end = () -> definitions.forEach(definition -> definition.endInlayHint(context, monitor));
+		if (pass != null) {
+			// The AST participants collect their inlay hints when the AST shared with the
+			// other requested features is visited: end the participants after this visit.
+			pass.afterVisit(end);
+		} else {
+			end.run();
+		}
 	}
 
 	/**
@@ -370,7 +388,8 @@ public class PropertiesManagerForJava {
 			List<Diagnostic> diagnostics = new ArrayList<>();
 			PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
 			publishDiagnostics.add(publishDiagnostic);
-			collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics, monitor);
+			collectDiagnostics(uri, resolveTypeRoot(uri, utils, monitor), utils, documentFormat, params.getSettings(),
+					diagnostics, null, monitor);
 		}
 		if (monitor.isCanceled()) {
 			return Collections.emptyList();
@@ -378,9 +397,9 @@ public class PropertiesManagerForJava {
 		return publishDiagnostics;
 	}
 
-	private void collectDiagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
-			MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics, IProgressMonitor monitor) {
-		ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
+	private void collectDiagnostics(String uri, ITypeRoot typeRoot, IJDTUtils utils, DocumentFormat documentFormat,
+			MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics, JavaASTFeaturesPass pass,
+			IProgressMonitor monitor) {
 		if (typeRoot == null) {
 			return;
 		}
@@ -388,6 +407,9 @@ public class PropertiesManagerForJava {
 		// Collect all adapted diagnostics participant
 		JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, documentFormat, settings,
 				diagnostics);
+		if (pass != null) {
+			pass.attach(context);
+		}
 		List<JavaDiagnosticsDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaDiagnosticsDefinitions()
 				.stream().filter(definition -> definition.isAdaptedForDiagnostics(context, monitor))
 				.collect(Collectors.toList());
@@ -395,12 +417,60 @@ public class PropertiesManagerForJava {
 			return;
 		}
 
-		// Begin, collect, end participants
-		definitions.forEach(definition -> definition.beginDiagnostics(context, monitor));
-		definitions.forEach(definition -> {
-			definition.collectDiagnostics(context, monitor);
-		});
-		definitions.forEach(definition -> definition.endDiagnostics(context, monitor));
+		// Begin, collect, end participants (participants which depend only on
+		// unchanged declarations reuse their previous diagnostics)
+		JavaDiagnosticsCache.getInstance().collectDiagnostics(context, definitions, settings, monitor);
+	}
+
+	/**
+	 * Returns the diagnostics, the code lenses and the inlay hints requested
+	 * together for the given Java file.
+	 *
+	 * <p>
+	 * The requested features share the same AST which is visited once by all AST
+	 * participants (validators, inlay hints) instead of once per feature.
+	 * </p>
+	 *
+	 * @param params  the features parameters.
+	 * @param utils   the utilities class
+	 * @param monitor the monitor
+	 * @return the requested Java features for the given Java file.
+	 * @throws JavaModelException
+	 */
+	public MicroProfileJavaFeaturesResult features(MicroProfileJavaFeaturesParams params, IJDTUtils utils,
+			IProgressMonitor monitor) throws JavaModelException {
+		MicroProfileJavaFeaturesResult features = new MicroProfileJavaFeaturesResult();
+		String uri = params.getUri();
+		ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
+		if (typeRoot == null) {
+			return features;
+		}
+		MicroProfileJavaDiagnosticsParams diagnosticsParams = params.getDiagnostics();
+		MicroProfileJavaCodeLensParams codeLensParams = params.getCodeLens();
+		MicroProfileJavaInlayHintParams inlayHintParams = params.getInlayHint();
+		JavaASTFeaturesPass pass = new JavaASTFeaturesPass();
+		if (diagnosticsParams != null) {
+			List<Diagnostic> diagnostics = new ArrayList<>();
+			collectDiagnostics(uri, typeRoot, utils, diagnosticsParams.getDocumentFormat(),
+					diagnosticsParams.getSettings(), diagnostics, pass, monitor);
+			features.setDiagnostics(diagnostics);
+		}
+		if (codeLensParams != null) {
+			List<CodeLens> lenses = new ArrayList<>();
+			collectCodeLens(uri, typeRoot, utils, codeLensParams, lenses, pass, monitor);
+			features.setCodeLens(lenses);
+		}
+		if (inlayHintParams != null) {
+			List<InlayHint> inlayHints = new ArrayList<>();
+			collectInlayHints(uri, typeRoot, utils, inlayHintParams, inlayHints, pass, monitor);
+			features.setInlayHints(inlayHints);
+		}
+		// Visit the AST once for all features and end the participants
+		pass.visit(monitor);
+		if (monitor.isCanceled()) {
+			return new MicroProfileJavaFeaturesResult();
+		}
+		return features;
 	}
 
 	/**
@@ -458,7 +528,7 @@ public class PropertiesManagerForJava {
 		if (typeRoot == null) {
 			return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
 		}
-		CompilationUnit ast = ASTResolving.createQuickFixAST((ICompilationUnit) typeRoot, monitor);
+		CompilationUnit ast = JavaASTCache.getInstance().getAST((ICompilationUnit) typeRoot, monitor);
 
 		JavaCursorContextKind kind = getJavaCursorContextKind(params, typeRoot, ast, utils, monitor);
 		String prefix = getJavaCursorPrefix(params, typeRoot, ast, utils, monitor);
@@ -24,12 +24,12 @@ import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.IVariableBinding;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4mp.commons.runtime.EnumConstantsProvider;
 import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntime;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProject;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaASTCache;
 
 /**
  * Abstract class for Java context for a given compilation unit.
@@ -104,7 +104,7 @@ public abstract class AbtractJavaContext {
 
 	public CompilationUnit getASTRoot() {
 		if (fASTRoot == null) {
-			fASTRoot = ASTResolving.createQuickFixAST((ICompilationUnit) getTypeRoot(), null);
+			fASTRoot = JavaASTCache.getInstance().getAST((ICompilationUnit) getTypeRoot(), null);
 		}
 		return fASTRoot;
 	}
@@ -30,11 +30,11 @@ import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.codemanipulation.ContextSensitiveImportRewriteContext;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaASTCache;
 
 public class ImplementInterfaceProposal extends ASTRewriteCorrectionProposal {
 
@@ -67,7 +67,7 @@ public class ImplementInterfaceProposal extends ASTRewriteCorrectionProposal {
 		if (boundNode != null) {
 			declNode = boundNode; // is same CU
 		} else {
-			newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+			newRoot = JavaASTCache.getInstance().getAST(getCompilationUnit(), null);
 			declNode = newRoot.findDeclaringNode(fBinding.getKey());
 		}
 		ImportRewrite imports = createImportRewrite(newRoot);
@@ -27,9 +27,9 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.corext.codemanipulation.ContextSensitiveImportRewriteContext;
 import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaASTCache;
 
 public class InsertAnnotationProposal extends ASTRewriteCorrectionProposal {
 
@@ -54,7 +54,7 @@ public class InsertAnnotationProposal extends ASTRewriteCorrectionProposal {
 		if (boundNode != null) {
 			declNode = boundNode; // is same CU
 		} else {
-			newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+			newRoot = JavaASTCache.getInstance().getAST(getCompilationUnit(), null);
 			declNode = newRoot.findDeclaringNode(fBinding.getKey());
 		}
 		ImportRewrite imports = createImportRewrite(newRoot);
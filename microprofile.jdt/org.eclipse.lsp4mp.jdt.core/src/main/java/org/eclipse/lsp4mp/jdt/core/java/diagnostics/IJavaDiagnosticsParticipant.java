@@ -15,6 +15,7 @@ package org.eclipse.lsp4mp.jdt.core.java.diagnostics;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.dom.ASTNode;
 
 /**
  * Java diagnostics participants API.
@@ -44,6 +45,30 @@ public interface IJavaDiagnosticsParticipant {
 		return true;
 	}
 
+	/**
+	 * Returns the AST node types (ex : {@link ASTNode#TYPE_DECLARATION},
+	 * {@link ASTNode#FIELD_DECLARATION}) of the declarations on which the
+	 * diagnostics of the participant depend and null if the diagnostics depend on
+	 * the whole compilation unit.
+	 *
+	 * <p>
+	 * When node types are declared, the diagnostics of the participant are
+	 * collected again only if one of those declarations changed (for type and
+	 * method declarations, only the header without the body is checked) or if the
+	 * package or import declarations changed, otherwise
+	 * the diagnostics collected for the previous version of the compilation unit
+	 * are returned and the participant is not called. Declaring node types is
+	 * possible only if the participant reports diagnostics in the declared nodes.
+	 * </p>
+	 *
+	 * @return the AST node types of the declarations on which the diagnostics of
+	 *         the participant depend and null if the diagnostics depend on the whole
+	 *         compilation unit.
+	 */
+	default int[] getDependentNodeTypes() {
+		return null;
+	}
+
 	/**
 	 * Begin diagnostics collection.
 	 *
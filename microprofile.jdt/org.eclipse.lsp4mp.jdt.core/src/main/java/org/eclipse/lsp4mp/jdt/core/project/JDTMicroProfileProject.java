@@ -32,9 +32,11 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.JavaProject;
 import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntime;
+import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntimeRegistry;
 import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
 import org.eclipse.lsp4mp.jdt.internal.core.ConfigSourceProviderRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.project.ConfigSourcePropertiesProvider;
 
@@ -314,7 +316,9 @@ public class JDTMicroProfileProject {
 		if (projectRuntime == null) {
 			try {
 				Set<String> classpath = resolveClasspathJars(javaProject);
-				projectRuntime = new MicroProfileProjectRuntime(classpath);
+				// the runtime is shared with the language server when it runs in the same JVM
+				projectRuntime = MicroProfileProjectRuntimeRegistry.getInstance()
+						.acquire(JDTMicroProfileUtils.getProjectURI(javaProject), classpath);
 			} catch (Exception e) {
 				LOGGER.log(Level.SEVERE, "Error while loading project runtime", e);
 			}
@@ -322,6 +326,14 @@ public class JDTMicroProfileProject {
 		return projectRuntime;
 	}
 
+	/**
+	 * Release the project runtime.
+	 */
+	public void dispose() {
+		MicroProfileProjectRuntimeRegistry.getInstance().release(projectRuntime);
+		projectRuntime = null;
+	}
+
 	private static Set<String> resolveClasspathJars(IJavaProject javaProject) throws JavaModelException {
 		Set<String> result = new HashSet<>();
 
@@ -30,6 +30,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
 import org.eclipse.lsp4mp.jdt.internal.core.ConfigSourceProviderRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.FakeJavaProject;
 
@@ -97,10 +98,15 @@ public class JDTMicroProfileProjectManager {
 		}
 
 		private void evict(IProject project) {
+			// Remove the Java sources index and the lazy descriptions of the project.
+			PropertiesManager.getInstance().evict(project);
 			IJavaProject javaProject = JavaCore.create(project);
 			if (javaProject != null) {
 				// Remove the JDTMicroProfile project instance from the cache.
-				projects.remove(javaProject);
+				JDTMicroProfileProject mpProject = projects.remove(javaProject);
+				if (mpProject != null) {
+					mpProject.dispose();
+				}
 			}
 		}
 
@@ -111,8 +117,14 @@ public class JDTMicroProfileProjectManager {
 				return false;
 			}
 			switch (resource.getType()) {
-			case IResource.ROOT:
 			case IResource.PROJECT:
+				if (delta.getKind() == IResourceDelta.REMOVED) {
+					// called when project is renamed (no PRE_DELETE event).
+					evict((IProject) resource);
+					return false;
+				}
+				return resource.isAccessible();
+			case IResource.ROOT:
 			case IResource.FOLDER:
 				return resource.isAccessible();
 			case IResource.FILE:
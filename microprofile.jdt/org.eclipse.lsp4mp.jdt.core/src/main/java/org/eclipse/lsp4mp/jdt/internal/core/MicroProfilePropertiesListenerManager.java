@@ -13,7 +13,10 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -43,6 +46,8 @@ import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProject;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaASTCache;
+import org.eclipse.lsp4mp.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
 
 /**
  * This class tracks :
@@ -64,8 +69,63 @@ public class MicroProfilePropertiesListenerManager {
 
 	private static final MicroProfilePropertiesListenerManager INSTANCE = new MicroProfilePropertiesListenerManager();
 
-	// Debounce delay to group multiple file changes into a single notification
-	private static final long DEBOUNCE_DELAY_MS = 2000;
+	// Debounce delay used for an isolated change of a project
+	private static final long MIN_DEBOUNCE_DELAY_MS = 250;
+
+	// Debounce delay used when the changes of a project keep coming (ex : build)
+	private static final long MAX_DEBOUNCE_DELAY_MS = 4000;
+
+	/**
+	 * Pending change event of a project.
+	 *
+	 * <p>
+	 * The changes of a project are merged into a single event which is fired
+	 * after a delay. The delay is short for an isolated change and doubles for
+	 * each change which follows the previous one within
+	 * {@link #MAX_DEBOUNCE_DELAY_MS} (ex : build storm).
+	 * </p>
+	 */
+	private static class ProjectEvents {
+
+		// Event waiting to be fired after debounce delay
+		private MicroProfilePropertiesChangeEvent pendingEvent;
+		// Scheduled task for firing the pending event
+		private ScheduledFuture<?> scheduledNotification;
+		// Time of the last change
+		private long lastChangeTime;
+		// Number of the successive changes
+		private int burstCount;
+
+		/**
+		 * Returns the debounce delay to use for a change which occurs at the given
+		 * time.
+		 *
+		 * @param time the time of the change.
+		 * @return the debounce delay to use for a change which occurs at the given
+		 *         time.
+		 */
+		long nextDelay(long time) {
+			if (time - lastChangeTime < MAX_DEBOUNCE_DELAY_MS) {
+				burstCount++;
+			} else {
+				burstCount = 0;
+			}
+			lastChangeTime = time;
+			return Math.min(MIN_DEBOUNCE_DELAY_MS << Math.min(burstCount, 5), MAX_DEBOUNCE_DELAY_MS);
+		}
+
+		/**
+		 * Returns true if there is no pending event and no change since
+		 * {@link #MAX_DEBOUNCE_DELAY_MS} and false otherwise.
+		 *
+		 * @param time the current time.
+		 * @return true if there is no pending event and no change since
+		 *         {@link #MAX_DEBOUNCE_DELAY_MS} and false otherwise.
+		 */
+		boolean isIdle(long time) {
+			return pendingEvent == null && time - lastChangeTime >= MAX_DEBOUNCE_DELAY_MS;
+		}
+	}
 
 	public static MicroProfilePropertiesListenerManager getInstance() {
 		return INSTANCE;
@@ -76,12 +136,8 @@ public class MicroProfilePropertiesListenerManager {
 
 		private static final String JAVA_FILE_EXTENSION = "java";
 
-		// Lock for synchronizing access to pending event state
-		private final Object eventLock = new Object();
-		// Event waiting to be fired after debounce delay
-		private MicroProfilePropertiesChangeEvent pendingEvent = null;
-		// Scheduled task for firing the pending event
-		private ScheduledFuture<?> scheduledNotification = null;
+		// Pending events per project URI (access is synchronized on the map)
+		private final Map<String, ProjectEvents> projectEvents = new HashMap<>();
 
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
@@ -183,6 +239,9 @@ public class MicroProfilePropertiesListenerManager {
 					event.setType(MicroProfilePropertiesScope.ONLY_SOURCES);
 					event.setProjectURIs(new HashSet<String>());
 					event.getProjectURIs().add(JDTMicroProfileUtils.getProjectURI(file.getProject()));
+					// Only the properties of the saved Java file must be collected again
+					event.setSourceURIs(new HashSet<String>());
+					event.getSourceURIs().add(file.getLocationURI().toString());
 					JDTMicroProfileProject mpProject = JDTMicroProfileProjectManager.getInstance()
 							.getJDTMicroProfileProject(file);
 					if (mpProject != null && mpProject.getProjectRuntime() != null) {
@@ -201,41 +260,85 @@ public class MicroProfilePropertiesListenerManager {
 		}
 
 		private void fireAsyncEvent(MicroProfilePropertiesChangeEvent event) {
-			synchronized (eventLock) {
-				// Merge with pending event if one exists
-				if (pendingEvent == null) {
-					pendingEvent = event;
-				} else {
-					mergeEvents(pendingEvent, event);
-				}
+			long time = System.currentTimeMillis();
+			synchronized (projectEvents) {
+				for (String projectURI : event.getProjectURIs()) {
+					ProjectEvents events = projectEvents.computeIfAbsent(projectURI, k -> new ProjectEvents());
+					// Merge with pending event of the project if one exists
+					MicroProfilePropertiesChangeEvent projectEvent = createProjectEvent(event, projectURI);
+					if (events.pendingEvent == null) {
+						events.pendingEvent = projectEvent;
+					} else {
+						mergeEvents(events.pendingEvent, projectEvent);
+					}
+
+					// Cancel previous timer if it exists
+					if (events.scheduledNotification != null && !events.scheduledNotification.isDone()) {
+						events.scheduledNotification.cancel(false);
+					}
+
+					// Schedule notification after debounce delay
+					events.scheduledNotification = scheduler.schedule(() -> {
+						MicroProfilePropertiesChangeEvent eventToFire;
+						synchronized (projectEvents) {
+							eventToFire = events.pendingEvent;
+							events.pendingEvent = null;
+							events.scheduledNotification = null;
+							// Forget the project (ex : deleted project) if it doesn't change anymore. The
+							// next change cancels this task.
+							ScheduledExecutorService executor = scheduler;
+							if (executor != null && !executor.isShutdown()) {
+								events.scheduledNotification = executor.schedule(
+										() -> removeIfIdle(projectURI, events), MAX_DEBOUNCE_DELAY_MS,
+										TimeUnit.MILLISECONDS);
+							}
+						}
 
-				// Cancel previous timer if it exists
-				if (scheduledNotification != null && !scheduledNotification.isDone()) {
-					scheduledNotification.cancel(false);
+						if (eventToFire != null) {
+							notifyListeners(eventToFire);
+						}
+					}, events.nextDelay(time), TimeUnit.MILLISECONDS);
 				}
+			}
+		}
 
-				// Schedule notification after debounce delay
-				scheduledNotification = scheduler.schedule(() -> {
-					MicroProfilePropertiesChangeEvent eventToFire;
-					synchronized (eventLock) {
-						eventToFire = pendingEvent;
-						pendingEvent = null;
-						scheduledNotification = null;
-					}
+		private void removeIfIdle(String projectURI, ProjectEvents events) {
+			synchronized (projectEvents) {
+				if (events.isIdle(System.currentTimeMillis())) {
+					projectEvents.remove(projectURI, events);
+				}
+			}
+		}
 
-					if (eventToFire != null) {
-						notifyListeners(eventToFire);
-					}
-				}, DEBOUNCE_DELAY_MS, TimeUnit.MILLISECONDS);
+		/**
+		 * Returns a copy of the given event for the given project.
+		 */
+		private MicroProfilePropertiesChangeEvent createProjectEvent(MicroProfilePropertiesChangeEvent event,
+				String projectURI) {
+			MicroProfilePropertiesChangeEvent projectEvent = new MicroProfilePropertiesChangeEvent();
+			projectEvent.setType(event.getType());
+			projectEvent.setProjectURIs(new HashSet<>(Collections.singleton(projectURI)));
+			if (event.getSourceURIs() != null) {
+				projectEvent.setSourceURIs(new HashSet<>(event.getSourceURIs()));
 			}
+			return projectEvent;
 		}
 
 		/**
-		 * Merges two events by combining their project URIs and taking the widest
-		 * scope. Scope hierarchy: SOURCES_AND_DEPENDENCIES > ONLY_SOURCES >
+		 * Merges two events by combining their project URIs, source URIs and taking
+		 * the widest scope. Scope hierarchy: SOURCES_AND_DEPENDENCIES > ONLY_SOURCES >
 		 * ONLY_CONFIG_FILES
 		 */
 		private void mergeEvents(MicroProfilePropertiesChangeEvent target, MicroProfilePropertiesChangeEvent source) {
+			// Merge source URIs (null means that all Java sources must be scanned)
+			Set<String> targetSourceURIs = getSourceURIs(target);
+			Set<String> sourceSourceURIs = getSourceURIs(source);
+			Set<String> sourceURIs = null;
+			if (targetSourceURIs != null && sourceSourceURIs != null) {
+				sourceURIs = new HashSet<>(targetSourceURIs);
+				sourceURIs.addAll(sourceSourceURIs);
+			}
+
 			// Merge project URIs
 			if (source.getProjectURIs() != null) {
 				if (target.getProjectURIs() == null) {
@@ -251,12 +354,25 @@ public class MicroProfilePropertiesListenerManager {
 					&& target.getType() != MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES) {
 				target.setType(MicroProfilePropertiesScope.ONLY_SOURCES);
 			}
+			target.setSourceURIs(MicroProfilePropertiesScope.isOnlySources(target.getType()) ? sourceURIs : null);
+		}
+
+		private Set<String> getSourceURIs(MicroProfilePropertiesChangeEvent event) {
+			if (MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
+				// No Java source changed
+				return Collections.emptySet();
+			}
+			return event.getSourceURIs();
 		}
 
 		/**
 		 * Notifies all registered listeners about the properties change event.
 		 */
 		private void notifyListeners(MicroProfilePropertiesChangeEvent event) {
+			// Java diagnostics and AST bindings can depend on other files (Java sources,
+			// config files, classpath), the cached diagnostics and ASTs are obsolete.
+			JavaDiagnosticsCache.getInstance().clear();
+			JavaASTCache.getInstance().clear();
 			for (IMicroProfilePropertiesChangedListener listener : listeners) {
 				try {
 					listener.propertiesChanged(event);
@@ -14,10 +14,14 @@
 package org.eclipse.lsp4mp.jdt.internal.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
@@ -36,16 +40,55 @@ public class PropertiesCollector implements IPropertiesCollector {
 
 	private final ConfigurationMetadata configuration;
 
-	private final Map<String, ItemHint> hintsCache;
-
 	private final boolean onlySources;
 
+	private final List<ItemMetadata> collectedProperties;
+
+	private final Set<ItemHint> collectedHints;
+
+	// Properties indexed by name, built on the first merge (ex : merge of static
+	// properties) to avoid scanning all properties for each merged property.
+	private Map<String, ItemMetadata> propertiesByName;
+
 	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
 		this.configuration = configuration;
 		this.configuration.setProperties(new ArrayList<>());
 		this.configuration.setHints(new ArrayList<>());
-		this.hintsCache = new HashMap<>();
 		this.onlySources = MicroProfilePropertiesScope.isOnlySources(scopes);
+		this.collectedProperties = new ArrayList<>();
+		this.collectedHints = Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+
+	/**
+	 * Returns the properties which have been collected (added or reused) since the
+	 * last call of {@link #getCollectedSourceTypes()}.
+	 *
+	 * @return the properties which have been collected since the last call of
+	 *         {@link #getCollectedSourceTypes()}.
+	 */
+	public List<ItemMetadata> getCollectedProperties() {
+		return collectedProperties;
+	}
+
+	/**
+	 * Returns the source types of the properties and item hints which have been
+	 * collected (added or reused) since the last call of this method.
+	 *
+	 * @return the source types of the properties and item hints which have been
+	 *         collected since the last call of this method.
+	 */
+	public Set<String> getCollectedSourceTypes() {
+		Set<String> sourceTypes = new HashSet<>();
+		for (ItemMetadata property : collectedProperties) {
+			sourceTypes.add(property.getSourceType());
+		}
+		for (ItemHint itemHint : collectedHints) {
+			sourceTypes.add(itemHint.getSourceType());
+		}
+		sourceTypes.remove(null);
+		collectedProperties.clear();
+		collectedHints.clear();
+		return sourceTypes;
 	}
 
 	@Override
@@ -70,25 +113,32 @@ public class PropertiesCollector implements IPropertiesCollector {
 		property.setPhase(phase);
 		property.setRequired(defaultValue == null);
 
-		configuration.getProperties().add(property);
+		addProperty(property);
 		return property;
 	}
 
 	@Override
 	public boolean hasItemHint(String hint) {
-		return hintsCache.containsKey(hint);
+		ItemHint itemHint = getExistingItemHint(hint);
+		if (itemHint != null) {
+			collectedHints.add(itemHint);
+			return true;
+		}
+		return false;
 	}
 
 	@Override
 	public ItemHint getItemHint(String hint) {
 		ItemHint itemHint = getExistingItemHint(hint);
 		if (itemHint != null) {
+			collectedHints.add(itemHint);
 			return itemHint;
 		}
 		itemHint = new ItemHint();
 		itemHint.setName(hint);
 		itemHint.setValues(new ArrayList<>());
 		addItemHint(itemHint);
+		collectedHints.add(itemHint);
 		return itemHint;
 	}
 
@@ -138,20 +188,31 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	private Optional<ItemMetadata> getExistingProperty(ItemMetadata property) {
-		List<ItemMetadata> configProperties = configuration.getProperties();
-		return configProperties.stream().filter(cp -> cp.getName().equals(property.getName())).findFirst();
+		if (propertiesByName == null) {
+			propertiesByName = new HashMap<>();
+			for (ItemMetadata configProperty : configuration.getProperties()) {
+				propertiesByName.putIfAbsent(configProperty.getName(), configProperty);
+			}
+		}
+		return Optional.ofNullable(propertiesByName.get(property.getName()));
 	}
 
 	private void mergeWithReplace(ItemMetadata property) {
 		Optional<ItemMetadata> configProperty = getExistingProperty(property);
 		if (configProperty.isPresent()) {
 			configuration.getProperties().remove(configProperty.get());
+			// another property with the same name could exist, rebuild the index
+			propertiesByName = null;
 		}
 		addProperty(property);
 	}
 
 	private void addProperty(ItemMetadata property) {
 		configuration.getProperties().add(property);
+		collectedProperties.add(property);
+		if (propertiesByName != null) {
+			propertiesByName.putIfAbsent(property.getName(), property);
+		}
 	}
 
 	// --------------- ItemHint merge
@@ -199,11 +260,10 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	private ItemHint getExistingItemHint(String hint) {
-		return hintsCache.get(hint);
+		return configuration.getHint(hint);
 	}
 	
 	private void addItemHint(ItemHint itemHint) {
-		configuration.getHints().add(itemHint);
-		hintsCache.put(itemHint.getName(), itemHint);
+		configuration.addHint(itemHint);
 	}
 }
@@ -0,0 +1,138 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the Java source types (see
+ * {@link org.eclipse.lsp4mp.commons.metadata.ItemBase#getSourceType()}) of the
+ * properties and hints collected while scanning a given Java compilation unit.
+ *
+ * <p>
+ * A compilation unit can collect properties of types declared in other
+ * compilation units (ex : a class annotated with <code>@ConfigProperties</code>
+ * which uses a nested configuration group declared in another Java file). This
+ * index is used to know which compilation units must be scanned again when some
+ * Java files are saved.
+ * </p>
+ *
+ */
+public class PropertiesSourceIndex {
+
+	/**
+	 * Key used instead of a compilation unit for the source types collected at the
+	 * end of the search, which don't belong to a compilation unit.
+	 */
+	public static final String END_SEARCH = "";
+
+	private final Map<String /* compilation unit */, Set<String>> typesByUnit;
+
+	private final Map<String /* source type */, Set<String>> unitsByType;
+
+	public PropertiesSourceIndex() {
+		this.typesByUnit = new HashMap<>();
+		this.unitsByType = new HashMap<>();
+	}
+
+	/**
+	 * Clear the index.
+	 */
+	public synchronized void clear() {
+		typesByUnit.clear();
+		unitsByType.clear();
+	}
+
+	/**
+	 * Remove the source types collected by the given compilation units.
+	 *
+	 * @param units the compilation unit handle identifiers.
+	 */
+	public synchronized void remove(Collection<String> units) {
+		for (String unit : units) {
+			Set<String> types = typesByUnit.remove(unit);
+			if (types != null) {
+				for (String type : types) {
+					Set<String> typeUnits = unitsByType.get(type);
+					if (typeUnits != null) {
+						typeUnits.remove(unit);
+						if (typeUnits.isEmpty()) {
+							unitsByType.remove(type);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Add the given source type collected while scanning the given compilation
+	 * unit.
+	 *
+	 * @param unit       the compilation unit handle identifier.
+	 * @param sourceType the source type.
+	 */
+	public synchronized void add(String unit, String sourceType) {
+		if (sourceType == null) {
+			return;
+		}
+		typesByUnit.computeIfAbsent(unit, k -> new HashSet<>()).add(sourceType);
+		unitsByType.computeIfAbsent(sourceType, k -> new HashSet<>()).add(unit);
+	}
+
+	/**
+	 * Returns the compilation units which must be scanned again when the given
+	 * compilation units change and fill <code>impactedTypes</code> with the source
+	 * types whose properties and hints must be replaced.
+	 *
+	 * @param units         the changed compilation unit handle identifiers.
+	 * @param declaredTypes the types declared in the changed compilation units.
+	 * @param impactedTypes the source types whose properties and hints must be
+	 *                      replaced.
+	 * @return the compilation units which must be scanned again.
+	 */
+	public synchronized Set<String> getImpactedUnits(Collection<String> units, Collection<String> declaredTypes,
+			Set<String> impactedTypes) {
+		Set<String> impactedUnits = new LinkedHashSet<>();
+		Deque<String> types = new ArrayDeque<>(declaredTypes);
+		for (String unit : units) {
+			addImpactedUnit(unit, impactedUnits, types);
+		}
+		while (!types.isEmpty()) {
+			String type = types.pop();
+			if (impactedTypes.add(type)) {
+				for (String unit : unitsByType.getOrDefault(type, Collections.emptySet())) {
+					addImpactedUnit(unit, impactedUnits, types);
+				}
+			}
+		}
+		// the properties collected at the end of the search are always collected again
+		impactedUnits.remove(END_SEARCH);
+		return impactedUnits;
+	}
+
+	private void addImpactedUnit(String unit, Set<String> impactedUnits, Deque<String> types) {
+		if (impactedUnits.add(unit)) {
+			types.addAll(typesByUnit.getOrDefault(unit, Collections.emptySet()));
+		}
+	}
+}
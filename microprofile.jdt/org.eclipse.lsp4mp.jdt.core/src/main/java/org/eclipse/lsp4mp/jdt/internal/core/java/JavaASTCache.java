@@ -0,0 +1,159 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.BufferChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IBufferChangedListener;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
+
+/**
+ * Cache of the bound ASTs of the last used compilation units.
+ *
+ * <p>
+ * Java completion, hover, code actions, etc are often requested together for
+ * the same version of a compilation unit. The AST of a compilation unit is
+ * created once and shared by those requests until the buffer of the
+ * compilation unit changes. The cache is cleared when the workspace changes
+ * (Java file saved, classpath or config file changed) since the bindings can
+ * depend on other files.
+ * </p>
+ *
+ * <p>
+ * The cached ASTs are shared and must not be modified (use an
+ * {@link org.eclipse.jdt.core.dom.rewrite.ASTRewrite} instead).
+ * </p>
+ *
+ */
+public class JavaASTCache {
+
+	private static final JavaASTCache INSTANCE = new JavaASTCache();
+
+	// ASTs with bindings are big, keep only the last used compilation units
+	private static final int MAX_SIZE = 4;
+
+	public static JavaASTCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * AST created for a given buffer of a compilation unit, which becomes stale
+	 * when the buffer changes.
+	 */
+	private static class CachedAST implements IBufferChangedListener {
+
+		private final IBuffer buffer;
+
+		private CompilationUnit ast;
+
+		private volatile boolean stale;
+
+		public CachedAST(IBuffer buffer) {
+			this.buffer = buffer;
+			buffer.addBufferChangedListener(this);
+		}
+
+		@Override
+		public void bufferChanged(BufferChangedEvent event) {
+			stale = true;
+		}
+
+		public boolean isValid(IBuffer buffer) {
+			return !stale && this.buffer == buffer;
+		}
+
+		public void dispose() {
+			buffer.removeBufferChangedListener(this);
+		}
+	}
+
+	private final Map<ICompilationUnit, CachedAST> asts = new LinkedHashMap<ICompilationUnit, CachedAST>(MAX_SIZE,
+			0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ICompilationUnit, CachedAST> eldest) {
+			if (size() > MAX_SIZE) {
+				eldest.getValue().dispose();
+				return true;
+			}
+			return false;
+		}
+	};
+
+	/**
+	 * Returns the bound AST of the given compilation unit.
+	 *
+	 * @param unit    the compilation unit.
+	 * @param monitor the progress monitor.
+	 * @return the bound AST of the given compilation unit.
+	 */
+	public CompilationUnit getAST(ICompilationUnit unit, IProgressMonitor monitor) {
+		IBuffer buffer = null;
+		try {
+			buffer = unit.getBuffer();
+		} catch (JavaModelException e) {
+			// Don't cache the AST
+		}
+		if (buffer == null) {
+			return ASTResolving.createQuickFixAST(unit, monitor);
+		}
+		synchronized (asts) {
+			CachedAST cached = asts.get(unit);
+			if (cached != null) {
+				if (cached.isValid(buffer)) {
+					return cached.ast;
+				}
+				asts.remove(unit);
+				cached.dispose();
+			}
+		}
+		// Track the buffer changes before creating the AST to ignore an AST created
+		// with a buffer which changes in the same time.
+		CachedAST cached = new CachedAST(buffer);
+		CompilationUnit ast = ASTResolving.createQuickFixAST(unit, monitor);
+		if (ast == null || cached.stale || (monitor != null && monitor.isCanceled())) {
+			cached.dispose();
+			return ast;
+		}
+		cached.ast = ast;
+		synchronized (asts) {
+			CachedAST previous = asts.put(unit, cached);
+			if (previous != null) {
+				previous.dispose();
+			}
+		}
+		return ast;
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public void clear() {
+		synchronized (asts) {
+			for (CachedAST cached : asts.values()) {
+				cached.dispose();
+			}
+			asts.clear();
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.lsp4mp.jdt.core.java.AbtractJavaContext;
+import org.eclipse.lsp4mp.jdt.internal.core.java.validators.MultiASTVisitor;
+
+/**
+ * AST pass shared by several Java features (diagnostics, inlay hints, etc)
+ * requested together for the same compilation unit.
+ *
+ * <p>
+ * The contexts of the features share the same AST and the AST participants
+ * (which visit the AST with {@link ASTVisitor}) register their visitors in the
+ * pass instead of visiting the AST themselves. The AST is visited once with all
+ * visitors when all participants have been called (see
+ * {@link #visit(IProgressMonitor)}).
+ * </p>
+ *
+ * <p>
+ * Since the visitors report their results (diagnostics, inlay hints) during
+ * this visit, the end of the participants (ex :
+ * <code>endDiagnostics</code>) must be registered with
+ * {@link #afterVisit(Runnable)} to be called after the visit. A participant
+ * which registers its visitors must not declare dependent node types since its
+ * diagnostics are not known when the diagnostics cache records them.
+ * </p>
+ *
+ */
+public class JavaASTFeaturesPass {
+
+	private static final String PASS_KEY = JavaASTFeaturesPass.class.getName();
+
+	private final List<ASTVisitor> visitors;
+
+	private final List<Runnable> afterVisitActions;
+
+	private CompilationUnit ast;
+
+	public JavaASTFeaturesPass() {
+		this.visitors = new ArrayList<>();
+		this.afterVisitActions = new ArrayList<>();
+	}
+
+	/**
+	 * Attach the given context to this pass to share the AST.
+	 *
+	 * @param context the Java feature context.
+	 */
+	public void attach(AbtractJavaContext context) {
+		context.put(PASS_KEY, this);
+		if (!(context.getTypeRoot() instanceof ICompilationUnit)) {
+			return;
+		}
+		if (ast == null) {
+			ast = context.getASTRoot();
+		} else {
+			context.setASTRoot(ast);
+		}
+	}
+
+	/**
+	 * Returns the pass attached to the given context and null otherwise.
+	 *
+	 * @param context the Java feature context.
+	 * @return the pass attached to the given context and null otherwise.
+	 */
+	public static JavaASTFeaturesPass getPass(AbtractJavaContext context) {
+		return (JavaASTFeaturesPass) context.get(PASS_KEY);
+	}
+
+	/**
+	 * Register the given visitors to visit the AST.
+	 *
+	 * @param visitors the AST visitors.
+	 */
+	public void addVisitors(Collection<ASTVisitor> visitors) {
+		this.visitors.addAll(visitors);
+	}
+
+	/**
+	 * Register the given action to execute after the visit of the AST.
+	 *
+	 * @param action the action to execute after the visit of the AST (ex : end
+	 *               the participants of a feature).
+	 */
+	public void afterVisit(Runnable action) {
+		afterVisitActions.add(action);
+	}
+
+	/**
+	 * Visit the AST once with all registered visitors and execute the actions
+	 * registered with {@link #afterVisit(Runnable)}.
+	 *
+	 * @param monitor the progress monitor.
+	 */
+	public void visit(IProgressMonitor monitor) {
+		if (ast != null && !visitors.isEmpty() && !monitor.isCanceled()) {
+			ast.accept(new MultiASTVisitor(visitors));
+		}
+		afterVisitActions.forEach(Runnable::run);
+	}
+}
@@ -0,0 +1,292 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java.diagnostics;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.eclipse.lsp4mp.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4mp.jdt.core.java.diagnostics.JavaDiagnosticsContext;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaASTFeaturesPass;
+
+/**
+ * Cache of the diagnostics collected by the Java diagnostics participants
+ * which declare the AST node types they depend on (see
+ * {@link IJavaDiagnosticsParticipant#getDependentNodeTypes()}).
+ *
+ * <p>
+ * For a given Java file URI, the diagnostics of a participant are reused while
+ * the declarations with the declared node types are the same (same source and
+ * same location) as the previous validation. The cache is cleared when the
+ * workspace changes (Java file saved, classpath or config file changed) since
+ * the diagnostics can depend on other files.
+ * </p>
+ *
+ */
+public class JavaDiagnosticsCache {
+
+	private static final Logger LOGGER = Logger.getLogger(JavaDiagnosticsCache.class.getName());
+
+	private static final JavaDiagnosticsCache INSTANCE = new JavaDiagnosticsCache();
+
+	public static JavaDiagnosticsCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Diagnostics collected by a participant for a given fingerprint of the
+	 * declarations it depends on.
+	 */
+	private static class ParticipantDiagnostics {
+
+		private final String fingerprint;
+
+		private final List<Diagnostic> diagnostics;
+
+		public ParticipantDiagnostics(String fingerprint, List<Diagnostic> diagnostics) {
+			this.fingerprint = fingerprint;
+			this.diagnostics = diagnostics;
+		}
+	}
+
+	/**
+	 * Diagnostics collected for a given Java file.
+	 */
+	private static class FileDiagnostics {
+
+		private final DocumentFormat documentFormat;
+
+		private final MicroProfileJavaDiagnosticsSettings settings;
+
+		private final Map<JavaDiagnosticsDefinition, ParticipantDiagnostics> participants;
+
+		public FileDiagnostics(DocumentFormat documentFormat, MicroProfileJavaDiagnosticsSettings settings) {
+			this.documentFormat = documentFormat;
+			this.settings = settings;
+			this.participants = new IdentityHashMap<>();
+		}
+
+		public boolean isValid(DocumentFormat documentFormat, MicroProfileJavaDiagnosticsSettings settings) {
+			return Objects.equals(this.documentFormat, documentFormat) && isSameSettings(this.settings, settings);
+		}
+
+		private static boolean isSameSettings(MicroProfileJavaDiagnosticsSettings s1,
+				MicroProfileJavaDiagnosticsSettings s2) {
+			if (s1 == s2) {
+				return true;
+			}
+			if (s1 == null || s2 == null) {
+				return false;
+			}
+			return Objects.equals(s1.getPatterns(), s2.getPatterns())
+					&& Objects.equals(s1.getValidationValueSeverity(), s2.getValidationValueSeverity())
+					&& Objects.equals(s1.getMode(), s2.getMode());
+		}
+	}
+
+	private final Map<String /* Java file URI */, FileDiagnostics> cache;
+
+	private JavaDiagnosticsCache() {
+		this.cache = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Collect the diagnostics of the given participants for the Java file of the
+	 * given context. The participants which declare the AST node types they depend
+	 * on are called only if the declarations changed since the previous
+	 * validation.
+	 *
+	 * @param context     the Java diagnostics context.
+	 * @param definitions the adapted diagnostics participants.
+	 * @param settings    the diagnostics settings coming from the request.
+	 * @param monitor     the progress monitor.
+	 */
+	public void collectDiagnostics(JavaDiagnosticsContext context, List<JavaDiagnosticsDefinition> definitions,
+			MicroProfileJavaDiagnosticsSettings settings, IProgressMonitor monitor) {
+		String uri = context.getUri();
+		FileDiagnostics previousDiagnostics = cache.get(uri);
+		if (previousDiagnostics != null && !previousDiagnostics.isValid(context.getDocumentFormat(), settings)) {
+			previousDiagnostics = null;
+		}
+
+		// Compute the fingerprint of the declarations for each participant which
+		// declares the node types it depends on and reuse its previous diagnostics if
+		// the declarations didn't change.
+		FileDiagnostics fileDiagnostics = new FileDiagnostics(context.getDocumentFormat(), settings);
+		Map<JavaDiagnosticsDefinition, String> fingerprints = new IdentityHashMap<>();
+		for (JavaDiagnosticsDefinition definition : definitions) {
+			String fingerprint = getFingerprint(context, definition.getDependentNodeTypes());
+			if (fingerprint != null) {
+				ParticipantDiagnostics previous = previousDiagnostics != null
+						? previousDiagnostics.participants.get(definition)
+						: null;
+				if (previous != null && previous.fingerprint.equals(fingerprint)) {
+					fileDiagnostics.participants.put(definition, previous);
+				} else {
+					fingerprints.put(definition, fingerprint);
+				}
+			}
+		}
+
+		// Begin, collect, end participants which must be called
+		List<JavaDiagnosticsDefinition> calledDefinitions = definitions.stream()
+				.filter(definition -> !fileDiagnostics.participants.containsKey(definition))
+				.collect(Collectors.toList());
+		calledDefinitions.forEach(definition -> definition.beginDiagnostics(context, monitor));
+		List<Diagnostic> diagnostics = context.getDiagnostics();
+		for (JavaDiagnosticsDefinition definition : definitions) {
+			ParticipantDiagnostics reused = fileDiagnostics.participants.get(definition);
+			if (reused != null) {
+				diagnostics.addAll(reused.diagnostics);
+				continue;
+			}
+			int start = diagnostics.size();
+			definition.collectDiagnostics(context, monitor);
+			String fingerprint = fingerprints.get(definition);
+			if (fingerprint != null) {
+				fileDiagnostics.participants.put(definition, new ParticipantDiagnostics(fingerprint,
+						new ArrayList<>(diagnostics.subList(start, diagnostics.size()))));
+			}
+		}
+		Runnable end = () -> {
+			calledDefinitions.forEach(definition -> definition.endDiagnostics(context, monitor));
+
+			if (monitor.isCanceled() || fileDiagnostics.participants.isEmpty()) {
+				cache.remove(uri);
+			} else {
+				cache.put(uri, fileDiagnostics);
+			}
+		};
+		JavaASTFeaturesPass pass = JavaASTFeaturesPass.getPass(context);
+		if (pass != null) {
+			// The AST participants report their diagnostics when the AST shared with the
+			// other requested features is visited: end the participants after this visit.
+			pass.afterVisit(end);
+		} else {
+			end.run();
+		}
+	}
+
+	/**
+	 * Clear the cache (when the workspace changes).
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * Returns the fingerprint of the declarations with the given node types and
+	 * null if the diagnostics depend on the whole compilation unit.
+	 *
+	 * <p>
+	 * The package and import declarations are always a part of the fingerprint
+	 * since they resolve the types (ex : annotations) used by the declarations.
+	 * </p>
+	 *
+	 * @param context   the Java diagnostics context.
+	 * @param nodeTypes the AST node types.
+	 * @return the fingerprint of the declarations with the given node types and
+	 *         null if the diagnostics depend on the whole compilation unit.
+	 */
+	private static String getFingerprint(JavaDiagnosticsContext context, int[] nodeTypes) {
+		if (nodeTypes == null || !(context.getTypeRoot() instanceof ICompilationUnit)) {
+			return null;
+		}
+		try {
+			String source = context.getTypeRoot().getSource();
+			if (source == null) {
+				return null;
+			}
+			CompilationUnit ast = context.getASTRoot();
+			StringBuilder fingerprint = new StringBuilder();
+			ast.accept(new ASTVisitor() {
+
+				@Override
+				public boolean preVisit2(ASTNode node) {
+					int nodeType = node.getNodeType();
+					if (isFingerprinted(nodeType, nodeTypes)) {
+						// The diagnostics are reported with line / character, the location of the
+						// declaration is a part of the fingerprint.
+						int start = node.getStartPosition();
+						int end = Math.min(getHeaderEnd(node), source.length());
+						fingerprint.append(nodeType) //
+								.append(':').append(ast.getLineNumber(start)) //
+								.append(':').append(ast.getColumnNumber(start)) //
+								.append(':').append(source, start, end) //
+								.append('\n');
+					}
+					return true;
+				}
+			});
+			return fingerprint.toString();
+		} catch (JavaModelException e) {
+			LOGGER.log(Level.WARNING, "Error while computing the fingerprint of '" + context.getUri() + "'.", e);
+			return null;
+		}
+	}
+
+	private static boolean isFingerprinted(int nodeType, int[] nodeTypes) {
+		if (nodeType == ASTNode.PACKAGE_DECLARATION || nodeType == ASTNode.IMPORT_DECLARATION) {
+			return true;
+		}
+		for (int type : nodeTypes) {
+			if (type == nodeType) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the end offset of the declaration without the body for type and
+	 * method declarations.
+	 *
+	 * @param node the declaration node.
+	 * @return the end offset of the declaration without the body for type and
+	 *         method declarations.
+	 */
+	private static int getHeaderEnd(ASTNode node) {
+		if (node instanceof AbstractTypeDeclaration) {
+			List<?> bodyDeclarations = ((AbstractTypeDeclaration) node).bodyDeclarations();
+			if (!bodyDeclarations.isEmpty()) {
+				return ((ASTNode) bodyDeclarations.get(0)).getStartPosition();
+			}
+		} else if (node instanceof MethodDeclaration) {
+			Block body = ((MethodDeclaration) node).getBody();
+			if (body != null) {
+				return body.getStartPosition();
+			}
+		}
+		return node.getStartPosition() + node.getLength();
+	}
+}
@@ -47,6 +47,16 @@ public class JavaDiagnosticsDefinition extends AbstractJavaFeatureDefinition<IJa
 		}
 	}
 
+	@Override
+	public int[] getDependentNodeTypes() {
+		try {
+			return getParticipant().getDependentNodeTypes();
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Error while calling getDependentNodeTypes", e);
+			return null;
+		}
+	}
+
 	@Override
 	public void beginDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) {
 		try {
@@ -21,6 +21,7 @@ import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.lsp4mp.jdt.core.java.inlayhint.IJavaInlayHintParticipant;
 import org.eclipse.lsp4mp.jdt.core.java.inlayhint.JavaInlayHintsContext;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaASTFeaturesPass;
 import org.eclipse.lsp4mp.jdt.internal.core.java.validators.MultiASTVisitor;
 
 /**
@@ -40,6 +41,13 @@ public class JavaASTInlayHintsParticipant implements IJavaInlayHintParticipant {
 		// compilation unit to validate.
 		Collection<ASTVisitor> inlayHints = JavaASTInlayHintRegistry.getInstance().getInlayHints(context, monitor);
 		if (!inlayHints.isEmpty()) {
+			JavaASTFeaturesPass pass = JavaASTFeaturesPass.getPass(context);
+			if (pass != null) {
+				// Other features are requested together, the AST will be visited once for all
+				// features.
+				pass.addVisitors(inlayHints);
+				return;
+			}
 			// Visit the AST compilation unit and process each inlay hints collector.
 			CompilationUnit ast = context.getASTRoot();
 			ast.accept(new MultiASTVisitor(inlayHints));
@@ -23,6 +23,7 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4mp.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4mp.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4mp.jdt.core.java.validators.JavaASTValidator;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaASTFeaturesPass;
 
 /**
  * The java diagnostic participant which visit one time a given AST compilation
@@ -41,6 +42,13 @@ public class JavaASTDiagnosticsParticipant implements IJavaDiagnosticsParticipan
 		// compilation unit to validate.
 		Collection<ASTVisitor> validators = JavaASTValidatorRegistry.getInstance().getValidators(context, monitor);
 		if (!validators.isEmpty()) {
+			JavaASTFeaturesPass pass = JavaASTFeaturesPass.getPass(context);
+			if (pass != null) {
+				// Other features are requested together, the AST will be visited once for all
+				// features.
+				pass.addVisitors(validators);
+				return;
+			}
 			// Visit the AST compilation unit and process each validator.
 			CompilationUnit ast = context.getASTRoot();
 			ast.accept(new MultiASTVisitor(validators));
@@ -13,10 +13,13 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core.ls;
 
+import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getBoolean;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getFirst;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getString;
+import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getStringList;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -24,6 +27,8 @@ import java.util.logging.Logger;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4j.Location;
@@ -102,13 +107,27 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(applicationPropertiesUri);
 		params.setScopes(scopes);
 		params.setDocumentFormat(documentFormat);
+		List<String> sourceURIs = getStringList(obj, "sourceURIs");
+		if (sourceURIs != null) {
+			params.setSourceURIs(new HashSet<>(sourceURIs));
+		}
+		params.setLazyDescriptions(getBoolean(obj, "lazyDescriptions"));
 
 		// Execute the getMicroProfileProjectInfo in a Job to benefit with progress
 		// monitor
 		final MicroProfileProjectInfo[] projectInfo = new MicroProfileProjectInfo[1];
 		Job job = Job.create("MicroProfile properties collector", monitor -> {
+			// the scan is cancelled when the job or the request (ex : the classpath
+			// changed again and the MicroProfile LS doesn't need this result anymore) is
+			// cancelled.
+			IProgressMonitor jobMonitor = new ProgressMonitorWrapper(monitor) {
+				@Override
+				public boolean isCanceled() {
+					return super.isCanceled() || (progress != null && progress.isCanceled());
+				}
+			};
 			projectInfo[0] = PropertiesManager.getInstance().getMicroProfileProjectInfo(params,
-					JDTUtilsLSImpl.getInstance(), monitor);
+					JDTUtilsLSImpl.getInstance(), jobMonitor);
 		});
 		job.schedule();
 		try {
@@ -125,6 +144,9 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 				throw new Exception(jobException);
 			}
 		}
+		if (progress != null && progress.isCanceled()) {
+			throw new OperationCanceledException();
+		}
 
 		return projectInfo[0];
 	}
@@ -173,10 +195,11 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 					"Command '%s' must be called with required MicroProfilePropertyDocumentationParams.uri (properties file URI)!",
 					commandId));
 		}
+		String propertyName = getString(obj, "propertyName");
 		String sourceType = getString(obj, "sourceType");
-		if (sourceType == null) {
+		if (sourceType == null && propertyName == null) {
 			throw new UnsupportedOperationException(String.format(
-					"Command '%s' must be called with required MicroProfilePropertyDocumentationParams.sourceType!",
+					"Command '%s' must be called with required MicroProfilePropertyDocumentationParams.sourceType or MicroProfilePropertyDocumentationParams.propertyName!",
 					commandId));
 		}
 		DocumentFormat documentFormat = DocumentFormat.forValue(ArgumentUtils.getInt(obj, "documentFormat"));
@@ -190,6 +213,7 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 
 		MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
 		params.setUri(applicationPropertiesUri);
+		params.setPropertyName(propertyName);
 		params.setSourceType(sourceType);
 		params.setSourceField(sourceField);
 		params.setSourceMethod(sourceMethod);
@@ -22,6 +22,8 @@ import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getString;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getStringList;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getTextDocumentIdentifier;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -52,6 +54,8 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionResult;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesResult;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaFileInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaHoverParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaInlayHintParams;
@@ -78,6 +82,7 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 	private static final String JAVA_COMPLETION_COMMAND_ID = "microprofile/java/completion";
 	private static final String JAVA_DEFINITION_COMMAND_ID = "microprofile/java/definition";
 	private static final String JAVA_DIAGNOSTICS_COMMAND_ID = "microprofile/java/diagnostics";
+	private static final String JAVA_FEATURES_COMMAND_ID = "microprofile/java/features";
 	private static final String JAVA_HOVER_COMMAND_ID = "microprofile/java/hover";
 	private static final String JAVA_WORKSPACE_SYMBOLS_ID = "microprofile/java/workspaceSymbols";
 
@@ -103,6 +108,8 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 			return getDefinitionForJava(arguments, commandId, progress);
 		case JAVA_DIAGNOSTICS_COMMAND_ID:
 			return getDiagnosticsForJava(arguments, commandId, progress);
+		case JAVA_FEATURES_COMMAND_ID:
+			return getFeaturesForJava(arguments, commandId, progress);
 		case JAVA_HOVER_COMMAND_ID:
 			return getHoverForJava(arguments, commandId, progress);
 		case JAVA_WORKSPACE_SYMBOLS_ID:
@@ -460,6 +467,76 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 		return PropertiesManagerForJava.getInstance().diagnostics(params, JDTUtilsLSImpl.getInstance(), monitor);
 	}
 
+	/**
+	 * Returns the diagnostics, code lenses and inlay hints requested together for
+	 * the given Java file.
+	 *
+	 * <p>
+	 * The argument is a MicroProfileJavaFeaturesParams map with the required
+	 * 'uri' and the optional 'diagnostics', 'codeLens', 'inlayHint' parameters of
+	 * the requested features (their uri is replaced with the required 'uri').
+	 * </p>
+	 *
+	 * @param arguments
+	 * @param commandId
+	 * @param monitor
+	 * @return the diagnostics, code lenses and inlay hints requested together for
+	 *         the given Java file.
+	 * @throws JavaModelException
+	 */
+	private static MicroProfileJavaFeaturesResult getFeaturesForJava(List<Object> arguments, String commandId,
+			IProgressMonitor monitor) throws JavaModelException {
+		// Create java features parameter
+		MicroProfileJavaFeaturesParams params = createMicroProfileJavaFeaturesParams(arguments, commandId);
+		// Return the requested features from parameter
+		return PropertiesManagerForJava.getInstance().features(params, JDTUtilsLSImpl.getInstance(), monitor);
+	}
+
+	/**
+	 * Returns the java features parameters from the given arguments map.
+	 *
+	 * @param arguments
+	 * @param commandId
+	 *
+	 * @return the java features parameters
+	 */
+	private static MicroProfileJavaFeaturesParams createMicroProfileJavaFeaturesParams(List<Object> arguments,
+			String commandId) {
+		Map<String, Object> obj = getFirst(arguments);
+		if (obj == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with one MicroProfileJavaFeaturesParams argument!", commandId));
+		}
+		String javaFileUri = getString(obj, "uri");
+		if (javaFileUri == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with required MicroProfileJavaFeaturesParams.uri (java URI)!",
+					commandId));
+		}
+		MicroProfileJavaFeaturesParams params = new MicroProfileJavaFeaturesParams(javaFileUri);
+		Map<String, Object> diagnosticsObj = getObject(obj, "diagnostics");
+		if (diagnosticsObj != null) {
+			Map<String, Object> paramsObj = new HashMap<>(diagnosticsObj);
+			paramsObj.put("uris", Collections.singletonList(javaFileUri));
+			params.setDiagnostics(
+					createMicroProfileJavaDiagnosticsParams(Collections.singletonList(paramsObj), commandId));
+		}
+		Map<String, Object> codeLensObj = getObject(obj, "codeLens");
+		if (codeLensObj != null) {
+			Map<String, Object> paramsObj = new HashMap<>(codeLensObj);
+			paramsObj.put("uri", javaFileUri);
+			params.setCodeLens(createMicroProfileJavaCodeLensParams(Collections.singletonList(paramsObj), commandId));
+		}
+		Map<String, Object> inlayHintObj = getObject(obj, "inlayHint");
+		if (inlayHintObj != null) {
+			Map<String, Object> paramsObj = new HashMap<>(inlayHintObj);
+			paramsObj.put("uri", javaFileUri);
+			params.setInlayHint(
+					createMicroProfileJavaInlayHintParams(Collections.singletonList(paramsObj), commandId));
+		}
+		return params;
+	}
+
 	/**
 	 * Returns the java diagnostics parameters from the given arguments map.
 	 *
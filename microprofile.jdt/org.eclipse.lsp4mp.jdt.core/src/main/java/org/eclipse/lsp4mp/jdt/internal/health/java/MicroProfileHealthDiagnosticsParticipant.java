@@ -31,6 +31,7 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
@@ -77,6 +78,12 @@ public class MicroProfileHealthDiagnosticsParticipant implements IJavaDiagnostic
 		return JDTTypeUtils.findType(javaProject, HEALTH_CHECK_INTERFACE) != null;
 	}
 
+	@Override
+	public int[] getDependentNodeTypes() {
+		// diagnostics depend only on the annotations and the interfaces of the types
+		return new int[] { ASTNode.TYPE_DECLARATION };
+	}
+
 	@Override
 	public void collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
 		ITypeRoot typeRoot = context.getTypeRoot();
@@ -30,6 +30,7 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
@@ -63,6 +64,12 @@ public class MicroProfileMetricsDiagnosticsParticipant implements IJavaDiagnosti
 		return JDTTypeUtils.findType(javaProject, METRIC_ID) != null;
 	}
 
+	@Override
+	public int[] getDependentNodeTypes() {
+		// diagnostics depend only on the annotations of the types and the methods
+		return new int[] { ASTNode.TYPE_DECLARATION, ASTNode.METHOD_DECLARATION };
+	}
+
 	@Override
 	public void collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
 		ITypeRoot typeRoot = context.getTypeRoot();
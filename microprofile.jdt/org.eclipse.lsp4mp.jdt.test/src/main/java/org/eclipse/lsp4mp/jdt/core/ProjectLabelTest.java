@@ -13,12 +13,18 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.ls.core.internal.JDTUtilsLSImpl;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaProjectLabelsParams;
 import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest.GradleProjectName;
 import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest.MicroProfileMavenProjectName;
@@ -119,6 +125,31 @@ public class ProjectLabelTest {
 		assertName(projectLabelEntries, projects[2], "my-gradle-project-renamed-gradle");
 	}
 
+	@Test
+	public void projectLabelsWithTypes() throws Exception {
+		IJavaProject javaProject = BasePropertiesManagerTest.loadMavenProject(MicroProfileMavenProjectName.config_hover);
+		IFile javaFile = javaProject.getProject()
+				.getFile(new Path("src/main/java/org/acme/config/GreetingResource.java"));
+
+		MicroProfileJavaProjectLabelsParams params = new MicroProfileJavaProjectLabelsParams();
+		params.setUri(javaFile.getLocation().toFile().toURI().toString());
+		params.setTypes(Arrays.asList( //
+				"org.eclipse.microprofile.config.inject.ConfigProperty", // binary type
+				"org.acme.config.GreetingResource", // source type
+				"org.acme.config.MyNestedClass.MyNestedNestedClass", // source member type
+				"java.util.Map.Entry", // binary member type
+				"org.acme.config.UnknownType"));
+		List<String> labels = ProjectLabelManager.getInstance()
+				.getProjectLabelInfo(params, JDTUtilsLSImpl.getInstance(), new NullProgressMonitor()).getLabels();
+
+		assertContains(labels, "org.eclipse.microprofile.config.inject.ConfigProperty");
+		assertContains(labels, "org.acme.config.GreetingResource");
+		assertContains(labels, "org.acme.config.MyNestedClass.MyNestedNestedClass");
+		assertContains(labels, "java.util.Map.Entry");
+		Assert.assertFalse("Unexpected label 'org.acme.config.UnknownType'",
+				labels.contains("org.acme.config.UnknownType"));
+	}
+
 	private static void assertProjectLabelInfoContainsProject(List<ProjectLabelInfoEntry> projectLabelEntries,
 			IJavaProject... javaProjects) throws CoreException {
 		List<String> actualProjectPaths = projectLabelEntries.stream().map(e -> e.getUri())
@@ -15,12 +15,19 @@ package org.eclipse.lsp4mp.jdt.core;
 
 import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.fixURI;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.junit.Test;
 
 /**
@@ -74,6 +81,74 @@ public class PropertiesManagerDocumentationTest extends BasePropertiesManagerTes
 		assertEquals(null, documentation);
 	}
 
+	@Test
+	public void testLazyDescriptions() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+		IFile propertiesFile = javaProject.getProject()
+				.getFile(new Path("src/main/resources/META-INF/microprofile-config.properties"));
+		String propertiesFileUri = fixURI(propertiesFile.getLocation().toFile().toURI());
+
+		// Load the project information with lazy descriptions
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(propertiesFileUri);
+		params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		params.setDocumentFormat(DocumentFormat.Markdown);
+		params.setLazyDescriptions(true);
+		MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(params, JDT_UTILS,
+				new NullProgressMonitor());
+
+		// Java source property
+		assertNull(getProperty(info, "greeting.number").getDescription());
+		// Static property (from mp-config-metadata.json)
+		assertNull(getProperty(info, "config_ordinal").getDescription());
+
+		// The descriptions are returned by the property documentation request
+		var docParams = createDocParams(propertiesFileUri, null, null, null, DocumentFormat.Markdown);
+		docParams.setPropertyName("greeting.number");
+		assertEquals("The `number` of the greeting.",
+				PropertiesManager.getInstance().collectPropertyDocumentation(docParams, JDT_UTILS, null));
+		docParams.setPropertyName("config_ordinal");
+		String staticDescription = PropertiesManager.getInstance().collectPropertyDocumentation(docParams, JDT_UTILS,
+				null);
+		assertNotNull(staticDescription);
+
+		// Load the project information without lazy descriptions, the descriptions of
+		// the static properties must not have been removed by the previous load
+		params.setLazyDescriptions(false);
+		info = PropertiesManager.getInstance().getMicroProfileProjectInfo(params, JDT_UTILS,
+				new NullProgressMonitor());
+		assertEquals("The `number` of the greeting.", getProperty(info, "greeting.number").getDescription());
+		assertEquals(staticDescription, getProperty(info, "config_ordinal").getDescription());
+	}
+
+	@Test
+	public void testLazyDescriptionsOfDynamicProperties() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_reactive_messaging);
+		IFile propertiesFile = javaProject.getProject().getFile(new Path("src/main/resources/application.properties"));
+		String propertiesFileUri = fixURI(propertiesFile.getLocation().toFile().toURI());
+
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(propertiesFileUri);
+		params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		params.setDocumentFormat(DocumentFormat.Markdown);
+		params.setLazyDescriptions(true);
+		MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(params, JDT_UTILS,
+				new NullProgressMonitor());
+
+		// The description of the dynamic property is copied by the language server to
+		// the properties generated for each channel (ex :
+		// mp.messaging.incoming.prices.topic), so it is kept
+		assertEquals("The consumed / populated Kafka topic. If not set, the channel name is used",
+				getProperty(info, "mp.messaging.incoming.${smallrye-kafka}.topic").getDescription());
+	}
+
+	private static ItemMetadata getProperty(MicroProfileProjectInfo info, String name) {
+		ItemMetadata property = info.getProperties().stream() //
+				.filter(p -> name.equals(p.getName())) //
+				.findFirst() //
+				.orElse(null);
+		assertNotNull("Cannot find property '" + name + "'", property);
+		return property;
+	}
+
 	public MicroProfilePropertyDocumentationParams createDocParams(String uri, String sourceType, String sourceField,
 			String sourceMethod, DocumentFormat documentFormat) {
 		var params = new MicroProfilePropertyDocumentationParams();
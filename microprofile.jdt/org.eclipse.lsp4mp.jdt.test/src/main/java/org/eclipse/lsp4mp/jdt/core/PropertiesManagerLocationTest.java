@@ -17,6 +17,11 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
 import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest.MicroProfileMavenProjectName;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -90,6 +95,39 @@ public class PropertiesManagerLocationTest extends BasePropertiesManagerTest {
 		Assert.assertNotNull("Definition from GreetingConstructorResource constructor", location);
 	}
 
+	@Test
+	public void scannedPropertiesLocationTest() throws Exception {
+		IJavaProject javaProject = ProjectUtils.getJavaProject(MicroProfileMavenProjectName.config_quickstart);
+
+		// The properties scan records the location of the Java field or method which
+		// declares the property
+		MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.ONLY_SOURCES, ClasspathKind.SRC, JDT_UTILS, DocumentFormat.Markdown,
+				new NullProgressMonitor());
+
+		// Test with field
+		// greeting.message
+		assertSourceLocation("greeting.message", info, javaProject);
+
+		// Test with method with parameters
+		// greeting.method.message
+		assertSourceLocation("greeting.method.message", info, javaProject);
+	}
+
+	private static void assertSourceLocation(String name, MicroProfileProjectInfo info, IJavaProject javaProject)
+			throws Exception {
+		ItemMetadata property = info.getProperties().stream() //
+				.filter(p -> name.equals(p.getName())) //
+				.findFirst() //
+				.orElse(null);
+		Assert.assertNotNull("Cannot find property '" + name + "'", property);
+		Location location = PropertiesManager.getInstance().findPropertyLocation(javaProject,
+				property.getSourceType(), property.getSourceField(), property.getSourceMethod(), JDT_UTILS,
+				new NullProgressMonitor());
+		Assert.assertNotNull("Definition of '" + name + "'", location);
+		Assert.assertEquals("Location of '" + name + "'", location, property.getSourceLocation());
+	}
+
 	@Test
 	public void nonExistantFieldTest() throws Exception {
 		// Use case:
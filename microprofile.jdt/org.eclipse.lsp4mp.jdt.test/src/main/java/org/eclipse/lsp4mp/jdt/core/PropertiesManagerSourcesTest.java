@@ -0,0 +1,127 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.fixURI;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.ls.core.internal.JobHelpers;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the scan of the properties of some changed Java sources with
+ * {@link PropertiesManager}.
+ *
+ */
+public class PropertiesManagerSourcesTest extends BasePropertiesManagerTest {
+
+	private static final String GREETING_RESOURCE = "org.acme.config.GreetingResource";
+
+	@Test
+	public void changedJavaSource() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+		// Scan all Java sources to build the source index of the project
+		MicroProfileProjectInfo info = getSourcesInfo(javaProject, null);
+		Assert.assertNull(info.getSourceTypes());
+		assertPropertyExist("greeting.number", info);
+
+		// Rename 'greeting.number' to 'greeting.count'
+		saveFile("org/acme/config/GreetingResource.java", //
+				"package org.acme.config;\r\n" + //
+						"\r\n" + //
+						"import org.eclipse.microprofile.config.inject.ConfigProperty;\r\n" + //
+						"\r\n" + //
+						"public class GreetingResource {\r\n" + //
+						"\r\n" + //
+						"    @ConfigProperty(name = \"greeting.message\")\r\n" + //
+						"    String message;\r\n" + //
+						"\r\n" + //
+						"    @ConfigProperty(name = \"greeting.count\", defaultValue=\"0\")\r\n" + //
+						"    int count;\r\n" + //
+						"}",
+				javaProject, true);
+		JobHelpers.waitUntilIndexesReady();
+
+		// Scan only the changed Java source
+		info = getSourcesInfo(javaProject, "org/acme/config/GreetingResource.java");
+		Assert.assertEquals(Collections.singleton(GREETING_RESOURCE), info.getSourceTypes());
+		Assert.assertEquals(2, info.getProperties().size());
+		assertPropertyExist("greeting.message", info);
+		assertPropertyExist("greeting.count", info);
+		for (ItemMetadata property : info.getProperties()) {
+			Assert.assertEquals(GREETING_RESOURCE, property.getSourceType());
+		}
+	}
+
+	@Test
+	public void newJavaSource() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+		// Scan all Java sources to build the source index of the project
+		getSourcesInfo(javaProject, null);
+
+		saveFile("org/acme/config/OtherResource.java", //
+				"package org.acme.config;\r\n" + //
+						"\r\n" + //
+						"import org.eclipse.microprofile.config.inject.ConfigProperty;\r\n" + //
+						"\r\n" + //
+						"public class OtherResource {\r\n" + //
+						"\r\n" + //
+						"    @ConfigProperty(name = \"other.message\")\r\n" + //
+						"    String message;\r\n" + //
+						"}",
+				javaProject, true);
+		JobHelpers.waitUntilIndexesReady();
+
+		// Scan only the new Java source, the properties of the other Java sources
+		// must not be returned since they are not replaced
+		MicroProfileProjectInfo info = getSourcesInfo(javaProject, "org/acme/config/OtherResource.java");
+		Set<String> sourceTypes = info.getSourceTypes();
+		Assert.assertNotNull(sourceTypes);
+		Assert.assertTrue(sourceTypes.contains("org.acme.config.OtherResource"));
+		assertPropertyExist("other.message", info);
+		for (ItemMetadata property : info.getProperties()) {
+			Assert.assertTrue("Unexpected property '" + property.getName() + "'",
+					sourceTypes.contains(property.getSourceType()));
+		}
+	}
+
+	private static MicroProfileProjectInfo getSourcesInfo(IJavaProject javaProject, String javaFileName)
+			throws Exception {
+		Set<String> sourceURIs = null;
+		if (javaFileName != null) {
+			IFile javaFile = javaProject.getProject().getFile(new Path("src/main/java/" + javaFileName));
+			sourceURIs = Collections.singleton(fixURI(javaFile.getLocation().toFile().toURI()));
+		}
+		return PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.ONLY_SOURCES, sourceURIs, ClasspathKind.SRC, JDT_UTILS,
+				DocumentFormat.Markdown, new NullProgressMonitor());
+	}
+
+	private static void assertPropertyExist(String name, MicroProfileProjectInfo info) {
+		Assert.assertTrue("Cannot find property '" + name + "'",
+				info.getProperties().stream().anyMatch(property -> name.equals(property.getName())));
+	}
+}
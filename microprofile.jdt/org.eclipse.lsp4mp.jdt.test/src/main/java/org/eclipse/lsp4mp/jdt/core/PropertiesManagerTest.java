@@ -17,9 +17,14 @@ import static org.eclipse.lsp4mp.jdt.core.JavaUtils.getJarPath;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -45,4 +50,33 @@ public class PropertiesManagerTest extends BasePropertiesManagerTest {
 		Assert.assertTrue("MicroProfileProjectInfo for 'bad-uri' should not belong to an Eclipse project ",
 				info.getProjectURI().isEmpty());
 	}
+
+	@Test
+	public void staticPropertiesSharedByScans() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+
+		// The static properties (from mp-config-metadata.json) are parsed once but
+		// each project scan collects its own copy
+		ItemMetadata property1 = getProperty(getProjectInfo(javaProject), "config_ordinal");
+		property1.setDescription(null);
+		ItemMetadata property2 = getProperty(getProjectInfo(javaProject), "config_ordinal");
+		Assert.assertNotSame(property1, property2);
+		Assert.assertEquals(property1.getName(), property2.getName());
+		Assert.assertNotNull(property2.getDescription());
+	}
+
+	private static MicroProfileProjectInfo getProjectInfo(IJavaProject javaProject) throws Exception {
+		return PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC, JDT_UTILS,
+				DocumentFormat.Markdown, new NullProgressMonitor());
+	}
+
+	private static ItemMetadata getProperty(MicroProfileProjectInfo info, String name) {
+		ItemMetadata property = info.getProperties().stream() //
+				.filter(p -> name.equals(p.getName())) //
+				.findFirst() //
+				.orElse(null);
+		Assert.assertNotNull("Cannot find property '" + name + "'", property);
+		return property;
+	}
 }
@@ -13,14 +13,23 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
@@ -28,6 +37,8 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest.MicroProfileMavenProjectName;
 import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
 import org.eclipse.lsp4mp.jdt.core.JavaUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
@@ -207,4 +218,48 @@ public class MicroProfilePropertiesListenerManagerTest {
 				projectTracker.getProjects().iterator().next());
 
 	}
+
+	@Test
+	public void forgetIdleProject() throws Exception {
+		IJavaProject javaProject = BasePropertiesManagerTest.loadMavenProject(MicroProfileMavenProjectName.config_hover);
+		JobHelpers.waitForJobsToComplete();
+		String projectURI = JDTMicroProfileUtils.getProjectURI(javaProject);
+
+		// Save a Java file -> Java sources changed
+		IFile javaFile = javaProject.getProject().getFile(new Path("src/main/java/org/acme/config/Empty.java"));
+		String content = new String(javaFile.getContents().readAllBytes(), StandardCharsets.UTF_8);
+		javaFile.setContents(new ByteArrayInputStream((content + "\r\n").getBytes(StandardCharsets.UTF_8)),
+				IResource.NONE, null);
+		Assert.assertTrue("Pending events of the project", getProjectEvents().containsKey(projectURI));
+
+		// The event is fired after the debounce delay and the project is forgotten once
+		// it doesn't change anymore
+		waitUntil(() -> projectTracker.getProjects().contains(projectURI), 10000);
+		waitUntil(() -> !getProjectEvents().containsKey(projectURI), 10000);
+	}
+
+	private static Map<?, ?> getProjectEvents() {
+		try {
+			MicroProfilePropertiesListenerManager manager = MicroProfilePropertiesListenerManager.getInstance();
+			Field listenerField = MicroProfilePropertiesListenerManager.class.getDeclaredField("microprofileListener");
+			listenerField.setAccessible(true);
+			Object listener = listenerField.get(manager);
+			Field projectEventsField = listener.getClass().getDeclaredField("projectEvents");
+			projectEventsField.setAccessible(true);
+			Map<?, ?> projectEvents = (Map<?, ?>) projectEventsField.get(listener);
+			synchronized (projectEvents) {
+				return new HashMap<>(projectEvents);
+			}
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static void waitUntil(BooleanSupplier condition, long timeout) throws InterruptedException {
+		long end = System.currentTimeMillis() + timeout;
+		while (!condition.getAsBoolean()) {
+			Assert.assertTrue("Timeout", System.currentTimeMillis() < end);
+			Thread.sleep(100);
+		}
+	}
 }
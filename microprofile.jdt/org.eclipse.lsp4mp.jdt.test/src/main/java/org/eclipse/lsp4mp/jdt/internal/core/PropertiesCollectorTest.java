@@ -16,6 +16,7 @@ package org.eclipse.lsp4mp.jdt.internal.core;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -105,6 +106,26 @@ public class PropertiesCollectorTest {
 		assertNull(configuration.getProperties().get(0).getDescription());
 	}
 
+	@Test
+	public void mergeByReference() {
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+
+		// The merged properties (ex : shared static properties) are not copied
+		ConfigurationMetadata toMerge = createToMerge();
+		collector.merge(toMerge, MergingStrategy.IGNORE_IF_EXISTS);
+		assertSame(toMerge.getProperties().get(0), configuration.getProperties().get(0));
+
+		// The properties index is updated by the replace
+		ConfigurationMetadata dupMerge = createDuplicateMerge();
+		collector.merge(dupMerge, MergingStrategy.REPLACE);
+		collector.merge(createToMerge(), MergingStrategy.IGNORE_IF_EXISTS);
+
+		assertEquals(2, configuration.getProperties().size());
+		assertSame(dupMerge.getProperties().get(0), configuration.getProperties().get(1));
+	}
+
 	private static ConfigurationMetadata createToMerge() {
 		ConfigurationMetadata toMerge = new ConfigurationMetadata();
 		toMerge.setProperties(new ArrayList<>());
@@ -0,0 +1,83 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JavaASTCache}.
+ *
+ */
+public class JavaASTCacheTest extends BasePropertiesManagerTest {
+
+	private ICompilationUnit unit;
+
+	@Before
+	public void openWorkingCopy() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_health_quickstart);
+		IFile javaFile = javaProject.getProject()
+				.getFile(new Path("src/main/java/org/acme/health/ImplementHealthCheck.java"));
+		unit = JavaCore.createCompilationUnitFrom(javaFile);
+		unit.becomeWorkingCopy(new NullProgressMonitor());
+		JavaASTCache.getInstance().clear();
+	}
+
+	@After
+	public void discardWorkingCopy() throws Exception {
+		unit.discardWorkingCopy();
+		JavaASTCache.getInstance().clear();
+	}
+
+	@Test
+	public void reuseASTWhenBufferIsUnchanged() throws Exception {
+		CompilationUnit ast = getAST();
+		Assert.assertNotNull(ast);
+		Assert.assertSame(ast, getAST());
+	}
+
+	@Test
+	public void invalidateASTWhenBufferChanges() throws Exception {
+		CompilationUnit ast = getAST();
+
+		unit.getBuffer().setContents(unit.getBuffer().getContents().replace("return null;", "return null; // "));
+		CompilationUnit newAST = getAST();
+		Assert.assertNotSame(ast, newAST);
+		// The new AST is cached for the changed buffer
+		Assert.assertSame(newAST, getAST());
+	}
+
+	@Test
+	public void invalidateASTWhenCacheIsCleared() throws Exception {
+		CompilationUnit ast = getAST();
+
+		// The workspace changed (ex : Java file saved)
+		JavaASTCache.getInstance().clear();
+		Assert.assertNotSame(ast, getAST());
+	}
+
+	private CompilationUnit getAST() {
+		return JavaASTCache.getInstance().getAST(unit, new NullProgressMonitor());
+	}
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java.diagnostics;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesResult;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4mp.jdt.internal.health.MicroProfileHealthConstants;
+import org.eclipse.lsp4mp.jdt.internal.metrics.MicroProfileMetricsConstants;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JavaDiagnosticsCache}.
+ *
+ */
+public class JavaDiagnosticsCacheTest extends BasePropertiesManagerTest {
+
+	private static final String IMPLEMENT_HEALTH_CHECK = "package org.acme.health;\r\n" + //
+			"\r\n" + //
+			"import org.eclipse.microprofile.health.HealthCheck;\r\n" + //
+			"import org.eclipse.microprofile.health.HealthCheckResponse;\r\n" + //
+			"\r\n" + //
+			"public class ImplementHealthCheck implements HealthCheck {\r\n" + //
+			"\r\n" + //
+			"	@Override\r\n" + //
+			"	public HealthCheckResponse call() {\r\n" + //
+			"		return %s;\r\n" + //
+			"	}\r\n" + //
+			"\r\n" + //
+			"}\r\n";
+
+	private ICompilationUnit unit;
+
+	private String uri;
+
+	@Before
+	public void openWorkingCopy() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_health_quickstart);
+		IFile javaFile = javaProject.getProject()
+				.getFile(new Path("src/main/java/org/acme/health/ImplementHealthCheck.java"));
+		uri = javaFile.getLocation().toFile().toURI().toString();
+		unit = JavaCore.createCompilationUnitFrom(javaFile);
+		unit.becomeWorkingCopy(new NullProgressMonitor());
+		JavaDiagnosticsCache.getInstance().clear();
+	}
+
+	@After
+	public void discardWorkingCopy() throws Exception {
+		unit.discardWorkingCopy();
+		JavaDiagnosticsCache.getInstance().clear();
+	}
+
+	@Test
+	public void reuseDiagnosticsWhenMethodBodyChanges() throws Exception {
+		unit.getBuffer().setContents(String.format(IMPLEMENT_HEALTH_CHECK, "null"));
+		Diagnostic diagnostic = getHealthDiagnostic();
+
+		// Update the method body, the declarations didn't change
+		unit.getBuffer().setContents(String.format(IMPLEMENT_HEALTH_CHECK, "HealthCheckResponse.up(\"up\")"));
+		Assert.assertSame(diagnostic, getHealthDiagnostic());
+	}
+
+	@Test
+	public void invalidateDiagnosticsWhenTypeHeaderChanges() throws Exception {
+		unit.getBuffer().setContents(String.format(IMPLEMENT_HEALTH_CHECK, "null"));
+		Diagnostic diagnostic = getHealthDiagnostic();
+
+		// Rename the class
+		unit.getBuffer().setContents(String.format(IMPLEMENT_HEALTH_CHECK, "null")
+				.replace("class ImplementHealthCheck ", "class ImplementHealthCheck2 "));
+		Diagnostic newDiagnostic = getHealthDiagnostic();
+		Assert.assertNotSame(diagnostic, newDiagnostic);
+		Assert.assertTrue(newDiagnostic.getMessage().contains("ImplementHealthCheck2"));
+	}
+
+	@Test
+	public void invalidateDiagnosticsWhenAnnotationChanges() throws Exception {
+		unit.getBuffer().setContents(String.format(IMPLEMENT_HEALTH_CHECK, "null"));
+		Assert.assertNotNull(getHealthDiagnostic());
+
+		// Add the @Liveness annotation, the diagnostic must disappear
+		unit.getBuffer().setContents(String.format(IMPLEMENT_HEALTH_CHECK, "null")
+				.replace("import org.eclipse.microprofile.health.HealthCheckResponse;\r\n",
+						"import org.eclipse.microprofile.health.HealthCheckResponse;\r\n"
+								+ "import org.eclipse.microprofile.health.Liveness;\r\n")
+				.replace("public class", "@Liveness\r\npublic class"));
+		Assert.assertNull(getHealthDiagnostic());
+	}
+
+	@Test
+	public void invalidateDiagnosticsWhenCacheIsCleared() throws Exception {
+		unit.getBuffer().setContents(String.format(IMPLEMENT_HEALTH_CHECK, "null"));
+		Diagnostic diagnostic = getHealthDiagnostic();
+
+		// The workspace changed (ex : Java file saved)
+		JavaDiagnosticsCache.getInstance().clear();
+		Diagnostic newDiagnostic = getHealthDiagnostic();
+		Assert.assertNotSame(diagnostic, newDiagnostic);
+		Assert.assertEquals(diagnostic, newDiagnostic);
+	}
+
+	@Test
+	public void invalidateDiagnosticsWhenImportChanges() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_metrics);
+		IFile javaFile = javaProject.getProject().getFile(new Path("src/main/java/org/acme/IncorrectScope.java"));
+		String metricsUri = javaFile.getLocation().toFile().toURI().toString();
+		ICompilationUnit metricsUnit = JavaCore.createCompilationUnitFrom(javaFile);
+		metricsUnit.becomeWorkingCopy(new NullProgressMonitor());
+		try {
+			String source = metricsUnit.getSource();
+			metricsUnit.getBuffer().setContents(
+					source.replace("import javax.enterprise.context.RequestScoped;", "import com.foo.RequestScoped;"));
+			Assert.assertNull(getDiagnostic(metricsUri, MicroProfileMetricsConstants.DIAGNOSTIC_SOURCE));
+
+			// Only the import changes (on the same line), the @RequestScoped annotation is
+			// now the CDI one and the @Gauge method must be reported
+			metricsUnit.getBuffer().setContents(source);
+			Assert.assertNotNull(getDiagnostic(metricsUri, MicroProfileMetricsConstants.DIAGNOSTIC_SOURCE));
+		} finally {
+			metricsUnit.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void featuresShareDiagnosticsCache() throws Exception {
+		unit.getBuffer().setContents(String.format(IMPLEMENT_HEALTH_CHECK, "null"));
+
+		// The diagnostics of the features request are ended after the single AST
+		// visit and are put in the cache
+		MicroProfileJavaFeaturesParams params = new MicroProfileJavaFeaturesParams(uri);
+		MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+		diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+		params.setDiagnostics(diagnosticsParams);
+		MicroProfileJavaFeaturesResult features = PropertiesManagerForJava.getInstance().features(params, JDT_UTILS,
+				new NullProgressMonitor());
+		Diagnostic diagnostic = features.getDiagnostics().stream() //
+				.filter(d -> MicroProfileHealthConstants.DIAGNOSTIC_SOURCE.equals(d.getSource())) //
+				.findFirst() //
+				.orElse(null);
+		Assert.assertNotNull(diagnostic);
+		Assert.assertNull(features.getCodeLens());
+		Assert.assertNull(features.getInlayHints());
+		Assert.assertSame(diagnostic, getHealthDiagnostic());
+	}
+
+	private Diagnostic getHealthDiagnostic() throws Exception {
+		return getDiagnostic(uri, MicroProfileHealthConstants.DIAGNOSTIC_SOURCE);
+	}
+
+	private static Diagnostic getDiagnostic(String uri, String source) throws Exception {
+		MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+		params.setUris(Arrays.asList(uri));
+		params.setDocumentFormat(DocumentFormat.Markdown);
+		List<PublishDiagnosticsParams> publishDiagnostics = PropertiesManagerForJava.getInstance()
+				.diagnostics(params, JDT_UTILS, new NullProgressMonitor());
+		return publishDiagnostics.get(0).getDiagnostics().stream() //
+				.filter(d -> source.equals(d.getSource())) //
+				.findFirst() //
+				.orElse(null);
+	}
+}
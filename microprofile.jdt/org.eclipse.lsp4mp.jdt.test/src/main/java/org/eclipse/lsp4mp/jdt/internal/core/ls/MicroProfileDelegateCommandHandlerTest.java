@@ -0,0 +1,79 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.ls;
+
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.fixURI;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the "microprofile/projectInfo" command of
+ * {@link MicroProfileDelegateCommandHandler}.
+ *
+ */
+public class MicroProfileDelegateCommandHandlerTest extends BasePropertiesManagerTest {
+
+	private static final String PROJECT_INFO_COMMAND_ID = "microprofile/projectInfo";
+
+	@Test
+	public void projectInfo() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+
+		Object result = new MicroProfileDelegateCommandHandler().executeCommand(PROJECT_INFO_COMMAND_ID,
+				createProjectInfoArguments(javaProject), new NullProgressMonitor());
+		Assert.assertTrue(result instanceof MicroProfileProjectInfo);
+		Assert.assertFalse(((MicroProfileProjectInfo) result).getProperties().isEmpty());
+	}
+
+	@Test(expected = OperationCanceledException.class)
+	public void projectInfoCanceled() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_hover);
+
+		// The request is cancelled (ex : the classpath changed again), the scan which
+		// runs in a job must be cancelled too
+		IProgressMonitor progress = new NullProgressMonitor();
+		progress.setCanceled(true);
+		new MicroProfileDelegateCommandHandler().executeCommand(PROJECT_INFO_COMMAND_ID,
+				createProjectInfoArguments(javaProject), progress);
+	}
+
+	private static List<Object> createProjectInfoArguments(IJavaProject javaProject) {
+		IFile propertiesFile = javaProject.getProject()
+				.getFile(new Path("src/main/resources/META-INF/microprofile-config.properties"));
+		Map<String, Object> params = new HashMap<>();
+		params.put("uri", fixURI(propertiesFile.getLocation().toFile().toURI()));
+		params.put("scopes", MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES.stream() //
+				.map(MicroProfilePropertiesScope::getValue) //
+				.collect(Collectors.toList()));
+		params.put("documentFormat", DocumentFormat.Markdown.getValue());
+		return Collections.singletonList(params);
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons;
+
+/**
+ * MicroProfile Java features parameters used to request together the
+ * diagnostics, the code lenses and the inlay hints of a Java file.
+ *
+ * <p>
+ * A feature is requested only if its parameters are not null.
+ * </p>
+ *
+ */
+public class MicroProfileJavaFeaturesParams {
+
+	private String uri;
+
+	private MicroProfileJavaDiagnosticsParams diagnostics;
+
+	private MicroProfileJavaCodeLensParams codeLens;
+
+	private MicroProfileJavaInlayHintParams inlayHint;
+
+	public MicroProfileJavaFeaturesParams() {
+
+	}
+
+	public MicroProfileJavaFeaturesParams(String uri) {
+		this();
+		setUri(uri);
+	}
+
+	/**
+	 * Returns the java file uri.
+	 *
+	 * @return the java file uri.
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * Set the java file uri.
+	 *
+	 * @param uri the java file uri.
+	 */
+	public void setUri(String uri) {
+		this.uri = uri;
+	}
+
+	/**
+	 * Returns the diagnostics parameters and null if diagnostics are not
+	 * requested.
+	 *
+	 * @return the diagnostics parameters and null if diagnostics are not
+	 *         requested.
+	 */
+	public MicroProfileJavaDiagnosticsParams getDiagnostics() {
+		return diagnostics;
+	}
+
+	public void setDiagnostics(MicroProfileJavaDiagnosticsParams diagnostics) {
+		this.diagnostics = diagnostics;
+	}
+
+	/**
+	 * Returns the code lens parameters and null if code lenses are not requested.
+	 *
+	 * @return the code lens parameters and null if code lenses are not requested.
+	 */
+	public MicroProfileJavaCodeLensParams getCodeLens() {
+		return codeLens;
+	}
+
+	public void setCodeLens(MicroProfileJavaCodeLensParams codeLens) {
+		this.codeLens = codeLens;
+	}
+
+	/**
+	 * Returns the inlay hint parameters and null if inlay hints are not requested.
+	 *
+	 * @return the inlay hint parameters and null if inlay hints are not requested.
+	 */
+	public MicroProfileJavaInlayHintParams getInlayHint() {
+		return inlayHint;
+	}
+
+	public void setInlayHint(MicroProfileJavaInlayHintParams inlayHint) {
+		this.inlayHint = inlayHint;
+	}
+
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons;
+
+import java.util.List;
+
+import org.eclipse.lsp4j.CodeLens;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.InlayHint;
+
+/**
+ * Represents the diagnostics, the code lenses and the inlay hints requested
+ * together for a Java file (see {@link MicroProfileJavaFeaturesParams}). A
+ * feature which was not requested is null.
+ *
+ */
+public class MicroProfileJavaFeaturesResult {
+
+	private List<Diagnostic> diagnostics;
+
+	private List<CodeLens> codeLens;
+
+	private List<InlayHint> inlayHints;
+
+	public List<Diagnostic> getDiagnostics() {
+		return diagnostics;
+	}
+
+	public void setDiagnostics(List<Diagnostic> diagnostics) {
+		this.diagnostics = diagnostics;
+	}
+
+	public List<CodeLens> getCodeLens() {
+		return codeLens;
+	}
+
+	public void setCodeLens(List<CodeLens> codeLens) {
+		this.codeLens = codeLens;
+	}
+
+	public List<InlayHint> getInlayHints() {
+		return inlayHints;
+	}
+
+	public void setInlayHints(List<InlayHint> inlayHints) {
+		this.inlayHints = inlayHints;
+	}
+}
@@ -46,6 +46,8 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata implements En
 
 	private Set<String> classpath;
 
+	private Set<String> sourceTypes;
+
 	/**
 	 * Returns the project URI.
 	 *
@@ -90,6 +92,30 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata implements En
 		this.classpath = classpath;
 	}
 
+	/**
+	 * Returns the Java types whose properties and hints must be replaced with the
+	 * properties and hints of this project information when only some Java
+	 * compilation units have been scanned, and null when all Java sources of the
+	 * project have been scanned.
+	 *
+	 * @return the Java types whose properties and hints must be replaced and null
+	 *         when all Java sources of the project have been scanned.
+	 */
+	public Set<String> getSourceTypes() {
+		return sourceTypes;
+	}
+
+	/**
+	 * Set the Java types whose properties and hints must be replaced with the
+	 * properties and hints of this project information.
+	 *
+	 * @param sourceTypes the Java types whose properties and hints must be
+	 *                    replaced.
+	 */
+	public void setSourceTypes(Set<String> sourceTypes) {
+		this.sourceTypes = sourceTypes;
+	}
+
 	@Override
 	public List<String> getConstants(String enumType) {
 		ItemHint hint = getHint(enumType);
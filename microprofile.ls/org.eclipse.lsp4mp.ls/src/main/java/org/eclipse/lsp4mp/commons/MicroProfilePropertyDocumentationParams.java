@@ -21,6 +21,8 @@ public class MicroProfilePropertyDocumentationParams {
 
 	private String uri;
 
+	private String propertyName;
+
 	private String sourceType;
 
 	private String sourceField;
@@ -90,4 +92,25 @@ public class MicroProfilePropertyDocumentationParams {
 		this.documentFormat = documentFormat;
 	}
 
+	/**
+	 * Returns the name of the property which has been sent without description
+	 * with the project information and null otherwise.
+	 *
+	 * @return the name of the property which has been sent without description
+	 *         with the project information and null otherwise.
+	 */
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	/**
+	 * Sets the name of the property which has been sent without description with
+	 * the project information.
+	 *
+	 * @param propertyName the property name.
+	 */
+	public void setPropertyName(String propertyName) {
+		this.propertyName = propertyName;
+	}
+
 }
@@ -0,0 +1,158 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Process-wide registry of {@link MicroProfileProjectRuntime}.
+ *
+ * <p>
+ * When the JDT LS extension and the language server run in the same JVM, they
+ * share the same runtime (project class loader, converters caches, etc) for a
+ * given project URI and classpath instead of creating their own runtime.
+ * </p>
+ *
+ * <p>
+ * A runtime is acquired with {@link #acquire(String, Set)} and must be released
+ * with {@link #release(MicroProfileProjectRuntime)} when the component doesn't
+ * use it anymore. The runtime is removed from the registry when it is not
+ * referenced anymore.
+ * </p>
+ *
+ */
+public class MicroProfileProjectRuntimeRegistry {
+
+	private static final MicroProfileProjectRuntimeRegistry INSTANCE = new MicroProfileProjectRuntimeRegistry();
+
+	public static MicroProfileProjectRuntimeRegistry getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Key of a runtime: the project URI and the classpath fingerprint.
+	 */
+	private static class RuntimeKey {
+
+		private final String projectURI;
+
+		private final Set<String> classpath;
+
+		private final int hashCode;
+
+		public RuntimeKey(String projectURI, Set<String> classpath) {
+			this.projectURI = projectURI;
+			// copy the classpath since the set given by the caller could be updated
+			this.classpath = Collections.unmodifiableSet(new HashSet<>(classpath));
+			this.hashCode = Objects.hash(projectURI, this.classpath);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof RuntimeKey)) {
+				return false;
+			}
+			RuntimeKey other = (RuntimeKey) obj;
+			return hashCode == other.hashCode && Objects.equals(projectURI, other.projectURI)
+					&& classpath.equals(other.classpath);
+		}
+	}
+
+	private static class RuntimeEntry {
+
+		private final MicroProfileProjectRuntime runtime;
+
+		private int references;
+
+		public RuntimeEntry(MicroProfileProjectRuntime runtime) {
+			this.runtime = runtime;
+		}
+	}
+
+	private final Map<RuntimeKey, RuntimeEntry> runtimes;
+
+	public MicroProfileProjectRuntimeRegistry() {
+		this.runtimes = new HashMap<>();
+	}
+
+	/**
+	 * Returns the runtime for the given project URI and classpath and increments
+	 * its reference count. The runtime is created if it doesn't exist.
+	 *
+	 * @param projectURI the project URI.
+	 * @param classpath  the project classpath.
+	 * @return the runtime for the given project URI and classpath.
+	 */
+	public synchronized MicroProfileProjectRuntime acquire(String projectURI, Set<String> classpath) {
+		RuntimeKey key = new RuntimeKey(projectURI, classpath != null ? classpath : Collections.emptySet());
+		RuntimeEntry entry = runtimes.get(key);
+		if (entry == null) {
+			entry = new RuntimeEntry(new MicroProfileProjectRuntime(new HashSet<>(key.classpath)));
+			runtimes.put(key, entry);
+		}
+		entry.references++;
+		return entry.runtime;
+	}
+
+	/**
+	 * Decrements the reference count of the given runtime and removes it from the
+	 * registry when it is not referenced anymore.
+	 *
+	 * @param runtime the runtime to release.
+	 */
+	public synchronized void release(MicroProfileProjectRuntime runtime) {
+		if (runtime == null) {
+			return;
+		}
+		for (Iterator<RuntimeEntry> it = runtimes.values().iterator(); it.hasNext();) {
+			RuntimeEntry entry = it.next();
+			if (entry.runtime == runtime) {
+				if (--entry.references <= 0) {
+					it.remove();
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns the reference count of the given runtime and 0 if the runtime is not
+	 * registered.
+	 *
+	 * @param runtime the runtime.
+	 * @return the reference count of the given runtime.
+	 */
+	public synchronized int getReferences(MicroProfileProjectRuntime runtime) {
+		for (RuntimeEntry entry : runtimes.values()) {
+			if (entry.runtime == runtime) {
+				return entry.references;
+			}
+		}
+		return 0;
+	}
+}
@@ -20,6 +20,7 @@ import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -33,12 +34,49 @@ import java.util.concurrent.ConcurrentHashMap;
  * project jars using a parent-last strategy. Classes from the parent
  * ClassLoader are used only if the class cannot be found in the project
  * directories or jars.
+ *
+ * <p>
+ * Classes from the project jars are loaded by a jar classloader which can be
+ * shared with a new ProjectClassLoader (see {@link #refresh()}), to keep them
+ * when only the classes of the output directories change.
+ * </p>
  */
 class ProjectClassLoader extends ClassLoader {
 
+	private static final String SERVICES_PREFIX = "META-INF/services/";
+
+	/**
+	 * Class file of the project output directories used to define a class.
+	 */
+	private static class ClassFile {
+
+		private final Path path;
+
+		private final FileTime lastModified;
+
+		public ClassFile(Path path, FileTime lastModified) {
+			this.path = path;
+			this.lastModified = lastModified;
+		}
+
+		public boolean isChanged() {
+			try {
+				return !Files.exists(path) || !lastModified.equals(Files.getLastModifiedTime(path));
+			} catch (IOException e) {
+				return true;
+			}
+		}
+	}
+
 	private final URLClassLoader jarClassLoader; // classloader for project jars
 	private final List<Path> classesDirectories; // output folders (target/classes, build/classes)
-	private final Map<String, Class<?>> projectClassCache = new ConcurrentHashMap<>();
+	private final Map<String, Class<?>> jarClassCache; // classes loaded from the project jars
+	private final Map<String, Class<?>> projectClassCache = new ConcurrentHashMap<>(); // classes of output folders
+	private final Map<String, ClassFile> projectClassFiles = new ConcurrentHashMap<>();
+
+	// true if a service file (ex : discovered converters) has been loaded from the
+	// output folders
+	private volatile boolean projectServicesLoaded;
 
 	/**
 	 * Create a ProjectClassLoader for a set of paths (jars + dirs).
@@ -68,6 +106,20 @@ class ProjectClassLoader extends ClassLoader {
 		// jarClassLoader has null parent: we handle delegation ourselves
 		this.jarClassLoader = new URLClassLoader(jarUrls.toArray(new URL[0]), null);
 		this.classesDirectories = dirPaths;
+		this.jarClassCache = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Create a ProjectClassLoader which shares the project jars (and their loaded
+	 * classes) of the given classloader.
+	 *
+	 * @param previous the previous ProjectClassLoader.
+	 */
+	private ProjectClassLoader(ProjectClassLoader previous) {
+		super(previous.getParent());
+		this.jarClassLoader = previous.jarClassLoader;
+		this.classesDirectories = previous.classesDirectories;
+		this.jarClassCache = previous.jarClassCache;
 	}
 
 	/**
@@ -76,7 +128,7 @@ class ProjectClassLoader extends ClassLoader {
 	@Override
 	protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
 		// 1. Check project cache
-		Class<?> cached = projectClassCache.get(name);
+		Class<?> cached = getCachedClass(name);
 		if (cached != null) {
 			if (resolve)
 				resolveClass(cached);
@@ -97,7 +149,7 @@ class ProjectClassLoader extends ClassLoader {
 			Class<?> cls = jarClassLoader.loadClass(name);
 			if (resolve)
 				resolveClass(cls);
-			projectClassCache.put(name, cls); // cache for future
+			jarClassCache.put(name, cls); // cache for future
 			return cls;
 		} catch (ClassNotFoundException ignored) {
 		}
@@ -112,7 +164,7 @@ class ProjectClassLoader extends ClassLoader {
 	@Override
 	protected Class<?> findClass(String name) throws ClassNotFoundException {
 		// already cached?
-		Class<?> cached = projectClassCache.get(name);
+		Class<?> cached = getCachedClass(name);
 		if (cached != null)
 			return cached;
 
@@ -122,9 +174,11 @@ class ProjectClassLoader extends ClassLoader {
 			Path classFile = dir.resolve(relPath);
 			if (Files.exists(classFile)) {
 				try {
+					FileTime lastModified = Files.getLastModifiedTime(classFile);
 					byte[] bytes = Files.readAllBytes(classFile);
 					Class<?> cls = defineClass(name, bytes, 0, bytes.length);
 					projectClassCache.put(name, cls);
+					projectClassFiles.put(name, new ClassFile(classFile, lastModified));
 					return cls;
 				} catch (IOException e) {
 					throw new RuntimeException("Failed to read class file: " + classFile, e);
@@ -142,6 +196,7 @@ class ProjectClassLoader extends ClassLoader {
 			Path resourceFile = dir.resolve(name);
 			if (Files.exists(resourceFile)) {
 				try {
+					projectResourceLoaded(name);
 					return resourceFile.toUri().toURL();
 				} catch (MalformedURLException e) {
 					// should not happen
@@ -167,6 +222,7 @@ class ProjectClassLoader extends ClassLoader {
 		for (Path dir : classesDirectories) {
 			Path resourceFile = dir.resolve(name);
 			if (Files.exists(resourceFile)) {
+				projectResourceLoaded(name);
 				result.add(resourceFile.toUri().toURL());
 			}
 		}
@@ -186,11 +242,70 @@ class ProjectClassLoader extends ClassLoader {
 		return Collections.enumeration(result);
 	}
 
+	private Class<?> getCachedClass(String name) {
+		Class<?> cached = projectClassCache.get(name);
+		return cached != null ? cached : jarClassCache.get(name);
+	}
+
+	private void projectResourceLoaded(String name) {
+		if (name.startsWith(SERVICES_PREFIX)) {
+			projectServicesLoaded = true;
+		}
+	}
+
+	/**
+	 * Returns true if a class defined by this classloader has a class file which
+	 * has been updated or deleted since it has been loaded.
+	 *
+	 * @return true if a class defined by this classloader has a class file which
+	 *         has been updated or deleted since it has been loaded.
+	 */
+	public boolean hasChangedClasses() {
+		return projectClassFiles.values().stream().anyMatch(ClassFile::isChanged);
+	}
+
+	/**
+	 * Returns true if a service file has been loaded from the project output
+	 * directories.
+	 *
+	 * @return true if a service file has been loaded from the project output
+	 *         directories.
+	 */
+	public boolean isProjectServicesLoaded() {
+		return projectServicesLoaded;
+	}
+
 	/**
-	 * Clears cached classes (to call after project rebuild)
+	 * Returns true if the given class has been defined from the project output
+	 * directories by this classloader.
+	 *
+	 * @param cls the class.
+	 * @return true if the given class has been defined from the project output
+	 *         directories by this classloader.
 	 */
-	public void clearProjectClassCache() {
-		projectClassCache.clear();
+	public boolean isProjectClass(Class<?> cls) {
+		return cls.getClassLoader() == this;
+	}
+
+	/**
+	 * Returns this classloader if the class files of the classes that it defined
+	 * have not changed (to call after project rebuild), otherwise a new
+	 * ProjectClassLoader which shares the project jars of this classloader.
+	 *
+	 * <p>
+	 * A class cannot be defined twice by a classloader, so all classes of the
+	 * output directories are loaded again by the new classloader to stay
+	 * consistent with the changed classes, but the classes loaded from the project
+	 * jars are kept.
+	 * </p>
+	 *
+	 * @return this classloader or a new ProjectClassLoader.
+	 */
+	public ProjectClassLoader refresh() {
+		if (!hasChangedClasses()) {
+			return this;
+		}
+		return new ProjectClassLoader(this);
 	}
 
 	/**
@@ -17,11 +17,13 @@ import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -96,6 +98,9 @@ public abstract class AbstractConverterRuntimeSupport<T> extends AbstractMicroPr
 	/** Cache of ConverterValidator per type */
 	private final Map<String, ConverterValidator> converterCache = new ConcurrentHashMap<>();
 
+	/** Resolved Java type per type of the converter cache */
+	private final Map<String, Type> converterTypes = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructs a new runtime support instance.
 	 *
@@ -126,7 +131,7 @@ public abstract class AbstractConverterRuntimeSupport<T> extends AbstractMicroPr
 				return;
 			}
 			ConverterValidator validator = converterCache.computeIfAbsent(type,
-					t -> resolveConverter(getProject().findType(t, enumConstNamesProvider, getExecutionMode()), cfg));
+					t -> resolveConverter(t, enumConstNamesProvider, cfg));
 			if (validator.canValidate()) {
 				// Refresh if needed Enum type if validator manages enum type
 				validator.refreshEnumType(enumConstNamesProvider, getProject(), getExecutionMode());
@@ -146,7 +151,7 @@ public abstract class AbstractConverterRuntimeSupport<T> extends AbstractMicroPr
 				return null;
 			}
 			ConverterValidator validator = converterCache.computeIfAbsent(type,
-					t -> resolveConverter(getProject().findType(t, enumConstNamesProvider, getExecutionMode()), cfg));
+					t -> resolveConverter(t, enumConstNamesProvider, cfg));
 			if (validator.canValidate()) {
 				return validator;
 			}
@@ -201,6 +206,74 @@ public abstract class AbstractConverterRuntimeSupport<T> extends AbstractMicroPr
 		config = null;
 		initialized = false;
 		converterCache.clear();
+		converterTypes.clear();
+	}
+
+	/**
+	 * Removes the cached converters of types which reference a reloaded class or
+	 * which have not been found (the class could be available now). The
+	 * configuration and the converters of the other types (ex : types of the
+	 * project jars) are kept.
+	 */
+	@Override
+	public void invalidate(Predicate<Class<?>> reloadedClass) {
+		converterCache.keySet().removeIf(t -> {
+			Type resolvedType = converterTypes.get(t);
+			if (resolvedType == null || references(resolvedType, reloadedClass)) {
+				converterTypes.remove(t);
+				return true;
+			}
+			return false;
+		});
+	}
+
+	private ConverterValidator resolveConverter(String type, EnumConstantsProvider enumConstNamesProvider, T config) {
+		Type resolvedType = getProject().findType(type, enumConstNamesProvider, getExecutionMode());
+		if (resolvedType != null) {
+			converterTypes.put(type, resolvedType);
+		}
+		return resolveConverter(resolvedType, config);
+	}
+
+	/**
+	 * Returns true if the given type references a class which matches the given
+	 * predicate.
+	 *
+	 * @param type      the Java type.
+	 * @param predicate the class predicate.
+	 * @return true if the given type references a class which matches the given
+	 *         predicate.
+	 */
+	private static boolean references(Type type, Predicate<Class<?>> predicate) {
+		if (type instanceof Class) {
+			Class<?> cls = (Class<?>) type;
+			return cls.isArray() ? references(cls.getComponentType(), predicate) : predicate.test(cls);
+		} else if (type instanceof ParameterizedType) {
+			ParameterizedType parameterizedType = (ParameterizedType) type;
+			if (references(parameterizedType.getRawType(), predicate)) {
+				return true;
+			}
+			for (Type typeArg : parameterizedType.getActualTypeArguments()) {
+				if (references(typeArg, predicate)) {
+					return true;
+				}
+			}
+		} else if (type instanceof GenericArrayType) {
+			return references(((GenericArrayType) type).getGenericComponentType(), predicate);
+		} else if (type instanceof WildcardType) {
+			WildcardType wildcardType = (WildcardType) type;
+			for (Type bound : wildcardType.getUpperBounds()) {
+				if (references(bound, predicate)) {
+					return true;
+				}
+			}
+			for (Type bound : wildcardType.getLowerBounds()) {
+				if (references(bound, predicate)) {
+					return true;
+				}
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -14,9 +14,13 @@
 package org.eclipse.lsp4mp.extensions;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -70,6 +74,8 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 
 	private transient boolean reloadFromSource;
 
+	private transient Set<String> sourceURIsToReload;
+
 	private transient List<ItemMetadata> dynamicProperties;
 
 	private transient final Function<String, ItemHint> getHint = hint -> getHint(hint);
@@ -78,6 +84,8 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 
 	private transient boolean updating;
 
+	private transient volatile int generation;
+
 	public ExtendedMicroProfileProjectInfo(MicroProfileProjectInfo delegate) {
 		this(delegate, null);
 	}
@@ -113,9 +121,38 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 	 * Clear the cache only for MicroProfile properties coming from java sources.
 	 */
 	public void clearPropertiesFromSource() {
+		clearPropertiesFromSource(null);
+	}
+
+	/**
+	 * Clear the cache only for MicroProfile properties coming from the given java
+	 * sources.
+	 *
+	 * @param sourceURIs the URIs of the Java sources which have changed and null if
+	 *                   they are unknown.
+	 */
+	public synchronized void clearPropertiesFromSource(Set<String> sourceURIs) {
+		if (sourceURIs == null) {
+			sourceURIsToReload = null;
+		} else if (!isReloadFromSource()) {
+			sourceURIsToReload = new HashSet<>(sourceURIs);
+		} else if (sourceURIsToReload != null) {
+			sourceURIsToReload.addAll(sourceURIs);
+		}
 		setReloadFromSource(true);
 	}
 
+	/**
+	 * Returns the URIs of the Java sources whose MicroProfile properties must be
+	 * collected again and null if all Java sources must be scanned.
+	 *
+	 * @return the URIs of the Java sources whose MicroProfile properties must be
+	 *         collected again and null if all Java sources must be scanned.
+	 */
+	public synchronized Set<String> getSourceURIsToReload() {
+		return sourceURIsToReload != null ? new HashSet<>(sourceURIsToReload) : null;
+	}
+
 	private static List<ItemMetadata> computeDynamicProperties(List<ItemMetadata> properties) {
 		return properties.stream().filter(p -> p != null && p.getName().contains("${")).collect(Collectors.toList());
 	}
@@ -130,7 +167,8 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 			List<ItemHint> hintsFromJavaSource) {
 		// remove old hints from Java sources
 		if (hintsFromJavaSource != null) {
-			updateListFromPropertiesSources(getHints(), hintsFromJavaSource);
+			removeHints(getItemsFromPropertiesSources(getHints()));
+			addHints(hintsFromJavaSource);
 		}
 		// remove old properties from Java sources
 		if (propertiesFromJavaSource != null) {
@@ -148,19 +186,135 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		}
 		// Update custom properties
 		updateCustomProperties(null);
+		generation++;
 		setReloadFromSource(false);
 	}
 
+	/**
+	 * Replace the MicroProfile properties and hints coming from the given Java
+	 * source types with the new properties and hints collected from the changed
+	 * Java sources.
+	 *
+	 * @param sourceTypes              the Java source types whose properties and
+	 *                                 hints must be replaced.
+	 * @param propertiesFromJavaSource properties collected from the changed Java
+	 *                                 sources. Only the properties of the given
+	 *                                 source types are added, since the others
+	 *                                 are not removed.
+	 * @param hintsFromJavaSource      hints collected from the changed Java
+	 *                                 sources.
+	 */
+	public synchronized void updateSourcesProperties(Set<String> sourceTypes,
+			List<ItemMetadata> propertiesFromJavaSource, List<ItemHint> hintsFromJavaSource) {
+		// replace hints
+		replaceHints(sourceTypes, hintsFromJavaSource != null ? hintsFromJavaSource : new ArrayList<>());
+
+		// replace properties
+		List<ItemMetadata> staticProperties = propertiesFromJavaSource != null
+				? new ArrayList<>(propertiesFromJavaSource)
+				: new ArrayList<>();
+		staticProperties.removeIf(p -> !isFromSourceTypes(p, sourceTypes));
+		List<ItemMetadata> dynamicProperties = computeDynamicProperties(staticProperties);
+		staticProperties.removeAll(dynamicProperties);
+		getDynamicProperties().removeIf(p -> isFromSourceTypes(p, sourceTypes));
+		getDynamicProperties().addAll(dynamicProperties);
+		// properties computed from dynamic properties are expanded again since the
+		// hints values could have changed
+		getProperties().removeIf(p -> p instanceof ComputedItemMetadata || isFromSourceTypes(p, sourceTypes));
+		expandProperties(staticProperties, getDynamicProperties(), getHint);
+		getProperties().addAll(staticProperties);
+
+		// Update custom properties
+		updateCustomProperties(null);
+		generation++;
+		setReloadFromSource(false);
+	}
+
+	private void replaceHints(Set<String> sourceTypes, List<ItemHint> hintsFromJavaSource) {
+		Map<String, ItemHint> newHintsByName = new LinkedHashMap<>();
+		for (ItemHint hint : hintsFromJavaSource) {
+			newHintsByName.putIfAbsent(hint.getName(), hint);
+		}
+		List<ItemHint> oldHints = new ArrayList<>();
+		List<ItemHint> newHints = new ArrayList<>();
+		for (ItemHint hint : getItemsFromPropertiesSources(getHints())) {
+			if (hint == null) {
+				continue;
+			}
+			ItemHint newHint = newHintsByName.remove(hint.getName());
+			if (isFromSourceTypes(hint, sourceTypes)) {
+				// the hint is replaced with the new hint
+				oldHints.add(hint);
+				if (newHint != null) {
+					newHints.add(newHint);
+				}
+			} else if (newHint != null || hasValueFromSourceTypes(hint, sourceTypes)) {
+				// the hint values are merged (ex : hint which contains values coming from
+				// several Java types)
+				oldHints.add(hint);
+				ItemHint mergedHint = mergeHint(hint, newHint, sourceTypes);
+				if (newHint != null || !mergedHint.getValues().isEmpty()) {
+					newHints.add(mergedHint);
+				}
+			}
+		}
+		newHints.addAll(newHintsByName.values());
+		removeHints(oldHints);
+		addHints(newHints);
+	}
+
+	private static ItemHint mergeHint(ItemHint hint, ItemHint newHint, Set<String> sourceTypes) {
+		ItemHint mergedHint = new ItemHint();
+		mergedHint.setName(hint.getName());
+		mergedHint.setDescription(hint.getDescription());
+		mergedHint.setSourceType(hint.getSourceType());
+		mergedHint.setSource(hint.getSource());
+		mergedHint.setOrigin(hint.getOrigin());
+		mergedHint.setProviders(
+				newHint != null && newHint.getProviders() != null ? newHint.getProviders() : hint.getProviders());
+		List<ValueHint> values = new ArrayList<>();
+		Set<String> newValues = new HashSet<>();
+		if (newHint != null && newHint.getValues() != null) {
+			for (ValueHint value : newHint.getValues()) {
+				newValues.add(value.getValue());
+			}
+		}
+		if (hint.getValues() != null) {
+			for (ValueHint value : hint.getValues()) {
+				if (!sourceTypes.contains(value.getSourceType()) && !newValues.contains(value.getValue())) {
+					values.add(value);
+				}
+			}
+		}
+		if (newHint != null && newHint.getValues() != null) {
+			values.addAll(newHint.getValues());
+		}
+		mergedHint.setValues(values);
+		return mergedHint;
+	}
+
+	private static boolean isFromSourceTypes(ItemBase item, Set<String> sourceTypes) {
+		return item != null && !item.isBinary() && sourceTypes.contains(item.getSourceType());
+	}
+
+	private static boolean hasValueFromSourceTypes(ItemHint hint, Set<String> sourceTypes) {
+		return hint.getValues() != null
+				&& hint.getValues().stream().anyMatch(value -> sourceTypes.contains(value.getSourceType()));
+	}
+
 	private static <T extends ItemBase> void updateListFromPropertiesSources(List<T> allProperties,
 			List<T> propertiesFromJavaSources) {
-		List<? extends ItemBase> oldPropertiesFromJavaSources = allProperties.stream().filter(h -> {
-			return h == null || !h.isBinary();
-		}).collect(Collectors.toList());
-		allProperties.removeAll(oldPropertiesFromJavaSources);
+		allProperties.removeAll(getItemsFromPropertiesSources(allProperties));
 		// add new properties from Java sources
 		allProperties.addAll(propertiesFromJavaSources);
 	}
 
+	private static <T extends ItemBase> List<T> getItemsFromPropertiesSources(List<T> allItems) {
+		return allItems.stream().filter(h -> {
+			return h == null || !h.isBinary();
+		}).collect(Collectors.toList());
+	}
+
 	private static void expandProperties(List<ItemMetadata> allProperties, List<ItemMetadata> dynamicProperties,
 			Function<String, ItemHint> getHint) {
 		for (ItemMetadata metadata : dynamicProperties) {
@@ -176,6 +330,18 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		}
 	}
 
+	/**
+	 * Returns the generation of the properties and hints of this project info.
+	 * The generation changes each time properties or hints are updated (Java
+	 * sources changes, custom properties changes), so it can be used to
+	 * invalidate structures computed from the properties (ex : index).
+	 *
+	 * @return the generation of the properties and hints of this project info.
+	 */
+	public int getGeneration() {
+		return generation;
+	}
+
 	public boolean isReloadFromSource() {
 		return reloadFromSource;
 	}
@@ -235,6 +401,7 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 						if (newProperties != null) {
 							getProperties().addAll(newProperties);
 						}
+						generation++;
 					}
 				}
 			}
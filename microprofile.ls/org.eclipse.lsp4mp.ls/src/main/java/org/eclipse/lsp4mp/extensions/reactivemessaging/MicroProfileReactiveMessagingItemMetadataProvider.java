@@ -165,7 +165,7 @@ public class MicroProfileReactiveMessagingItemMetadataProvider extends AbstractI
 		allConnectorHint = new ItemHint();
 		allConnectorHint.setName("org.eclipse.microprofile.reactive.messaging.spi.Connector");
 		allConnectorHint.setValues(new ArrayList<>());
-		projectInfo.getHints().add(allConnectorHint);
+		projectInfo.addHint(allConnectorHint);
 
 		updateFromSources();
 	}
@@ -13,9 +13,11 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.extensions.sysenv;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
@@ -26,9 +28,39 @@ import org.eclipse.lsp4mp.utils.EnvUtils;
 
 /**
  * Properties provider for Environment variables and System properties.
+ *
+ * <p>
+ * The properties are collected once per process and shared by all projects:
+ * the environment variables of the process don't change and the system
+ * properties are collected again only when their size or their hash code
+ * changes.
+ * </p>
  */
 public class SysEnvItemMetadataProvider implements ItemMetadataProvider {
 
+	/**
+	 * The properties collected for a given state of the system properties.
+	 */
+	private static class SysEnvSnapshot {
+
+		private final int systemPropertiesSize;
+
+		private final int systemPropertiesHashCode;
+
+		private final List<ItemMetadata> properties;
+
+		public SysEnvSnapshot(int systemPropertiesSize, int systemPropertiesHashCode,
+				List<ItemMetadata> properties) {
+			this.systemPropertiesSize = systemPropertiesSize;
+			this.systemPropertiesHashCode = systemPropertiesHashCode;
+			this.properties = properties;
+		}
+	}
+
+	private static List<ItemMetadata> envVarProperties;
+
+	private static volatile SysEnvSnapshot snapshot;
+
 	private List<ItemMetadata> sysEnvProperties;
 
 	public SysEnvItemMetadataProvider(ExtendedMicroProfileProjectInfo projectInfo) {
@@ -42,15 +74,49 @@ public class SysEnvItemMetadataProvider implements ItemMetadataProvider {
 
 	@Override
 	public void update(PropertiesModel document) {
-		this.sysEnvProperties = collectSysEnvProperties();
+		this.sysEnvProperties = getSysEnvProperties();
 	}
 
 	@Override
 	public List<ItemMetadata> getProperties() {
 		return sysEnvProperties;
 	}
-	private static List<ItemMetadata> collectSysEnvProperties() {
-		Stream<ItemMetadata> sysProps = System.getProperties().entrySet().stream().map(e -> {
+
+	/**
+	 * Returns the system properties and environment variables as unmodifiable
+	 * list of metadata.
+	 *
+	 * @return the system properties and environment variables as unmodifiable
+	 *         list of metadata.
+	 */
+	static List<ItemMetadata> getSysEnvProperties() {
+		Properties systemProperties = System.getProperties();
+		int size = systemProperties.size();
+		int hashCode = systemProperties.hashCode();
+		SysEnvSnapshot current = snapshot;
+		if (current != null && current.systemPropertiesSize == size
+				&& current.systemPropertiesHashCode == hashCode) {
+			return current.properties;
+		}
+		synchronized (SysEnvItemMetadataProvider.class) {
+			current = snapshot;
+			if (current != null && current.systemPropertiesSize == size
+					&& current.systemPropertiesHashCode == hashCode) {
+				return current.properties;
+			}
+			if (envVarProperties == null) {
+				envVarProperties = collectEnvVarProperties();
+			}
+			List<ItemMetadata> properties = new ArrayList<>(collectSystemProperties());
+			properties.addAll(envVarProperties);
+			current = new SysEnvSnapshot(size, hashCode, Collections.unmodifiableList(properties));
+			snapshot = current;
+			return current.properties;
+		}
+	}
+
+	private static List<ItemMetadata> collectSystemProperties() {
+		return System.getProperties().entrySet().stream().map(e -> {
 			String name = e.getKey().toString();
 			String defaultValue = e.getValue() != null ? e.getValue().toString() : null;
 
@@ -61,9 +127,11 @@ public class SysEnvItemMetadataProvider implements ItemMetadataProvider {
 			item.setType("java.lang.String");
 			item.setOrigin(EnvUtils.SYSTEM_PROPERTIES_ORIGN);
 			return item;
-		});
+		}).collect(Collectors.toList());
+	}
 
-		Stream<ItemMetadata> envVars = System.getenv().entrySet().stream().map(e -> {
+	private static List<ItemMetadata> collectEnvVarProperties() {
+		return System.getenv().entrySet().stream().map(e -> {
 			String name = e.getKey();
 			// Poor-man obfuscation of env var keys (*_KEY) and secrets (*_SECRET)
 			// Maybe later add configuration for suffixes and/or actual keys to obfuscate
@@ -76,11 +144,7 @@ public class SysEnvItemMetadataProvider implements ItemMetadataProvider {
 			item.setType("java.lang.String");
 			item.setOrigin(EnvUtils.ENVIRONMENT_VARIABLES_ORIGIN);
 			return item;
-		});
-
-		return Stream.concat(sysProps, envVars)//
-				.collect(Collectors.toList());
-
+		}).collect(Collectors.toList());
 	}
 
 	private static String obfuscate(String key, String value) {
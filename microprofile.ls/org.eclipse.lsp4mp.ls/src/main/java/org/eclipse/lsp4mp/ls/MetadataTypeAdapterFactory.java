@@ -0,0 +1,373 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ConverterKind;
+import org.eclipse.lsp4mp.commons.metadata.ItemBase;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.eclipse.lsp4mp.commons.metadata.ValueProvider;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Gson type adapter factory used to read the MicroProfile project information
+ * sent by the client ({@link MicroProfileProjectInfo}, {@link ItemMetadata},
+ * {@link ItemHint} and {@link ValueHint}).
+ *
+ * <p>
+ * A project can have tens of thousands of properties which repeat the same
+ * strings (type, source type, extension name, default value, etc). Those
+ * strings are interned to share one instance between all properties (and all
+ * project information loads) and the objects are created with their setters
+ * instead of the Gson reflection. The objects are written with the default Gson
+ * adapter.
+ * </p>
+ *
+ */
+public class MetadataTypeAdapterFactory implements TypeAdapterFactory {
+
+	/**
+	 * Interner of strings. The interned strings are cleared when the interner
+	 * becomes too big, to keep the memory bounded.
+	 */
+	static class StringInterner {
+
+		private static final int MAX_SIZE = 100000;
+
+		private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+		public String intern(String value) {
+			if (value == null) {
+				return null;
+			}
+			String interned = strings.get(value);
+			if (interned != null) {
+				return interned;
+			}
+			if (strings.size() >= MAX_SIZE) {
+				strings.clear();
+			}
+			interned = strings.putIfAbsent(value, value);
+			return interned != null ? interned : value;
+		}
+	}
+
+	static final StringInterner INTERNER = new StringInterner();
+
+	private static final TypeToken<List<ItemMetadata>> ITEM_METADATA_LIST = new TypeToken<List<ItemMetadata>>() {
+	};
+
+	private static final TypeToken<List<ItemHint>> ITEM_HINT_LIST = new TypeToken<List<ItemHint>>() {
+	};
+
+	private static final TypeToken<List<ValueHint>> VALUE_HINT_LIST = new TypeToken<List<ValueHint>>() {
+	};
+
+	private static final TypeToken<List<ValueProvider>> VALUE_PROVIDER_LIST = new TypeToken<List<ValueProvider>>() {
+	};
+
+	private static final TypeToken<List<ConverterKind>> CONVERTER_KIND_LIST = new TypeToken<List<ConverterKind>>() {
+	};
+
+	private static final TypeToken<Set<String>> STRING_SET = new TypeToken<Set<String>>() {
+	};
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+		if (rawType == ItemMetadata.class) {
+			return (TypeAdapter<T>) new ItemMetadataAdapter(gson,
+					gson.getDelegateAdapter(this, TypeToken.get(ItemMetadata.class)));
+		}
+		if (rawType == ItemHint.class) {
+			return (TypeAdapter<T>) new ItemHintAdapter(gson,
+					gson.getDelegateAdapter(this, TypeToken.get(ItemHint.class)));
+		}
+		if (rawType == ValueHint.class) {
+			return (TypeAdapter<T>) new ValueHintAdapter(gson.getDelegateAdapter(this, TypeToken.get(ValueHint.class)));
+		}
+		if (rawType == MicroProfileProjectInfo.class) {
+			return (TypeAdapter<T>) new MicroProfileProjectInfoAdapter(gson,
+					gson.getDelegateAdapter(this, TypeToken.get(MicroProfileProjectInfo.class)));
+		}
+		return null;
+	}
+
+	/**
+	 * Base adapter which reads the object with its setters and writes it with the
+	 * default Gson adapter.
+	 *
+	 * @param <T> the object type.
+	 */
+	private static abstract class AbstractMetadataAdapter<T> extends TypeAdapter<T> {
+
+		private final TypeAdapter<T> delegate;
+
+		public AbstractMetadataAdapter(TypeAdapter<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void write(JsonWriter out, T value) throws IOException {
+			delegate.write(out, value);
+		}
+
+		@Override
+		public T read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			T value = create();
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if (in.peek() == JsonToken.NULL) {
+					in.nextNull();
+				} else if (!readField(name, in, value)) {
+					in.skipValue();
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Returns a new instance of the object.
+		 *
+		 * @return a new instance of the object.
+		 */
+		protected abstract T create();
+
+		/**
+		 * Read the field with the given name and returns true if the field is
+		 * supported and false otherwise.
+		 *
+		 * @param name  the field name.
+		 * @param in    the JSON reader.
+		 * @param value the object to update.
+		 * @return true if the field is supported and false otherwise.
+		 * @throws IOException
+		 */
+		protected abstract boolean readField(String name, JsonReader in, T value) throws IOException;
+
+		protected static boolean readItemBaseField(String name, JsonReader in, ItemBase item) throws IOException {
+			switch (name) {
+			case "name":
+				item.setName(in.nextString());
+				return true;
+			case "description":
+				item.setDescription(in.nextString());
+				return true;
+			case "sourceType":
+				item.setSourceType(readInternedString(in));
+				return true;
+			case "source":
+				item.setSource(in.nextBoolean());
+				return true;
+			case "origin":
+				item.setOrigin(readInternedString(in));
+				return true;
+			default:
+				return false;
+			}
+		}
+
+		protected static String readInternedString(JsonReader in) throws IOException {
+			return INTERNER.intern(in.nextString());
+		}
+	}
+
+	private static class ItemMetadataAdapter extends AbstractMetadataAdapter<ItemMetadata> {
+
+		private final TypeAdapter<List<ConverterKind>> converterKindsAdapter;
+
+		private final TypeAdapter<Location> locationAdapter;
+
+		public ItemMetadataAdapter(Gson gson, TypeAdapter<ItemMetadata> delegate) {
+			super(delegate);
+			this.converterKindsAdapter = gson.getAdapter(CONVERTER_KIND_LIST);
+			this.locationAdapter = gson.getAdapter(Location.class);
+		}
+
+		@Override
+		protected ItemMetadata create() {
+			return new ItemMetadata();
+		}
+
+		@Override
+		protected boolean readField(String name, JsonReader in, ItemMetadata item) throws IOException {
+			switch (name) {
+			case "type":
+				item.setType(readInternedString(in));
+				return true;
+			case "sourceField":
+				item.setSourceField(in.nextString());
+				return true;
+			case "sourceMethod":
+				item.setSourceMethod(readInternedString(in));
+				return true;
+			case "defaultValue":
+				item.setDefaultValue(readInternedString(in));
+				return true;
+			case "extensionName":
+				item.setExtensionName(readInternedString(in));
+				return true;
+			case "required":
+				item.setRequired(in.nextBoolean());
+				return true;
+			case "phase":
+				item.setPhase(in.nextInt());
+				return true;
+			case "converterKinds":
+				item.setConverterKinds(converterKindsAdapter.read(in));
+				return true;
+			case "sourceLocation":
+				item.setSourceLocation(locationAdapter.read(in));
+				return true;
+			default:
+				return readItemBaseField(name, in, item);
+			}
+		}
+	}
+
+	private static class ItemHintAdapter extends AbstractMetadataAdapter<ItemHint> {
+
+		private final TypeAdapter<List<ValueHint>> valuesAdapter;
+
+		private final TypeAdapter<List<ValueProvider>> providersAdapter;
+
+		public ItemHintAdapter(Gson gson, TypeAdapter<ItemHint> delegate) {
+			super(delegate);
+			this.valuesAdapter = gson.getAdapter(VALUE_HINT_LIST);
+			this.providersAdapter = gson.getAdapter(VALUE_PROVIDER_LIST);
+		}
+
+		@Override
+		protected ItemHint create() {
+			return new ItemHint();
+		}
+
+		@Override
+		protected boolean readField(String name, JsonReader in, ItemHint hint) throws IOException {
+			switch (name) {
+			case "values":
+				hint.setValues(valuesAdapter.read(in));
+				return true;
+			case "providers":
+				hint.setProviders(providersAdapter.read(in));
+				return true;
+			default:
+				return readItemBaseField(name, in, hint);
+			}
+		}
+	}
+
+	private static class ValueHintAdapter extends AbstractMetadataAdapter<ValueHint> {
+
+		public ValueHintAdapter(TypeAdapter<ValueHint> delegate) {
+			super(delegate);
+		}
+
+		@Override
+		protected ValueHint create() {
+			return new ValueHint();
+		}
+
+		@Override
+		protected boolean readField(String name, JsonReader in, ValueHint hint) throws IOException {
+			switch (name) {
+			case "value":
+				hint.setValue(readInternedString(in));
+				return true;
+			case "description":
+				hint.setDescription(in.nextString());
+				return true;
+			case "sourceType":
+				hint.setSourceType(readInternedString(in));
+				return true;
+			default:
+				return false;
+			}
+		}
+	}
+
+	private static class MicroProfileProjectInfoAdapter extends AbstractMetadataAdapter<MicroProfileProjectInfo> {
+
+		private final TypeAdapter<List<ItemMetadata>> propertiesAdapter;
+
+		private final TypeAdapter<List<ItemHint>> hintsAdapter;
+
+		private final TypeAdapter<ClasspathKind> classpathKindAdapter;
+
+		private final TypeAdapter<Set<String>> stringSetAdapter;
+
+		public MicroProfileProjectInfoAdapter(Gson gson, TypeAdapter<MicroProfileProjectInfo> delegate) {
+			super(delegate);
+			this.propertiesAdapter = gson.getAdapter(ITEM_METADATA_LIST);
+			this.hintsAdapter = gson.getAdapter(ITEM_HINT_LIST);
+			this.classpathKindAdapter = gson.getAdapter(ClasspathKind.class);
+			this.stringSetAdapter = gson.getAdapter(STRING_SET);
+		}
+
+		@Override
+		protected MicroProfileProjectInfo create() {
+			return new MicroProfileProjectInfo();
+		}
+
+		@Override
+		protected boolean readField(String name, JsonReader in, MicroProfileProjectInfo info) throws IOException {
+			switch (name) {
+			case "projectURI":
+				info.setProjectURI(in.nextString());
+				return true;
+			case "classpathKind":
+				info.setClasspathKind(classpathKindAdapter.read(in));
+				return true;
+			case "classpath":
+				info.setClasspath(stringSetAdapter.read(in));
+				return true;
+			case "sourceTypes":
+				info.setSourceTypes(stringSetAdapter.read(in));
+				return true;
+			case "properties":
+				info.setProperties(propertiesAdapter.read(in));
+				return true;
+			case "hints":
+				info.setHints(hintsAdapter.read(in));
+				return true;
+			default:
+				return false;
+			}
+		}
+	}
+}
@@ -17,11 +17,19 @@ package org.eclipse.lsp4mp.ls;
 import static org.eclipse.lsp4j.jsonrpc.CompletableFutures.computeAsync;
 import static org.eclipse.lsp4mp.utils.VersionHelper.getVersion;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.lsp4j.InitializeParams;
@@ -43,7 +51,11 @@ import org.eclipse.lsp4mp.ls.api.MicroProfileJavaFileInfoProvider;
 import org.eclipse.lsp4mp.ls.api.MicroProfileJavaProjectLabelsProvider;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageClientAPI;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerExecutors;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerStatistics;
+import org.eclipse.lsp4mp.ls.commons.MeteredExecutor;
 import org.eclipse.lsp4mp.ls.commons.ParentProcessWatcher.ProcessLanguageServer;
+import org.eclipse.lsp4mp.ls.commons.ValidationScheduler;
 import org.eclipse.lsp4mp.ls.commons.client.ExtendedClientCapabilities;
 import org.eclipse.lsp4mp.ls.commons.client.InitializationOptionsExtendedClientCapabilities;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments;
@@ -56,6 +68,8 @@ import org.eclipse.lsp4mp.settings.SharedSettings;
 import org.eclipse.lsp4mp.settings.capabilities.MicroProfileCapabilityManager;
 import org.eclipse.lsp4mp.settings.capabilities.ServerCapabilitiesInitializer;
 
+import com.google.gson.GsonBuilder;
+
 /**
  * MicroProfile language server.
  *
@@ -65,11 +79,18 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 
 	private static final Logger LOGGER = Logger.getLogger(MicroProfileLanguageServer.class.getName());
 
+	/**
+	 * System property which defines the JSON file where the statistics of the
+	 * language server are written on shutdown.
+	 */
+	public static final String STATISTICS_FILE_PROPERTY = "lsp4mp.stats.file";
+
 	private final PropertiesFileLanguageService propertiesFileLanguageService;
 	private final MicroProfileTextDocumentService textDocumentService;
 	private final WorkspaceService workspaceService;
 	private final SharedSettings sharedSettings;
 	private final JavaTextDocuments javaDocuments;
+	private final ValidationScheduler validationScheduler;
 
 	private final MicroProfileExtensionSettings extensionSettings;
 
@@ -81,6 +102,7 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 		sharedSettings = new SharedSettings();
 		javaDocuments = new JavaTextDocuments(this, this);
 		propertiesFileLanguageService = new PropertiesFileLanguageService();
+		validationScheduler = new ValidationScheduler();
 		textDocumentService = new MicroProfileTextDocumentService(this, sharedSettings, javaDocuments);
 		workspaceService = new MicroProfileWorkspaceService(this, javaDocuments);
 		this.extensionSettings = new MicroProfileExtensionSettings();
@@ -145,7 +167,9 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 
 	@Override
 	public CompletableFuture<Object> shutdown() {
+		dumpStatistics();
 		propertiesFileLanguageService.dispose();
+		validationScheduler.shutdown();
 		if (capabilityManager.getClientCapabilities().shouldLanguageServerExitOnShutdown()) {
 			ScheduledExecutorService delayer = Executors.newScheduledThreadPool(1);
 			delayer.schedule(() -> exit(0), 1, TimeUnit.SECONDS);
@@ -199,6 +223,15 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 		return propertiesFileLanguageService;
 	}
 
+	/**
+	 * Returns the validation scheduler shared by properties and Java files.
+	 *
+	 * @return the validation scheduler shared by properties and Java files.
+	 */
+	public ValidationScheduler getValidationScheduler() {
+		return validationScheduler;
+	}
+
 	@Override
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
 		textDocumentService.propertiesChanged(event);
@@ -210,6 +243,37 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 		return textDocumentService.getJsonSchemaForProjectInfo(params);
 	}
 
+	@Override
+	public CompletableFuture<Map<String, Object>> getStatistics() {
+		return CompletableFuture.completedFuture(createStatistics());
+	}
+
+	private Map<String, Object> createStatistics() {
+		LanguageServerStatistics statistics = LanguageServerStatistics.getInstance();
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("latencies", statistics.getLatencies());
+		result.put("counters", statistics.getCounters());
+		result.put("validation", validationScheduler.toMap());
+		Map<String, Object> executors = new LinkedHashMap<>();
+		for (MeteredExecutor executor : LanguageServerExecutors.getExecutors()) {
+			executors.put(executor.getName(), executor.toMap());
+		}
+		result.put("executors", executors);
+		return result;
+	}
+
+	private void dumpStatistics() {
+		String file = System.getProperty(STATISTICS_FILE_PROPERTY);
+		if (file == null || file.isEmpty()) {
+			return;
+		}
+		try (Writer writer = Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8)) {
+			new GsonBuilder().setPrettyPrinting().create().toJson(createStatistics(), writer);
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while writing the statistics in '" + file + "'.", e);
+		}
+	}
+
 	@Override
 	public CompletableFuture<ProjectLabelInfoEntry> getJavaProjectLabels(
 			MicroProfileJavaProjectLabelsParams javaParams) {
@@ -26,6 +26,8 @@ import org.eclipse.lsp4j.launch.LSPLauncher.Builder;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageClientAPI;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerExecutors;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerStatistics;
 import org.eclipse.lsp4mp.ls.commons.ParentProcessWatcher;
 
 /**
@@ -40,6 +42,10 @@ public class MicroProfileServerLauncher {
 	 *     process otherwise if parent process is dead then stop this server.</ul>
 	 * <ul><i>runAsync</i>: if defined and value is true then received message are processed in a
 	 *     separate thread than the LSP4J thread.</ul>
+	 * <ul><i>lsp4mp.executor.*</i>: configure the executors used to process the requests (see
+	 *     {@link LanguageServerExecutors}).</ul>
+	 * <ul><i>lsp4mp.stats.file</i>: if defined, the statistics of the language server (see
+	 *     {@link LanguageServerStatistics}) are written in this JSON file on shutdown.</ul>
 	 *
 	 * @param args
 	 */
@@ -48,8 +54,14 @@ public class MicroProfileServerLauncher {
 		Function<MessageConsumer, MessageConsumer> wrapper;
 		wrapper = it -> it;
 		if ("true".equals(System.getProperty("runAsync")) ) {
-			wrapper = it -> msg -> CompletableFuture.runAsync(() -> it.consume(msg));
+			wrapper = it -> msg -> CompletableFuture.runAsync(() -> it.consume(msg),
+					LanguageServerExecutors.getRequestExecutor());
 		}
+		// trace the messages to collect the latencies of the requests (see microprofile/stats)
+		Function<MessageConsumer, MessageConsumer> tracer = LanguageServerStatistics.getInstance()
+				.createMessageTracer();
+		Function<MessageConsumer, MessageConsumer> asyncWrapper = wrapper;
+		wrapper = it -> asyncWrapper.apply(tracer.apply(it));
 		if (!"false".equals(System.getProperty("watchParentProcess"))) {
 			wrapper = new ParentProcessWatcher(server, wrapper);
 		}
@@ -83,6 +95,9 @@ public class MicroProfileServerLauncher {
 				// MicroProfile
 				// language
 				// client
-				.setInput(in).setOutput(out).setExecutorService(executorService).wrapMessages(wrapper).create();
+				.setInput(in).setOutput(out).setExecutorService(executorService).wrapMessages(wrapper) //
+				// read the project information with interned strings
+				.configureGson(gsonBuilder -> gsonBuilder.registerTypeAdapterFactory(new MetadataTypeAdapterFactory())) //
+				.create();
 	}
 }
@@ -88,7 +88,7 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 		textDocumentServicesMap = new HashMap<>();
 		this.sharedSettings = sharedSettings;
 		propertiesTextDocumentService = new PropertiesFileTextDocumentService(microprofileLanguageServer,
-				sharedSettings);
+				sharedSettings, javaTextDocuments);
 		javaTextDocumentService = new JavaFileTextDocumentService(microprofileLanguageServer,
 				propertiesTextDocumentService, sharedSettings, javaTextDocuments);
 		textDocumentServicesMap.put("properties", propertiesTextDocumentService);
@@ -0,0 +1,37 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesResult;
+
+/**
+ * MicroProfile Java features provider which returns together the diagnostics,
+ * the code lenses and the inlay hints of a Java file.
+ *
+ * <p>
+ * This request is sent only if the client declares the
+ * 'javaFeaturesSupport' extended client capability.
+ * </p>
+ *
+ */
+public interface MicroProfileJavaFeaturesProvider {
+
+	@JsonRequest("microprofile/java/features")
+	CompletableFuture<MicroProfileJavaFeaturesResult> getJavaFeatures(MicroProfileJavaFeaturesParams javaParams);
+
+}
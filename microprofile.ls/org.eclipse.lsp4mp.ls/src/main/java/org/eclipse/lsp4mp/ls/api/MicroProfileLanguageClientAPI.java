@@ -27,6 +27,7 @@ public interface MicroProfileLanguageClientAPI
 		MicroProfileJavaCompletionProvider, MicroProfileJavaDiagnosticsProvider, MicroProfileJavaDefinitionProvider,
 		MicroProfileJavaHoverProvider, MicroProfileJavaInlayHintProvider, MicroProfileJavaProjectLabelsProvider,
 		MicroProfileJavaFileInfoProvider, MicroProfileJavaCodeActionResolveProvider,
-		MicroProfileJavaCursorContextProvider, MicroProfileJavaWorkspaceSymbolsProvider {
+		MicroProfileJavaCursorContextProvider, MicroProfileJavaWorkspaceSymbolsProvider,
+		MicroProfileJavaFeaturesProvider {
 
 }
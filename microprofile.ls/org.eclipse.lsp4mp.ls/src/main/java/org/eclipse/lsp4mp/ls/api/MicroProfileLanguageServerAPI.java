@@ -13,6 +13,7 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.api;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
@@ -85,4 +86,13 @@ public interface MicroProfileLanguageServerAPI extends LanguageServer {
 	 */
 	@JsonRequest("microprofile/jsonSchemaForProjectInfo")
 	CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(MicroProfileProjectInfoParams params);
+
+	/**
+	 * Returns the statistics of the language server (latencies of the requests,
+	 * counters, validation and executors metrics).
+	 *
+	 * @return the statistics of the language server.
+	 */
+	@JsonRequest("microprofile/stats")
+	CompletableFuture<Map<String, Object>> getStatistics();
 }
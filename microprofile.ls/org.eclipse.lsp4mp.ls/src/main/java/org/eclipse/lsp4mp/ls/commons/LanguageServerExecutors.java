@@ -0,0 +1,145 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executors used by the language server to process the requests.
+ *
+ * <ul>
+ * <li>the request executor processes the LSP requests (completion, hover,
+ * etc).</li>
+ * <li>the project executor processes the MicroProfile project information
+ * loaded from the JDT LS extension.</li>
+ * </ul>
+ *
+ * <p>
+ * The validation uses its own bounded executor (see
+ * {@link ValidationScheduler}).
+ * </p>
+ *
+ * <p>
+ * System properties may influence the behavior:
+ * <ul>
+ * <li><i>lsp4mp.executor.virtualThreads</i>: if defined and value is true then
+ * tasks are executed with virtual threads (Java 21+) otherwise they are
+ * executed with bounded thread pools.</li>
+ * <li><i>lsp4mp.executor.requestThreads</i>: the maximum number of threads used
+ * to process requests (default: the number of available processors, at least
+ * 2).</li>
+ * <li><i>lsp4mp.executor.projectThreads</i>: the maximum number of threads used
+ * to process the project information (default: 2).</li>
+ * </ul>
+ * </p>
+ *
+ */
+public class LanguageServerExecutors {
+
+	private static final Logger LOGGER = Logger.getLogger(LanguageServerExecutors.class.getName());
+
+	public static final String VIRTUAL_THREADS_PROPERTY = "lsp4mp.executor.virtualThreads";
+
+	public static final String REQUEST_THREADS_PROPERTY = "lsp4mp.executor.requestThreads";
+
+	public static final String PROJECT_THREADS_PROPERTY = "lsp4mp.executor.projectThreads";
+
+	private static final int DEFAULT_PROJECT_THREADS = 2;
+
+	private static class LazyHolder {
+
+		private static final LanguageServerExecutors INSTANCE = new LanguageServerExecutors();
+	}
+
+	private final MeteredExecutor requestExecutor;
+
+	private final MeteredExecutor projectExecutor;
+
+	private LanguageServerExecutors() {
+		boolean virtualThreads = Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY);
+		int requestThreads = Integer.getInteger(REQUEST_THREADS_PROPERTY,
+				Math.max(2, Runtime.getRuntime().availableProcessors()));
+		int projectThreads = Integer.getInteger(PROJECT_THREADS_PROPERTY, DEFAULT_PROJECT_THREADS);
+		this.requestExecutor = new MeteredExecutor("request",
+				createExecutor("lsp4mp-request", requestThreads, virtualThreads));
+		this.projectExecutor = new MeteredExecutor("project",
+				createExecutor("lsp4mp-project", projectThreads, virtualThreads));
+	}
+
+	/**
+	 * Returns the executor used to process the LSP requests (completion, hover,
+	 * etc).
+	 *
+	 * @return the executor used to process the LSP requests (completion, hover,
+	 *         etc).
+	 */
+	public static MeteredExecutor getRequestExecutor() {
+		return LazyHolder.INSTANCE.requestExecutor;
+	}
+
+	/**
+	 * Returns the executor used to process the MicroProfile project information
+	 * loaded from the JDT LS extension.
+	 *
+	 * @return the executor used to process the MicroProfile project information
+	 *         loaded from the JDT LS extension.
+	 */
+	public static MeteredExecutor getProjectExecutor() {
+		return LazyHolder.INSTANCE.projectExecutor;
+	}
+
+	/**
+	 * Returns all executors.
+	 *
+	 * @return all executors.
+	 */
+	public static List<MeteredExecutor> getExecutors() {
+		return Arrays.asList(getRequestExecutor(), getProjectExecutor());
+	}
+
+	private static ExecutorService createExecutor(String name, int maxThreads, boolean virtualThreads) {
+		if (virtualThreads) {
+			try {
+				// Executors#newVirtualThreadPerTaskExecutor is available since Java 21
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException e) {
+				LOGGER.log(Level.WARNING, "Virtual threads are not available, use a thread pool for '" + name + "'.");
+			}
+		}
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), createThreadFactory(name));
+		// idle threads are stopped
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static ThreadFactory createThreadFactory(String name) {
+		AtomicInteger count = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
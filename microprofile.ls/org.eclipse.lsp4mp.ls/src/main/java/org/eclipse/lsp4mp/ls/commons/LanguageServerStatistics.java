@@ -0,0 +1,209 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+
+/**
+ * Latencies (see {@link LatencyHistogram}) and counters collected by the
+ * language server.
+ *
+ * <p>
+ * The JSON-RPC messages are traced (see {@link #createMessageTracer()}) to
+ * collect:
+ * <ul>
+ * <li><code>request/[method]</code>: the latency of the requests sent by the
+ * client (ex : <code>request/textDocument/completion</code>).</li>
+ * <li><code>notification/[method]</code>: the time spent to consume the
+ * notifications sent by the client (ex :
+ * <code>notification/textDocument/didChange</code>).</li>
+ * <li><code>client/[method]</code>: the round-trip time of the requests sent to
+ * the client (ex : <code>client/microprofile/projectInfo</code> which are
+ * delegated to the JDT LS extension).</li>
+ * </ul>
+ * </p>
+ *
+ */
+public class LanguageServerStatistics {
+
+	private static final LanguageServerStatistics INSTANCE = new LanguageServerStatistics();
+
+	/**
+	 * A request which waits for its response.
+	 */
+	private static class PendingRequest {
+
+		private final String method;
+
+		private final long startTime;
+
+		public PendingRequest(String method) {
+			this.method = method;
+			this.startTime = System.nanoTime();
+		}
+	}
+
+	private final Map<String, LatencyHistogram> latencies;
+
+	private final Map<String, AtomicLong> counters;
+
+	// requests sent by the client to the language server
+	private final Map<String, PendingRequest> serverRequests;
+
+	// requests sent by the language server to the client
+	private final Map<String, PendingRequest> clientRequests;
+
+	public LanguageServerStatistics() {
+		this.latencies = new ConcurrentHashMap<>();
+		this.counters = new ConcurrentHashMap<>();
+		this.serverRequests = new ConcurrentHashMap<>();
+		this.clientRequests = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the statistics of the language server.
+	 *
+	 * @return the statistics of the language server.
+	 */
+	public static LanguageServerStatistics getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Record the given latency for the given name.
+	 *
+	 * @param name  the latency name (ex : 'parse/PropertiesModel').
+	 * @param nanos the latency in nanoseconds.
+	 */
+	public void recordLatency(String name, long nanos) {
+		latencies.computeIfAbsent(name, k -> new LatencyHistogram()).record(nanos);
+	}
+
+	/**
+	 * Increment the counter with the given name.
+	 *
+	 * @param name the counter name (ex : 'projectInfoCache/hit').
+	 */
+	public void increment(String name) {
+		counters.computeIfAbsent(name, k -> new AtomicLong()).incrementAndGet();
+	}
+
+	/**
+	 * Returns the latency histogram for the given name and null otherwise.
+	 *
+	 * @param name the latency name.
+	 * @return the latency histogram for the given name and null otherwise.
+	 */
+	public LatencyHistogram getLatency(String name) {
+		return latencies.get(name);
+	}
+
+	/**
+	 * Returns the counter value for the given name.
+	 *
+	 * @param name the counter name.
+	 * @return the counter value for the given name.
+	 */
+	public long getCounter(String name) {
+		AtomicLong counter = counters.get(name);
+		return counter != null ? counter.get() : 0;
+	}
+
+	/**
+	 * Returns the latencies as map (sorted by name) to serialize them in JSON.
+	 *
+	 * @return the latencies as map (sorted by name) to serialize them in JSON.
+	 */
+	public Map<String, Object> getLatencies() {
+		Map<String, Object> result = new TreeMap<>();
+		latencies.forEach((name, histogram) -> result.put(name, histogram.toMap()));
+		return result;
+	}
+
+	/**
+	 * Returns the counters as map (sorted by name) to serialize them in JSON.
+	 *
+	 * @return the counters as map (sorted by name) to serialize them in JSON.
+	 */
+	public Map<String, Long> getCounters() {
+		Map<String, Long> result = new TreeMap<>();
+		counters.forEach((name, counter) -> result.put(name, counter.get()));
+		return result;
+	}
+
+	/**
+	 * Returns a message wrapper which traces the JSON-RPC messages to collect the
+	 * latencies of the requests and notifications.
+	 *
+	 * @return a message wrapper which traces the JSON-RPC messages.
+	 */
+	public Function<MessageConsumer, MessageConsumer> createMessageTracer() {
+		return consumer -> {
+			// LSP4J wraps the consumer which writes the outgoing messages in the output
+			// stream and the consumer which handles the incoming messages
+			boolean outgoing = consumer instanceof StreamMessageConsumer;
+			return message -> {
+				if (outgoing) {
+					if (message instanceof RequestMessage) {
+						RequestMessage request = (RequestMessage) message;
+						clientRequests.put(request.getId(), new PendingRequest(request.getMethod()));
+					} else if (message instanceof ResponseMessage) {
+						responseReceived((ResponseMessage) message, serverRequests, "request/");
+					}
+					consumer.consume(message);
+					return;
+				}
+				if (message instanceof RequestMessage) {
+					RequestMessage request = (RequestMessage) message;
+					serverRequests.put(request.getId(), new PendingRequest(request.getMethod()));
+				} else if (message instanceof ResponseMessage) {
+					responseReceived((ResponseMessage) message, clientRequests, "client/");
+				} else if (message instanceof NotificationMessage) {
+					long startTime = System.nanoTime();
+					try {
+						consumer.consume(message);
+					} finally {
+						recordLatency("notification/" + ((NotificationMessage) message).getMethod(),
+								System.nanoTime() - startTime);
+					}
+					return;
+				}
+				consumer.consume(message);
+			};
+		};
+	}
+
+	private void responseReceived(ResponseMessage response, Map<String, PendingRequest> pendingRequests,
+			String prefix) {
+		String id = response.getId();
+		PendingRequest request = id != null ? pendingRequests.remove(id) : null;
+		if (request == null) {
+			return;
+		}
+		recordLatency(prefix + request.method, System.nanoTime() - request.startTime);
+		if (response.getError() != null) {
+			increment(prefix + request.method + "/error");
+		}
+	}
+}
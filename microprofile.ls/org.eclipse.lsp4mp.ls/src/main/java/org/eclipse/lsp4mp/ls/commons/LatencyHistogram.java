@@ -0,0 +1,135 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies with fixed buckets (in milliseconds).
+ *
+ */
+public class LatencyHistogram {
+
+	private static final long[] BUCKETS_MS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000,
+			Long.MAX_VALUE };
+
+	private final AtomicLongArray buckets;
+
+	private final AtomicLong count;
+
+	private final AtomicLong totalNanos;
+
+	private final AtomicLong maxNanos;
+
+	public LatencyHistogram() {
+		this.buckets = new AtomicLongArray(BUCKETS_MS.length);
+		this.count = new AtomicLong();
+		this.totalNanos = new AtomicLong();
+		this.maxNanos = new AtomicLong();
+	}
+
+	/**
+	 * Record the given latency.
+	 *
+	 * @param nanos the latency in nanoseconds.
+	 */
+	public void record(long nanos) {
+		long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+		int i = 0;
+		while (ms > BUCKETS_MS[i]) {
+			i++;
+		}
+		buckets.incrementAndGet(i);
+		count.incrementAndGet();
+		totalNanos.addAndGet(nanos);
+		maxNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	/**
+	 * Returns the number of recorded latencies.
+	 *
+	 * @return the number of recorded latencies.
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Returns the average latency in milliseconds.
+	 *
+	 * @return the average latency in milliseconds.
+	 */
+	public double getAverage() {
+		long count = this.count.get();
+		return count == 0 ? 0 : toMillis(totalNanos.get()) / count;
+	}
+
+	/**
+	 * Returns the max latency in milliseconds.
+	 *
+	 * @return the max latency in milliseconds.
+	 */
+	public double getMax() {
+		return toMillis(maxNanos.get());
+	}
+
+	/**
+	 * Returns the upper bound (in milliseconds) of the bucket which contains the
+	 * given percentile of the recorded latencies and the max latency if it is the
+	 * last bucket.
+	 *
+	 * @param percentile the percentile (ex : 0.99).
+	 * @return the upper bound (in milliseconds) of the bucket which contains the
+	 *         given percentile of the recorded latencies.
+	 */
+	public double getPercentile(double percentile) {
+		long count = this.count.get();
+		if (count == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(percentile * count);
+		long current = 0;
+		for (int i = 0; i < BUCKETS_MS.length - 1; i++) {
+			current += buckets.get(i);
+			if (current >= rank) {
+				return Math.min(BUCKETS_MS[i], getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Returns the histogram as map to serialize it in JSON.
+	 *
+	 * @return the histogram as map to serialize it in JSON.
+	 */
+	public Map<String, Object> toMap() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("count", getCount());
+		result.put("avgMs", getAverage());
+		result.put("p50Ms", getPercentile(0.5));
+		result.put("p90Ms", getPercentile(0.9));
+		result.put("p99Ms", getPercentile(0.99));
+		result.put("maxMs", getMax());
+		return result;
+	}
+
+	private static double toMillis(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos) / 1000d;
+	}
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor which delegates the execution of the tasks to a given executor and
+ * collects the queue depth and the latency of the tasks.
+ *
+ */
+public class MeteredExecutor implements Executor {
+
+	private final String name;
+
+	private final Executor delegate;
+
+	private final AtomicInteger queuedTasks;
+
+	private final AtomicInteger runningTasks;
+
+	private final AtomicLong completedTasks;
+
+	private final AtomicLong totalWaitTime;
+
+	private final AtomicLong totalExecutionTime;
+
+	public MeteredExecutor(String name, Executor delegate) {
+		this.name = name;
+		this.delegate = delegate;
+		this.queuedTasks = new AtomicInteger();
+		this.runningTasks = new AtomicInteger();
+		this.completedTasks = new AtomicLong();
+		this.totalWaitTime = new AtomicLong();
+		this.totalExecutionTime = new AtomicLong();
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		long queuedTime = System.nanoTime();
+		queuedTasks.incrementAndGet();
+		try {
+			delegate.execute(() -> {
+				queuedTasks.decrementAndGet();
+				runningTasks.incrementAndGet();
+				long startTime = System.nanoTime();
+				totalWaitTime.addAndGet(startTime - queuedTime);
+				try {
+					command.run();
+				} finally {
+					totalExecutionTime.addAndGet(System.nanoTime() - startTime);
+					runningTasks.decrementAndGet();
+					completedTasks.incrementAndGet();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			queuedTasks.decrementAndGet();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the executor name.
+	 *
+	 * @return the executor name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of tasks which are waiting for an available thread.
+	 *
+	 * @return the number of tasks which are waiting for an available thread.
+	 */
+	public int getQueueDepth() {
+		return queuedTasks.get();
+	}
+
+	/**
+	 * Returns the number of running tasks.
+	 *
+	 * @return the number of running tasks.
+	 */
+	public int getRunningTasks() {
+		return runningTasks.get();
+	}
+
+	/**
+	 * Returns the number of completed tasks.
+	 *
+	 * @return the number of completed tasks.
+	 */
+	public long getCompletedTasks() {
+		return completedTasks.get();
+	}
+
+	/**
+	 * Returns the average time (in milliseconds) that tasks wait in the queue
+	 * before being executed.
+	 *
+	 * @return the average time (in milliseconds) that tasks wait in the queue
+	 *         before being executed.
+	 */
+	public double getAverageWaitTime() {
+		return average(totalWaitTime.get());
+	}
+
+	/**
+	 * Returns the average time (in milliseconds) of the execution of the tasks.
+	 *
+	 * @return the average time (in milliseconds) of the execution of the tasks.
+	 */
+	public double getAverageExecutionTime() {
+		return average(totalExecutionTime.get());
+	}
+
+	/**
+	 * Returns the metrics as map to serialize them in JSON.
+	 *
+	 * @return the metrics as map to serialize them in JSON.
+	 */
+	public Map<String, Object> toMap() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("queueDepth", getQueueDepth());
+		result.put("running", getRunningTasks());
+		result.put("completed", getCompletedTasks());
+		result.put("avgWaitMs", getAverageWaitTime());
+		result.put("avgExecutionMs", getAverageExecutionTime());
+		return result;
+	}
+
+	private double average(long totalNanos) {
+		long count = completedTasks.get();
+		return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos) / 1000d / count;
+	}
+}
@@ -69,6 +69,7 @@ public class ModelTextDocument<T> extends TextDocument {
 		}
 		int version = super.getVersion();
 		long start = System.currentTimeMillis();
+		long startTime = System.nanoTime();
 		try {
 			LOGGER.fine("Start parsing of model with version '" + version);
 			// Stop of parse process can be done when completable future is canceled or when
@@ -76,7 +77,12 @@ public class ModelTextDocument<T> extends TextDocument {
 			CancelChecker cancelChecker = new TextDocumentVersionChecker(this, version);
 			// parse the model
 			model = parse.apply(this, cancelChecker);
+			if (model != null) {
+				LanguageServerStatistics.getInstance().recordLatency(
+						"parse/" + model.getClass().getSimpleName(), System.nanoTime() - startTime);
+			}
 		} catch (CancellationException e) {
+			LanguageServerStatistics.getInstance().increment("parse/cancelled");
 			LOGGER.fine("Stop parsing parsing of model with version '" + version + "' in "
 					+ (System.currentTimeMillis() - start) + "ms");
 			throw e;
@@ -88,8 +94,7 @@ public class ModelTextDocument<T> extends TextDocument {
 	}
 
 	@Override
-	public void setText(String text) {
-		super.setText(text);
+	protected void textChanged() {
 		// text changed, mark the model as dirty
 		cancelModel();
 	}
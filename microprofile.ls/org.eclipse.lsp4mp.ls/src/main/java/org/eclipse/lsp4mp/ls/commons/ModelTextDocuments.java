@@ -110,7 +110,7 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 	 */
 	public <R> CompletableFuture<R> computeModelAsync(TextDocumentIdentifier documentIdentifier,
 			BiFunction<T, CancelChecker, R> code) {
-		return CompletableFutures.computeAsync(cancelChecker -> {
+		return CompletableFutures.computeAsync(LanguageServerExecutors.getRequestExecutor(), cancelChecker -> {
 			// Get or parse the model.
 			T model = getModel(documentIdentifier);
 			if (model == null) {
@@ -149,7 +149,7 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 
 	private static <R> CompletableFuture<R> computeAsyncCompose(Function<CancelChecker, CompletableFuture<R>> code) {
 		CompletableFuture<CancelChecker> start = new CompletableFuture<>();
-		CompletableFuture<R> result = start.thenComposeAsync(code);
+		CompletableFuture<R> result = start.thenComposeAsync(code, LanguageServerExecutors.getRequestExecutor());
 		start.complete(new FutureCancelChecker(result));
 		return result;
 	}
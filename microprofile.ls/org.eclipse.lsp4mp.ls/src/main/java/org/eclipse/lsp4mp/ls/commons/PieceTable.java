@@ -0,0 +1,237 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Piece table used to store the content of a {@link TextDocument}.
+ *
+ * <p>
+ * The content is a list of pieces which reference either the original text or
+ * an append-only buffer which stores the inserted texts. A replace costs the
+ * size of the inserted text (and a walk of the pieces) instead of a copy of the
+ * whole content. The content is materialized as string only when it is
+ * required (ex : to parse the document), and the pieces are compacted at this
+ * moment.
+ * </p>
+ *
+ */
+public class PieceTable {
+
+	private static final int MAX_PIECES = 1024;
+
+	/**
+	 * A piece of the content.
+	 */
+	private static class Piece {
+
+		// true if the piece references the added buffer and false if it references the
+		// original text.
+		private final boolean added;
+
+		private final int start;
+
+		private final int length;
+
+		public Piece(boolean added, int start, int length) {
+			this.added = added;
+			this.start = start;
+			this.length = length;
+		}
+	}
+
+	private String original;
+
+	private StringBuilder added;
+
+	private final List<Piece> pieces;
+
+	private int length;
+
+	// the materialized content and null if the content changed since the last
+	// materialization
+	private String text;
+
+	public PieceTable(String text) {
+		this.pieces = new ArrayList<>();
+		set(text);
+	}
+
+	/**
+	 * Set the whole content.
+	 *
+	 * @param text the new content.
+	 */
+	public synchronized void set(String text) {
+		this.original = text != null ? text : "";
+		this.added = new StringBuilder();
+		this.pieces.clear();
+		this.length = original.length();
+		if (length > 0) {
+			pieces.add(new Piece(false, 0, length));
+		}
+		this.text = original;
+	}
+
+	/**
+	 * Returns the length of the content.
+	 *
+	 * @return the length of the content.
+	 */
+	public synchronized int length() {
+		return length;
+	}
+
+	/**
+	 * Replace the given range of the content with the given text.
+	 *
+	 * @param offset the start offset of the range to replace.
+	 * @param length the length of the range to replace.
+	 * @param text   the text to insert.
+	 * @throws BadLocationException if the range is not in the content.
+	 */
+	public synchronized void replace(int offset, int length, String text) throws BadLocationException {
+		if (offset < 0 || length < 0 || offset + length > this.length) {
+			throw new BadLocationException("Invalid range [" + offset + ", " + (offset + length)
+					+ "] for content with length " + this.length);
+		}
+		int index = split(offset);
+		if (length > 0) {
+			int end = split(offset + length);
+			pieces.subList(index, end).clear();
+		}
+		if (text != null && !text.isEmpty()) {
+			Piece previous = index > 0 ? pieces.get(index - 1) : null;
+			if (previous != null && previous.added && previous.start + previous.length == added.length()) {
+				// The text is inserted after the last inserted text (ex : typing), extend the
+				// previous piece
+				pieces.set(index - 1, new Piece(true, previous.start, previous.length + text.length()));
+			} else {
+				pieces.add(index, new Piece(true, added.length(), text.length()));
+			}
+			added.append(text);
+		}
+		this.length += (text != null ? text.length() : 0) - length;
+		this.text = null;
+		if (pieces.size() > MAX_PIECES) {
+			compact();
+		}
+	}
+
+	/**
+	 * Returns the content between the given offsets.
+	 *
+	 * @param start the start offset (inclusive).
+	 * @param end   the end offset (exclusive).
+	 * @return the content between the given offsets.
+	 */
+	public synchronized String substring(int start, int end) {
+		if (text != null) {
+			return text.substring(start, end);
+		}
+		if (start < 0 || end > length || start > end) {
+			throw new StringIndexOutOfBoundsException(
+					"Invalid range [" + start + ", " + end + "] for content with length " + length);
+		}
+		StringBuilder result = new StringBuilder(end - start);
+		int pieceStart = 0;
+		for (Piece piece : pieces) {
+			int pieceEnd = pieceStart + piece.length;
+			if (pieceEnd > start && pieceStart < end) {
+				int from = Math.max(start, pieceStart) - pieceStart + piece.start;
+				int to = Math.min(end, pieceEnd) - pieceStart + piece.start;
+				if (piece.added) {
+					result.append(added, from, to);
+				} else {
+					result.append(original, from, to);
+				}
+			}
+			if (pieceEnd >= end) {
+				break;
+			}
+			pieceStart = pieceEnd;
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Returns the whole content.
+	 *
+	 * @return the whole content.
+	 */
+	public synchronized String getText() {
+		if (text == null) {
+			compact();
+		}
+		return text;
+	}
+
+	/**
+	 * Returns the number of pieces.
+	 *
+	 * @return the number of pieces.
+	 */
+	synchronized int getPieceCount() {
+		return pieces.size();
+	}
+
+	@Override
+	public String toString() {
+		return getText();
+	}
+
+	/**
+	 * Split the piece which contains the given offset and returns the index of the
+	 * piece which starts at the given offset.
+	 *
+	 * @param offset the offset.
+	 * @return the index of the piece which starts at the given offset.
+	 */
+	private int split(int offset) {
+		int pieceStart = 0;
+		for (int i = 0; i < pieces.size(); i++) {
+			if (pieceStart == offset) {
+				return i;
+			}
+			Piece piece = pieces.get(i);
+			int pieceEnd = pieceStart + piece.length;
+			if (offset < pieceEnd) {
+				int leftLength = offset - pieceStart;
+				pieces.set(i, new Piece(piece.added, piece.start, leftLength));
+				pieces.add(i + 1, new Piece(piece.added, piece.start + leftLength, piece.length - leftLength));
+				return i + 1;
+			}
+			pieceStart = pieceEnd;
+		}
+		return pieces.size();
+	}
+
+	/**
+	 * Materialize the content and replace the pieces with one piece which
+	 * references it.
+	 */
+	private void compact() {
+		StringBuilder result = new StringBuilder(length);
+		for (Piece piece : pieces) {
+			if (piece.added) {
+				result.append(added, piece.start, piece.start + piece.length);
+			} else {
+				result.append(original, piece.start, piece.start + piece.length);
+			}
+		}
+		set(result.toString());
+	}
+}
@@ -27,6 +27,11 @@ import org.eclipse.lsp4j.TextDocumentItem;
  * Text document extends LSP4j {@link TextDocumentItem} to provide methods to
  * retrieve position.
  *
+ * <p>
+ * The content is stored in a {@link PieceTable} to update it with the cost of
+ * the changes instead of the cost of the whole content.
+ * </p>
+ *
  */
 public class TextDocument extends TextDocumentItem {
 
@@ -36,6 +41,8 @@ public class TextDocument extends TextDocumentItem {
 
 	private static String DEFAULT_DELIMTER = System.lineSeparator();
 
+	private final PieceTable buffer;
+
 	private ILineTracker lineTracker;
 
 	private boolean incremental;
@@ -48,7 +55,25 @@ public class TextDocument extends TextDocumentItem {
 
 	public TextDocument(String text, String uri) {
 		super.setUri(uri);
-		super.setText(text);
+		this.buffer = new PieceTable(text);
+	}
+
+	@Override
+	public String getText() {
+		return buffer.getText();
+	}
+
+	@Override
+	public void setText(String text) {
+		buffer.set(text);
+		textChanged();
+	}
+
+	/**
+	 * Called when the text of the document changed.
+	 */
+	protected void textChanged() {
+		// Do nothing
 	}
 
 	public void setIncremental(boolean incremental) {
@@ -82,8 +107,7 @@ public class TextDocument extends TextDocumentItem {
 	public String lineText(int lineNumber) throws BadLocationException {
 		ILineTracker lineTracker = getLineTracker();
 		Line line = lineTracker.getLineInformation(lineNumber);
-		String text = super.getText();
-		return text.substring(line.offset, line.offset + line.length);
+		return buffer.substring(line.offset, line.offset + line.length);
 	}
 
 	public String lineDelimiter(int lineNumber) throws BadLocationException {
@@ -105,8 +129,7 @@ public class TextDocument extends TextDocumentItem {
 			Position pos = positionAt(textOffset);
 			ILineTracker lineTracker = getLineTracker();
 			Line line = lineTracker.getLineInformation(pos.getLine());
-			String text = super.getText();
-			String lineText = text.substring(line.offset, textOffset);
+			String lineText = buffer.substring(line.offset, textOffset);
 			int position = lineText.length();
 			Matcher m = wordDefinition.matcher(lineText);
 			int currentPosition = 0;
@@ -139,7 +162,7 @@ public class TextDocument extends TextDocumentItem {
 			return lineTracker;
 		}
 		ILineTracker lineTracker = isIncremental() ? new TreeLineTracker(new ListLineTracker()) : new ListLineTracker();
-		lineTracker.set(super.getText());
+		lineTracker.set(getText());
 		return lineTracker;
 	}
 
@@ -158,34 +181,32 @@ public class TextDocument extends TextDocumentItem {
 			try {
 				long start = System.currentTimeMillis();
 				synchronized (lock) {
-					// Initialize buffer and line tracker from the current text document
-					StringBuilder buffer = new StringBuilder(getText());
-
 					// Loop for each changes and update the buffer
 					for (int i = 0; i < changes.size(); i++) {
 
 						TextDocumentContentChangeEvent changeEvent = changes.get(i);
 						Range range = changeEvent.getRange();
 						int length = 0;
+						int startOffset = 0;
 
 						if (range != null) {
-							length = changeEvent.getRangeLength().intValue();
+							// rangeLength is deprecated and optional, compute the length with the range
+							startOffset = offsetAt(range.getStart());
+							length = offsetAt(range.getEnd()) - startOffset;
 						} else {
 							// range is optional and if not given, the whole file content is replaced
 							length = buffer.length();
-							range = new Range(positionAt(0), positionAt(length));
 						}
 						String text = changeEvent.getText();
-						int startOffset = offsetAt(range.getStart());
-						buffer.replace(startOffset, startOffset + length, text);
+						buffer.replace(startOffset, length, text);
 						lineTracker.replace(startOffset, length, text);
 					}
-					// Update the new text content from the updated buffer
-					setText(buffer.toString());
 				}
 				LOGGER.fine("Text document content updated in " + (System.currentTimeMillis() - start) + "ms");
 			} catch (BadLocationException e) {
 				// Should never occur.
+			} finally {
+				textChanged();
 			}
 		} else {
 			// like vscode does, get the last changes
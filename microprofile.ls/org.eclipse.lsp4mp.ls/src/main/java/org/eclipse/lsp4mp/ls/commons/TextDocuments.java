@@ -14,8 +14,8 @@
 package org.eclipse.lsp4mp.ls.commons;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
@@ -24,7 +24,12 @@ import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 
 /**
- * A manager for simple text documents
+ * A manager for simple text documents.
+ *
+ * <p>
+ * The documents are stored in a concurrent map, and each document updates its
+ * content under its own lock, so changes of unrelated documents don't contend.
+ * </p>
  */
 public class TextDocuments<T extends TextDocument> {
 
@@ -33,7 +38,7 @@ public class TextDocuments<T extends TextDocument> {
 	private boolean incremental = true; // default on
 
 	public TextDocuments() {
-		documents = new HashMap<>();
+		documents = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -43,9 +48,7 @@ public class TextDocuments<T extends TextDocument> {
 	 */
 	public void setIncremental(boolean incremental) {
 		this.incremental = incremental;
-		synchronized (documents) {
-			documents.values().forEach(document -> document.setIncremental(incremental));
-		}
+		documents.values().forEach(document -> document.setIncremental(incremental));
 	}
 
 	/**
@@ -67,9 +70,7 @@ public class TextDocuments<T extends TextDocument> {
 	 * @return the text document or `undefined`.
 	 */
 	public T get(String uri) {
-		synchronized (documents) {
-			return documents.get(uri);
-		}
+		return documents.get(uri);
 	}
 
 	public T createDocument(TextDocumentItem document) {
@@ -79,34 +80,24 @@ public class TextDocuments<T extends TextDocument> {
 	}
 
 	public T onDidChangeTextDocument(DidChangeTextDocumentParams params) {
-		synchronized (documents) {
-			T document = getDocument(params.getTextDocument());
-			if (document != null) {
-				document.setVersion(params.getTextDocument().getVersion());
-				document.update(params.getContentChanges());
-				return document;
-			}
+		T document = getDocument(params.getTextDocument());
+		if (document != null) {
+			document.setVersion(params.getTextDocument().getVersion());
+			document.update(params.getContentChanges());
+			return document;
 		}
 		return null;
 	}
 
 	public T onDidOpenTextDocument(DidOpenTextDocumentParams params) {
 		TextDocumentItem item = params.getTextDocument();
-		synchronized (documents) {
-			T document = createDocument(item);
-			documents.put(document.getUri(), document);
-			return document;
-		}
+		T document = createDocument(item);
+		documents.put(document.getUri(), document);
+		return document;
 	}
 
 	public T onDidCloseTextDocument(DidCloseTextDocumentParams params) {
-		synchronized (documents) {
-			T document = getDocument(params.getTextDocument());
-			if (document != null) {
-				documents.remove(params.getTextDocument().getUri());
-			}
-			return document;
-		}
+		return documents.remove(params.getTextDocument().getUri());
 	}
 
 	private T getDocument(TextDocumentIdentifier identifier) {
@@ -119,9 +110,7 @@ public class TextDocuments<T extends TextDocument> {
 	 * @return the all opened documents.
 	 */
 	public Collection<T> all() {
-		synchronized (documents) {
-			return documents.values();
-		}
+		return documents.values();
 	}
 
 }
@@ -0,0 +1,412 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Validation scheduler shared by all documents (properties and Java files) of
+ * the language server.
+ *
+ * <ul>
+ * <li>validations are coalesced per document URI: a new validation request for
+ * a document cancels the pending (delayed or queued) validation and the
+ * running validation of this document.</li>
+ * <li>validations of the active document (the document which is opened or
+ * edited by the user) are executed before validations triggered in background
+ * (ex : Java file saved, classpath changed).</li>
+ * <li>the number of running validations (including asynchronous validations
+ * like Java diagnostics computed by the JDT LS extension) is limited.</li>
+ * </ul>
+ *
+ */
+public class ValidationScheduler {
+
+	private static final Logger LOGGER = Logger.getLogger(ValidationScheduler.class.getName());
+
+	public static final int DEFAULT_MAX_CONCURRENT_VALIDATIONS = 2;
+
+	/**
+	 * Validation priority.
+	 */
+	public static enum Priority {
+
+		/**
+		 * The document is opened / edited by the user.
+		 */
+		ACTIVE,
+
+		/**
+		 * The validation is triggered in background (ex : Java file saved, classpath
+		 * changed, settings changed).
+		 */
+		BACKGROUND;
+	}
+
+	private class ValidationRequest implements Comparable<ValidationRequest> {
+
+		private final String uri;
+
+		private final Priority priority;
+
+		private final long order;
+
+		private final Supplier<CompletableFuture<?>> validation;
+
+		private ScheduledFuture<?> delayedFuture;
+
+		private CompletableFuture<?> runningFuture;
+
+		private long queuedTime;
+
+		private long startTime;
+
+		private volatile boolean cancelled;
+
+		private volatile boolean running;
+
+		// true when the request has been counted as cancelled
+		private final AtomicBoolean countedAsCancelled = new AtomicBoolean();
+
+		public ValidationRequest(String uri, Priority priority, Supplier<CompletableFuture<?>> validation) {
+			this.uri = uri;
+			this.priority = priority;
+			this.order = sequence.incrementAndGet();
+			this.validation = validation;
+		}
+
+		public void run() {
+			if (cancelled) {
+				done(false);
+				return;
+			}
+			startTime = System.nanoTime();
+			executedValidations.incrementAndGet();
+			totalWaitTime.addAndGet(startTime - queuedTime);
+			CompletableFuture<?> future = null;
+			try {
+				future = validation.get();
+			} catch (CancellationException e) {
+				// The document has changed
+			} catch (Throwable e) {
+				LOGGER.log(Level.SEVERE, "Error while validating '" + uri + "'.", e);
+			}
+			if (future == null || future.isDone()) {
+				done(true);
+				return;
+			}
+			synchronized (this) {
+				runningFuture = future;
+				if (cancelled) {
+					future.cancel(true);
+				}
+			}
+			future.whenComplete((result, error) -> done(true));
+		}
+
+		public void cancel() {
+			synchronized (this) {
+				if (cancelled) {
+					// already cancelled (ex : cancelled by the scheduler and then superseded by a
+					// new request)
+					return;
+				}
+				cancelled = true;
+				if (delayedFuture != null && delayedFuture.cancel(false)) {
+					countCancelled();
+				}
+				if (runningFuture != null) {
+					runningFuture.cancel(true);
+				}
+			}
+			synchronized (queue) {
+				if (queue.remove(this)) {
+					countCancelled();
+				}
+			}
+			requests.remove(uri, this);
+		}
+
+		private void done(boolean executed) {
+			if (executed) {
+				totalValidationTime.addAndGet(System.nanoTime() - startTime);
+				if (cancelled) {
+					countCancelled();
+				} else {
+					completedValidations.incrementAndGet();
+				}
+			} else {
+				countCancelled();
+			}
+			requests.remove(uri, this);
+			synchronized (queue) {
+				runningValidations--;
+			}
+			dispatch();
+		}
+
+		/**
+		 * Count this request as cancelled, once.
+		 */
+		private void countCancelled() {
+			if (countedAsCancelled.compareAndSet(false, true)) {
+				cancelledValidations.incrementAndGet();
+			}
+		}
+
+		@Override
+		public int compareTo(ValidationRequest other) {
+			int result = priority.compareTo(other.priority);
+			return result != 0 ? result : Long.compare(order, other.order);
+		}
+	}
+
+	private final Map<String, ValidationRequest> requests;
+
+	private final PriorityQueue<ValidationRequest> queue;
+
+	private final int maxConcurrentValidations;
+
+	private final ScheduledExecutorService delayer;
+
+	private final ExecutorService executor;
+
+	private final AtomicLong sequence;
+
+	private int runningValidations;
+
+	// Metrics
+
+	private final AtomicLong executedValidations;
+
+	private final AtomicLong completedValidations;
+
+	private final AtomicLong cancelledValidations;
+
+	private final AtomicLong totalWaitTime;
+
+	private final AtomicLong totalValidationTime;
+
+	public ValidationScheduler() {
+		this(DEFAULT_MAX_CONCURRENT_VALIDATIONS);
+	}
+
+	public ValidationScheduler(int maxConcurrentValidations) {
+		this.maxConcurrentValidations = maxConcurrentValidations;
+		this.requests = new ConcurrentHashMap<>();
+		this.queue = new PriorityQueue<>();
+		this.delayer = Executors.newSingleThreadScheduledExecutor(createThreadFactory("lsp4mp-validation-delayer"));
+		this.executor = Executors.newFixedThreadPool(maxConcurrentValidations,
+				createThreadFactory("lsp4mp-validation"));
+		this.sequence = new AtomicLong();
+		this.executedValidations = new AtomicLong();
+		this.completedValidations = new AtomicLong();
+		this.cancelledValidations = new AtomicLong();
+		this.totalWaitTime = new AtomicLong();
+		this.totalValidationTime = new AtomicLong();
+	}
+
+	/**
+	 * Schedule the validation of the document identified by the given
+	 * <code>uri</code>. The pending and running validation of this document are
+	 * cancelled.
+	 *
+	 * @param uri        the document URI.
+	 * @param priority   the validation priority.
+	 * @param delayMs    the delay in milliseconds before executing the validation.
+	 * @param validation the validation to execute which returns a future when the
+	 *                   validation is asynchronous and null otherwise.
+	 */
+	public void schedule(String uri, Priority priority, long delayMs, Supplier<CompletableFuture<?>> validation) {
+		ValidationRequest request = new ValidationRequest(uri, priority, validation);
+		ValidationRequest oldRequest = requests.put(uri, request);
+		if (oldRequest != null) {
+			oldRequest.cancel();
+		}
+		if (delayMs > 0) {
+			synchronized (request) {
+				request.delayedFuture = delayer.schedule(() -> enqueue(request), delayMs, TimeUnit.MILLISECONDS);
+			}
+		} else {
+			enqueue(request);
+		}
+	}
+
+	/**
+	 * Cancel the pending and running validation of the document identified by the
+	 * given <code>uri</code>.
+	 *
+	 * @param uri the document URI.
+	 */
+	public void cancel(String uri) {
+		ValidationRequest request = requests.get(uri);
+		if (request != null) {
+			request.cancel();
+		}
+	}
+
+	/**
+	 * Returns true if the document identified by the given <code>uri</code> has a
+	 * validation which is waiting to be executed and false otherwise.
+	 *
+	 * @param uri the document URI.
+	 * @return true if the document identified by the given <code>uri</code> has a
+	 *         validation which is waiting to be executed and false otherwise.
+	 */
+	public boolean isPending(String uri) {
+		ValidationRequest request = requests.get(uri);
+		return request != null && !request.running;
+	}
+
+	private void enqueue(ValidationRequest request) {
+		if (request.cancelled) {
+			return;
+		}
+		request.queuedTime = System.nanoTime();
+		synchronized (queue) {
+			queue.add(request);
+		}
+		dispatch();
+	}
+
+	private void dispatch() {
+		synchronized (queue) {
+			while (runningValidations < maxConcurrentValidations && !queue.isEmpty()) {
+				ValidationRequest request = queue.poll();
+				request.running = true;
+				runningValidations++;
+				executor.execute(request::run);
+			}
+		}
+	}
+
+	/**
+	 * Shutdown the scheduler.
+	 */
+	public void shutdown() {
+		delayer.shutdownNow();
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Returns the number of validations which are waiting for an available slot.
+	 *
+	 * @return the number of validations which are waiting for an available slot.
+	 */
+	public int getQueueDepth() {
+		synchronized (queue) {
+			return queue.size();
+		}
+	}
+
+	/**
+	 * Returns the number of running validations.
+	 *
+	 * @return the number of running validations.
+	 */
+	public int getRunningValidations() {
+		synchronized (queue) {
+			return runningValidations;
+		}
+	}
+
+	/**
+	 * Returns the number of completed validations.
+	 *
+	 * @return the number of completed validations.
+	 */
+	public long getCompletedValidations() {
+		return completedValidations.get();
+	}
+
+	/**
+	 * Returns the number of validations which have been cancelled because a newer
+	 * version of the document must be validated or because the document has been
+	 * closed.
+	 *
+	 * @return the number of cancelled validations.
+	 */
+	public long getCancelledValidations() {
+		return cancelledValidations.get();
+	}
+
+	/**
+	 * Returns the average time (in milliseconds) that validations wait in the
+	 * queue before being executed.
+	 *
+	 * @return the average time (in milliseconds) that validations wait in the
+	 *         queue before being executed.
+	 */
+	public double getAverageWaitTime() {
+		return average(totalWaitTime.get());
+	}
+
+	/**
+	 * Returns the average time (in milliseconds) of the execution of the
+	 * validations.
+	 *
+	 * @return the average time (in milliseconds) of the execution of the
+	 *         validations.
+	 */
+	public double getAverageValidationTime() {
+		return average(totalValidationTime.get());
+	}
+
+	/**
+	 * Returns the metrics as map to serialize them in JSON.
+	 *
+	 * @return the metrics as map to serialize them in JSON.
+	 */
+	public Map<String, Object> toMap() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("queueDepth", getQueueDepth());
+		result.put("running", getRunningValidations());
+		result.put("completed", getCompletedValidations());
+		result.put("cancelled", getCancelledValidations());
+		result.put("avgWaitMs", getAverageWaitTime());
+		result.put("avgValidationMs", getAverageValidationTime());
+		return result;
+	}
+
+	private double average(long totalNanos) {
+		long count = executedValidations.get();
+		return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos) / 1000d / count;
+	}
+
+	private static ThreadFactory createThreadFactory(String name) {
+		AtomicInteger count = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
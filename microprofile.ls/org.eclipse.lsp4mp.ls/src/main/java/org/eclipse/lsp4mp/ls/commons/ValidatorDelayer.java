@@ -13,16 +13,15 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.commons;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.eclipse.lsp4mp.ls.commons.ValidationScheduler.Priority;
 
 /**
- * Validate a given document with delay.
+ * Validate a given document with delay by using the shared
+ * {@link ValidationScheduler}.
  *
  * @param <T>
  */
@@ -30,58 +29,55 @@ public class ValidatorDelayer<T extends TextDocument> {
 
 	public static final long DEFAULT_VALIDATION_DELAY_MS = 500;
 
-	private final ScheduledExecutorService executorService;
-
-	private final Consumer<T> validator;
+	private final ValidationScheduler scheduler;
 
-	private final Map<String, Future<?>> pendingValidationRequests;
+	private final Function<T, CompletableFuture<?>> validator;
 
 	private final long validationDelayMs;
 
-	public ValidatorDelayer(Consumer<T> validator) {
-		this(Executors.newScheduledThreadPool(2), validator, DEFAULT_VALIDATION_DELAY_MS);
+	public ValidatorDelayer(ValidationScheduler scheduler, Function<T, CompletableFuture<?>> validator) {
+		this(scheduler, validator, DEFAULT_VALIDATION_DELAY_MS);
 	}
 
-	public ValidatorDelayer(ScheduledExecutorService executorService, Consumer<T> validator,
+	public ValidatorDelayer(ValidationScheduler scheduler, Function<T, CompletableFuture<?>> validator,
 			long validationDelayMs) {
-		this.executorService = executorService;
+		this.scheduler = scheduler;
 		this.validator = validator;
-		this.pendingValidationRequests = new HashMap<>();
 		this.validationDelayMs = validationDelayMs;
 	}
 
 	/**
-	 * Validate the given model <code>document</code> identified by the given
-	 * <code>uri</code> with a delay.
+	 * Validate the given model <code>document</code> with a delay.
 	 *
-	 * @param uri      the document URI.
 	 * @param document the document model to validate.
 	 */
 	public void validateWithDelay(T document) {
-		String uri = document.getUri();
-		cleanPendingValidation(uri);
+		schedule(document, Priority.ACTIVE, validationDelayMs);
+	}
+
+	/**
+	 * Validate the given model <code>document</code> without delay.
+	 *
+	 * @param document the document model to validate.
+	 * @param priority the validation priority.
+	 */
+	public void validate(T document, Priority priority) {
+		schedule(document, priority, 0);
+	}
+
+	private void schedule(T document, Priority priority, long delayMs) {
 		int version = document.getVersion();
-		Future<?> request = executorService.schedule(() -> {
-			synchronized (pendingValidationRequests) {
-				pendingValidationRequests.remove(uri);
-			}
-			if (version == document.getVersion()) {
-				validator.accept(document);
+		scheduler.schedule(document.getUri(), priority, delayMs, () -> {
+			if (version != document.getVersion()) {
+				// a newer version of the document has been scheduled
+				throw new CancellationException();
 			}
-		}, validationDelayMs, TimeUnit.MILLISECONDS);
-		synchronized (pendingValidationRequests) {
-			pendingValidationRequests.put(uri, request);
-		}
+			return validator.apply(document);
+		});
 	}
 
 	public void cleanPendingValidation(String uri) {
-		synchronized (pendingValidationRequests) {
-			Future<?> request = pendingValidationRequests.get(uri);
-			if (request != null) {
-				request.cancel(true);
-				pendingValidationRequests.remove(uri);
-			}
-		}
+		scheduler.cancel(uri);
 	}
 
 	/**
@@ -91,8 +87,6 @@ public class ValidatorDelayer<T extends TextDocument> {
 	 * @return true if the document has a revalidation pending and false otherwise
 	 */
 	public boolean isRevalidating(String uri) {
-		synchronized (pendingValidationRequests) {
-			return pendingValidationRequests.containsKey(uri);
-		}
+		return scheduler.isPending(uri);
 	}
 }
@@ -26,6 +26,8 @@ public class ExtendedClientCapabilities {
 
 	private boolean shouldLanguageServerExitOnShutdown;
 
+	private boolean javaFeaturesSupport;
+
 	public CommandCapabilities getCommands() {
 		return commands;
 	}
@@ -62,4 +64,26 @@ public class ExtendedClientCapabilities {
 		return shouldLanguageServerExitOnShutdown;
 	}
 
+	/**
+	 * Sets the boolean which declares that the client forwards the
+	 * 'microprofile/java/features' request to the Java language server component.
+	 *
+	 * @param javaFeaturesSupport
+	 */
+	public void setJavaFeaturesSupport(boolean javaFeaturesSupport) {
+		this.javaFeaturesSupport = javaFeaturesSupport;
+	}
+
+	/**
+	 * Returns true if the client forwards the 'microprofile/java/features' request
+	 * which returns together the diagnostics, the code lenses and the inlay hints
+	 * of a Java file and false otherwise.
+	 *
+	 * @return true if the client supports the 'microprofile/java/features'
+	 *         request and false otherwise.
+	 */
+	public boolean isJavaFeaturesSupport() {
+		return javaFeaturesSupport;
+	}
+
 }
\ No newline at end of file
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -57,8 +58,83 @@ public class SnippetRegistry {
 
 	private static final Logger LOGGER = Logger.getLogger(SnippetRegistry.class.getName());
 
+	private static final int MAX_RENDERED_SNIPPETS = 1000;
+
+	/**
+	 * Key of a rendered snippet: the snippet and the parameters used to render
+	 * its insert text and documentation.
+	 */
+	private static class RenderKey {
+
+		private final Snippet snippet;
+
+		private final boolean canSupportMarkdown;
+
+		private final boolean snippetsSupported;
+
+		private final String lineDelimiter;
+
+		private final Map<String, String> model;
+
+		private final int hashCode;
+
+		public RenderKey(Snippet snippet, boolean canSupportMarkdown, boolean snippetsSupported,
+				String lineDelimiter, Map<String, String> model) {
+			this.snippet = snippet;
+			this.canSupportMarkdown = canSupportMarkdown;
+			this.snippetsSupported = snippetsSupported;
+			this.lineDelimiter = lineDelimiter;
+			this.model = model;
+			this.hashCode = Objects.hash(System.identityHashCode(snippet), canSupportMarkdown, snippetsSupported,
+					lineDelimiter, model);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof RenderKey)) {
+				return false;
+			}
+			RenderKey other = (RenderKey) obj;
+			return snippet == other.snippet && canSupportMarkdown == other.canSupportMarkdown
+					&& snippetsSupported == other.snippetsSupported
+					&& Objects.equals(lineDelimiter, other.lineDelimiter) && Objects.equals(model, other.model);
+		}
+	}
+
+	/**
+	 * The insert text and documentation of a snippet rendered for a given
+	 * {@link RenderKey}.
+	 */
+	private static class RenderedSnippet {
+
+		private final String label;
+
+		private final String filterText;
+
+		private final String insertText;
+
+		private final MarkupContent documentation;
+
+		public RenderedSnippet(String label, String filterText, String insertText, MarkupContent documentation) {
+			this.label = label;
+			this.filterText = filterText;
+			this.insertText = insertText;
+			this.documentation = documentation;
+		}
+	}
+
 	private final List<Snippet> snippets;
 
+	private final Map<RenderKey, RenderedSnippet> renderedSnippets;
+
 	public SnippetRegistry() {
 		this(null);
 	}
@@ -76,6 +152,7 @@ public class SnippetRegistry {
 	 */
 	public SnippetRegistry(String languageId, boolean loadDefault) {
 		snippets = new ArrayList<>();
+		renderedSnippets = new ConcurrentHashMap<>();
 		// Load snippets from SPI
 		if (loadDefault) {
 			ServiceLoader<ISnippetRegistryLoader> loaders = ServiceLoader.load(ISnippetRegistryLoader.class);
@@ -99,6 +176,7 @@ public class SnippetRegistry {
 	 */
 	public void registerSnippet(Snippet snippet) {
 		snippets.add(snippet);
+		renderedSnippets.clear();
 	}
 
 	/**
@@ -247,22 +325,49 @@ public class SnippetRegistry {
 	public List<CompletionItem> getCompletionItems(Range replaceRange, String lineDelimiter, boolean canSupportMarkdown,
 			boolean snippetsSupported, BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter,
 			Map<String, String> initialModel, ISuffixPositionProvider suffixProvider) {
+		return getCompletionItems(getSnippets(), replaceRange, lineDelimiter, canSupportMarkdown, snippetsSupported,
+				contextFilter, initialModel, suffixProvider);
+	}
+
+	/**
+	 * Returns the completion items of the given snippets according to the context
+	 * filter.
+	 *
+	 * <p>
+	 * The insert text and the documentation of a snippet are rendered once for a
+	 * given markdown / snippet support, line delimiter and model and reused for
+	 * the next completions.
+	 * </p>
+	 *
+	 * @param snippets           the snippets candidates (which have been
+	 *                           prefiltered by the caller).
+	 * @param replaceRange       the replace range.
+	 * @param lineDelimiter      the line delimiter.
+	 * @param canSupportMarkdown true if markdown is supported to generate
+	 *                           documentation and false otherwise.
+	 * @param contextFilter      the context filter.
+	 * @param initialModel       the initial model.
+	 * @return the completion items of the given snippets according to the context
+	 *         filter.
+	 */
+	protected List<CompletionItem> getCompletionItems(List<Snippet> snippets, Range replaceRange,
+			String lineDelimiter, boolean canSupportMarkdown, boolean snippetsSupported,
+			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter, Map<String, String> initialModel,
+			ISuffixPositionProvider suffixProvider) {
 		if (replaceRange == null) {
 			return Collections.emptyList();
 		}
 		final Map<String, String> model = initialModel != null ? initialModel : new HashMap<>();
-		return getSnippets().stream().filter(snippet -> {
+		return snippets.stream().filter(snippet -> {
 			return snippet.match(contextFilter, model);
 		}).map(snippet -> {
+			RenderedSnippet rendered = getRenderedSnippet(snippet, model, canSupportMarkdown, snippetsSupported,
+					lineDelimiter);
 			CompletionItem item = new CompletionItem();
-			String prefix = snippet.getPrefixes().get(0);
-			String label = snippet.getLabel() != null ? snippet.getLabel() : prefix;
-			item.setLabel(label);
-			String insertText = getInsertText(snippet, model, snippetsSupported, lineDelimiter);
+			item.setLabel(rendered.label);
 			item.setKind(CompletionItemKind.Snippet);
-			item.setDocumentation(
-					Either.forRight(createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter)));
-			item.setFilterText(prefix);
+			item.setDocumentation(Either.forRight(rendered.documentation));
+			item.setFilterText(rendered.filterText);
 			item.setDetail(snippet.getDescription());
 			Range range = replaceRange;
 			if (!StringUtils.isEmpty(snippet.getSuffix()) && suffixProvider != null) {
@@ -271,7 +376,7 @@ public class SnippetRegistry {
 					range = new Range(replaceRange.getStart(), end);
 				}
 			}
-			item.setTextEdit(Either.forLeft(new TextEdit(range, insertText)));
+			item.setTextEdit(Either.forLeft(new TextEdit(range, rendered.insertText)));
 			item.setInsertTextFormat(InsertTextFormat.Snippet);
 			item.setSortText(snippet.getSortText());
 			return item;
@@ -279,6 +384,29 @@ public class SnippetRegistry {
 		}).collect(Collectors.toList());
 	}
 
+	private RenderedSnippet getRenderedSnippet(Snippet snippet, Map<String, String> model,
+			boolean canSupportMarkdown, boolean snippetsSupported, String lineDelimiter) {
+		RenderKey key = new RenderKey(snippet, canSupportMarkdown, snippetsSupported, lineDelimiter, model);
+		RenderedSnippet rendered = renderedSnippets.get(key);
+		if (rendered != null) {
+			return rendered;
+		}
+		String prefix = snippet.getPrefixes().get(0);
+		String label = snippet.getLabel() != null ? snippet.getLabel() : prefix;
+		String insertText = getInsertText(snippet, model, snippetsSupported, lineDelimiter);
+		MarkupContent documentation = createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter);
+		rendered = new RenderedSnippet(label, prefix, insertText, documentation);
+		if (renderedSnippets.size() >= MAX_RENDERED_SNIPPETS) {
+			// the model (ex : the package name of the Java file) can change a lot, avoid
+			// keeping rendered snippets forever.
+			renderedSnippets.clear();
+		}
+		// copy the model since it can be updated by the caller
+		renderedSnippets.put(new RenderKey(snippet, canSupportMarkdown, snippetsSupported, lineDelimiter,
+				new HashMap<>(model)), rendered);
+		return rendered;
+	}
+
 	private static MarkupContent createDocumentation(Snippet snippet, Map<String, String> model,
 			boolean canSupportMarkdown, String lineDelimiter) {
 		StringBuilder doc = new StringBuilder();
@@ -64,11 +64,37 @@ public class TextDocumentSnippetRegistry extends SnippetRegistry {
 	public List<CompletionItem> getCompletionItems(TextDocument document, int completionOffset,
 			boolean canSupportMarkdown, boolean snippetsSupported,
 			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter, Map<String, String> model) {
+		return getCompletionItems(getSnippets(), document, completionOffset, canSupportMarkdown, snippetsSupported,
+				contextFilter, model);
+	}
+
+	/**
+	 * Returns the completion items of the given snippets for the given completion
+	 * offset and context filter.
+	 *
+	 * @param snippets           the snippets candidates (which have been
+	 *                           prefiltered by the caller).
+	 * @param document           the text document.
+	 * @param completionOffset   the completion offset.
+	 * @param canSupportMarkdown true if markdown is supported to generate
+	 *                           documentation and false otherwise.
+	 * @param contextFilter      the context filter.
+	 * @param model              the context model used to replace some place
+	 *                           holder.
+	 * @return the completion items of the given snippets for the given completion
+	 *         offset and context filter.
+	 */
+	protected List<CompletionItem> getCompletionItems(List<Snippet> snippets, TextDocument document,
+			int completionOffset, boolean canSupportMarkdown, boolean snippetsSupported,
+			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter, Map<String, String> model) {
+		if (snippets.isEmpty()) {
+			return Collections.emptyList();
+		}
 		try {
 			String lineDelimiter = getLineDelimiter(document, completionOffset);
 			Range replaceRange = getReplaceRange(document, completionOffset);
-			return super.getCompletionItems(replaceRange, lineDelimiter, canSupportMarkdown, snippetsSupported,
-					contextFilter, model, null);
+			return super.getCompletionItems(snippets, replaceRange, lineDelimiter, canSupportMarkdown,
+					snippetsSupported, contextFilter, model, null);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while computing snippet completion items", e);
 			return Collections.emptyList();
@@ -16,9 +16,13 @@ package org.eclipse.lsp4mp.ls.java;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -58,6 +62,8 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionResult;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesResult;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaHoverParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaInlayHintParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaInlayHintSettings;
@@ -67,7 +73,7 @@ import org.eclipse.lsp4mp.commons.runtime.ExecutionMode;
 import org.eclipse.lsp4mp.ls.AbstractTextDocumentService;
 import org.eclipse.lsp4mp.ls.MicroProfileLanguageServer;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
-import org.eclipse.lsp4mp.ls.commons.TextDocument;
+import org.eclipse.lsp4mp.ls.commons.ValidationScheduler.Priority;
 import org.eclipse.lsp4mp.ls.commons.ValidatorDelayer;
 import org.eclipse.lsp4mp.ls.commons.client.CommandKind;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments.JavaTextDocument;
@@ -76,8 +82,6 @@ import org.eclipse.lsp4mp.model.Node;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.model.Property;
 import org.eclipse.lsp4mp.settings.SharedSettings;
-import org.eclipse.lsp4mp.snippets.JavaSnippetCompletionContext;
-import org.eclipse.lsp4mp.snippets.SnippetContextForJava;
 import org.eclipse.lsp4mp.utils.PositionUtils;
 import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
 
@@ -91,8 +95,70 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 
 	private static final Logger LOGGER = Logger.getLogger(JavaFileTextDocumentService.class.getName());
 
+	// Marks the JDT diagnostics request of a cancelled validation
+	private static final CompletableFuture<?> CANCELLED_REQUEST = CompletableFuture.completedFuture(null);
+
+	private static final MicroProfileJavaFeaturesResult EMPTY_FEATURES = new MicroProfileJavaFeaturesResult();
+
+	/**
+	 * Features returned by the 'microprofile/java/features' request.
+	 */
+	private static enum JavaFeature {
+		DIAGNOSTICS, CODE_LENS, INLAY_HINT;
+	}
+
+	/**
+	 * The 'microprofile/java/features' request sent for a given version of a Java
+	 * file.
+	 */
+	private static class JavaFeaturesRequest {
+
+		private final int version;
+
+		private final MicroProfileJavaFeaturesParams params;
+
+		private final CompletableFuture<MicroProfileJavaFeaturesResult> result;
+
+		private final Set<JavaFeature> consumedFeatures;
+
+		public JavaFeaturesRequest(int version, MicroProfileJavaFeaturesParams params,
+				CompletableFuture<MicroProfileJavaFeaturesResult> result) {
+			this.version = version;
+			this.params = params;
+			this.result = result;
+			this.consumedFeatures = EnumSet.noneOf(JavaFeature.class);
+		}
+
+		/**
+		 * Returns true if the given feature has been requested and is consumed for the
+		 * first time and false otherwise.
+		 *
+		 * @param feature the feature to consume.
+		 * @return true if the given feature has been requested and is consumed for the
+		 *         first time and false otherwise.
+		 */
+		public boolean consume(JavaFeature feature) {
+			if (result.isCancelled() || result.isCompletedExceptionally() || !isRequested(feature)) {
+				return false;
+			}
+			return consumedFeatures.add(feature);
+		}
+
+		private boolean isRequested(JavaFeature feature) {
+			switch (feature) {
+			case DIAGNOSTICS:
+				return params.getDiagnostics() != null;
+			case CODE_LENS:
+				return params.getCodeLens() != null;
+			default:
+				return params.getInlayHint() != null;
+			}
+		}
+	}
+
 	private final IPropertiesModelProvider propertiesModelProvider;
 	private final JavaTextDocuments documents;
+	private final Map<String /* Java file URI */, JavaFeaturesRequest> featuresRequests;
 	private ValidatorDelayer<JavaTextDocument> validatorDelayer;
 
 	public JavaFileTextDocumentService(MicroProfileLanguageServer microprofileLanguageServer,
@@ -101,9 +167,11 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		super(microprofileLanguageServer, sharedSettings);
 		this.propertiesModelProvider = propertiesModelProvider;
 		this.documents = javaTextDocuments;
-		this.validatorDelayer = new ValidatorDelayer<>((javaTextDocument) -> {
-			triggerValidationFor(javaTextDocument);
-		});
+		this.featuresRequests = new ConcurrentHashMap<>();
+		this.validatorDelayer = new ValidatorDelayer<>(microprofileLanguageServer.getValidationScheduler(),
+				(javaTextDocument) -> {
+					return triggerValidationFor(javaTextDocument);
+				});
 	}
 
 	// ------------------------------ did* for Java file -------------------------
@@ -123,6 +191,10 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		documents.onDidCloseTextDocument(params);
 		String uri = params.getTextDocument().getUri();
 		validatorDelayer.cleanPendingValidation(uri);
+		JavaFeaturesRequest featuresRequest = featuresRequests.remove(uri);
+		if (featuresRequest != null) {
+			featuresRequest.result.cancel(true);
+		}
 		microprofileLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
 	}
@@ -130,7 +202,12 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	@Override
 	public void didSave(DidSaveTextDocumentParams params) {
 		// validate all opened java files which belong to a MicroProfile project
-		triggerValidationForAll(null);
+		// (the saved Java file first)
+		JavaTextDocument document = documents.onDidSaveTextDocument(params);
+		if (document != null) {
+			validatorDelayer.validate(document, Priority.ACTIVE);
+		}
+		triggerValidationForAll(null, params.getTextDocument().getUri());
 	}
 
 	// ------------------------------ Completion ------------------------------
@@ -172,14 +249,8 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 
 				// calculate the snippet completion items based on the context
 				List<CompletionItem> snippetCompletionItems = documents.getSnippetRegistry().getCompletionItems(
-						document, finalizedCompletionOffset, canSupportMarkdown, snippetsSupported,
-						(context, model) -> {
-							if (context != null && context instanceof SnippetContextForJava) {
-								return ((SnippetContextForJava) context)
-										.isMatch(new JavaSnippetCompletionContext(projectInfo, cursorContext));
-							}
-							return true;
-						}, projectInfo);
+						document, finalizedCompletionOffset, canSupportMarkdown, snippetsSupported, projectInfo,
+						cursorContext);
 				list.getItems().addAll(snippetCompletionItems);
 
 				// This reduces the number of completion requests to the server. See:
@@ -202,19 +273,29 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		}
 		JavaTextDocument document = documents.get(params.getTextDocument().getUri());
 		return document.executeIfInMicroProfileProject((projectInfo, cancelChecker) -> {
-			MicroProfileJavaCodeLensParams javaParams = new MicroProfileJavaCodeLensParams(
-					params.getTextDocument().getUri());
-			if (sharedSettings.getCommandCapabilities().isCommandSupported(CommandKind.COMMAND_OPEN_URI)) {
-				javaParams.setOpenURICommand(CommandKind.COMMAND_OPEN_URI);
+			if (isJavaFeaturesSupported()) {
+				// The code lenses are computed with the diagnostics and the inlay hints
+				return getJavaFeatures(document, JavaFeature.CODE_LENS) //
+						.thenApply(features -> features.getCodeLens() != null ? features.getCodeLens()
+								: Collections.emptyList());
 			}
-			javaParams.setCheckServerAvailable(true);
-			javaParams.setUrlCodeLensEnabled(urlCodeLensEnabled);
-			// javaParams.setLocalServerPort(8080); // TODO : manage this server port from
-			// the settings
+			MicroProfileJavaCodeLensParams javaParams = createJavaCodeLensParams(params.getTextDocument().getUri());
 			return microprofileLanguageServer.getLanguageClient().getJavaCodelens(javaParams);
 		}, Collections.emptyList(), true);
 	}
 
+	private MicroProfileJavaCodeLensParams createJavaCodeLensParams(String uri) {
+		MicroProfileJavaCodeLensParams javaParams = new MicroProfileJavaCodeLensParams(uri);
+		if (sharedSettings.getCommandCapabilities().isCommandSupported(CommandKind.COMMAND_OPEN_URI)) {
+			javaParams.setOpenURICommand(CommandKind.COMMAND_OPEN_URI);
+		}
+		javaParams.setCheckServerAvailable(true);
+		javaParams.setUrlCodeLensEnabled(sharedSettings.getCodeLensSettings().isUrlCodeLensEnabled());
+		// javaParams.setLocalServerPort(8080); // TODO : manage this server port from
+		// the settings
+		return javaParams;
+	}
+
 	// ------------------------------ Code Action ------------------------------
 
 	@Override
@@ -333,22 +414,31 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	public CompletableFuture<List<InlayHint>> inlayHint(InlayHintParams params) {
 		JavaTextDocument document = documents.get(params.getTextDocument().getUri());
 		return document.executeIfInMicroProfileProject((projectInfo, cancelChecker) -> {
-			ExecutionMode executionMode = sharedSettings.getExecutionSettings().getExecutionMode();
-			MicroProfileJavaInlayHintSettings settings = new MicroProfileJavaInlayHintSettings(executionMode);
-			settings.update(sharedSettings.getInlayHintSettings());
-			MicroProfileJavaInlayHintParams javaParams = new MicroProfileJavaInlayHintParams(
-					params.getTextDocument().getUri(), settings);
+			if (isJavaFeaturesSupported()) {
+				// The inlay hints are computed with the diagnostics and the code lenses
+				return getJavaFeatures(document, JavaFeature.INLAY_HINT) //
+						.thenApply(features -> features.getInlayHints() != null ? features.getInlayHints()
+								: Collections.emptyList());
+			}
+			MicroProfileJavaInlayHintParams javaParams = createJavaInlayHintParams(params.getTextDocument().getUri());
 			return microprofileLanguageServer.getLanguageClient().getJavaInlayHint(javaParams);
 		}, Collections.emptyList(), true);
 	}
 
+	private MicroProfileJavaInlayHintParams createJavaInlayHintParams(String uri) {
+		ExecutionMode executionMode = sharedSettings.getExecutionSettings().getExecutionMode();
+		MicroProfileJavaInlayHintSettings settings = new MicroProfileJavaInlayHintSettings(executionMode);
+		settings.update(sharedSettings.getInlayHintSettings());
+		return new MicroProfileJavaInlayHintParams(uri, settings);
+	}
+
 	// ------------------------------ Diagnostics ------------------------------
 
 	private void validate(JavaTextDocument javaTextDocument, boolean delay) {
 		if (delay) {
 			validatorDelayer.validateWithDelay(javaTextDocument);
 		} else {
-			triggerValidationFor(javaTextDocument);
+			validatorDelayer.validate(javaTextDocument, Priority.ACTIVE);
 		}
 	}
 
@@ -356,36 +446,98 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	 * Validate the given opened Java file.
 	 *
 	 * @param document the opened Java file.
+	 * @return the future which publishes the diagnostics.
 	 */
-	private void triggerValidationFor(JavaTextDocument document) {
-		document.executeIfInMicroProfileProject((projectinfo, cancelChecker) -> {
+	private CompletableFuture<?> triggerValidationFor(JavaTextDocument document) {
+		// The JDT request is created in an asynchronous composition: cancelling the
+		// returned future doesn't cancel it. Keep the JDT request to cancel it when
+		// the validation is cancelled.
+		AtomicReference<CompletableFuture<?>> request = new AtomicReference<>();
+		CompletableFuture<Object> validation = document.executeIfInMicroProfileProject((projectinfo,
+				cancelChecker) -> {
 			String uri = document.getUri();
-			triggerValidationFor(Arrays.asList(uri));
-			return null;
+			CompletableFuture<?> javaRequest = isJavaFeaturesSupported() ? triggerValidationWithFeatures(document)
+					: triggerValidationFor(Arrays.asList(uri));
+			if (!request.compareAndSet(null, javaRequest)) {
+				// The validation has been cancelled while the JDT request was created
+				javaRequest.cancel(true);
+			}
+			return javaRequest.thenApply(result -> (Object) result);
 		}, null, true);
+		validation.whenComplete((result, error) -> {
+			if (validation.isCancelled()) {
+				CompletableFuture<?> javaRequest = request.getAndSet(CANCELLED_REQUEST);
+				if (javaRequest != null) {
+					javaRequest.cancel(true);
+				}
+			}
+		});
+		return validation;
 	}
 
 	/**
-	 * Validate all opened Java files which belong to a MicroProfile project.
+	 * Schedule the validation of all opened Java files which belong to a
+	 * MicroProfile project in background.
 	 *
 	 * @param projectURIs list of project URIs filter and null otherwise.
+	 * @param excludedURI the URI of the Java file to ignore and null otherwise.
 	 */
-	private void triggerValidationForAll(Set<String> projectURIs) {
-		triggerValidationFor(documents.all().stream() //
+	private void triggerValidationForAll(Set<String> projectURIs, String excludedURI) {
+		documents.all().stream() //
 				.filter(document -> projectURIs == null || projectURIs.contains(document.getProjectURI())) //
-				.map(TextDocument::getUri) //
-				.collect(Collectors.toList()));
+				.filter(document -> !document.getUri().equals(excludedURI)) //
+				.forEach(document -> validatorDelayer.validate(document, Priority.BACKGROUND));
 	}
 
 	/**
 	 * Validate all given Java files uris.
 	 *
 	 * @param uris Java files uris to validate.
+	 * @return the future which publishes the diagnostics.
 	 */
-	private void triggerValidationFor(List<String> uris) {
+	private CompletableFuture<?> triggerValidationFor(List<String> uris) {
 		if (uris.isEmpty()) {
-			return;
+			return CompletableFuture.completedFuture(null);
 		}
+		MicroProfileJavaDiagnosticsParams javaParams = createJavaDiagnosticsParams(uris);
+		// Returns the JDT request future (and not the dependent future which publishes
+		// the diagnostics) to cancel the JDT request when the validation is cancelled.
+		CompletableFuture<List<PublishDiagnosticsParams>> request = microprofileLanguageServer.getLanguageClient()
+				.getJavaDiagnostics(javaParams);
+		request.thenApply(diagnostics -> {
+			if (diagnostics == null) {
+				return null;
+			}
+			for (PublishDiagnosticsParams diagnostic : diagnostics) {
+				microprofileLanguageServer.getLanguageClient().publishDiagnostics(diagnostic);
+			}
+			return null;
+		});
+		return request;
+	}
+
+	/**
+	 * Validate the given Java file with the diagnostics computed together with the
+	 * code lenses and the inlay hints.
+	 *
+	 * @param document the opened Java file.
+	 * @return the future which publishes the diagnostics.
+	 */
+	private CompletableFuture<?> triggerValidationWithFeatures(JavaTextDocument document) {
+		String uri = document.getUri();
+		// Returns a dependent future: cancelling the validation must not cancel the
+		// features request shared with the code lens and inlay hint requests.
+		return getJavaFeatures(document, JavaFeature.DIAGNOSTICS).thenApply(features -> {
+			List<Diagnostic> diagnostics = features.getDiagnostics();
+			if (diagnostics != null) {
+				microprofileLanguageServer.getLanguageClient()
+						.publishDiagnostics(new PublishDiagnosticsParams(uri, diagnostics));
+			}
+			return null;
+		});
+	}
+
+	private MicroProfileJavaDiagnosticsParams createJavaDiagnosticsParams(List<String> uris) {
 		List<String> excludedUnassignedProperties = sharedSettings.getValidationSettings().getUnassigned()
 				.getExcluded();
 		DiagnosticSeverity validationValueSeverity = sharedSettings.getValidationSettings().getValue()
@@ -398,16 +550,67 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		if (markdownSupported) {
 			javaParams.setDocumentFormat(DocumentFormat.Markdown);
 		}
-		microprofileLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams) //
-				.thenApply(diagnostics -> {
-					if (diagnostics == null) {
-						return null;
-					}
-					for (PublishDiagnosticsParams diagnostic : diagnostics) {
-						microprofileLanguageServer.getLanguageClient().publishDiagnostics(diagnostic);
-					}
-					return null;
-				});
+		return javaParams;
+	}
+
+	// ------------------------------ Java features ------------------------------
+
+	private boolean isJavaFeaturesSupported() {
+		return microprofileLanguageServer.getCapabilityManager().getClientCapabilities().isJavaFeaturesSupported();
+	}
+
+	/**
+	 * Returns the diagnostics, the code lenses and the inlay hints of the current
+	 * version of the given Java file to consume the given feature.
+	 *
+	 * <p>
+	 * The three features are computed with one 'microprofile/java/features'
+	 * request (the Java language server component visits the AST once for all
+	 * features). The request is shared by the validation, the code lens and the
+	 * inlay hint requests of the same document version, each feature being
+	 * consumed once: a second request of a consumed feature (ex : revalidation when
+	 * a config file is saved, inlay hint refresh) sends a new request since the
+	 * result can depend on other files.
+	 * </p>
+	 *
+	 * @param document the opened Java file.
+	 * @param feature  the feature to consume.
+	 * @return the diagnostics, the code lenses and the inlay hints of the current
+	 *         version of the given Java file.
+	 */
+	private CompletableFuture<MicroProfileJavaFeaturesResult> getJavaFeatures(JavaTextDocument document,
+			JavaFeature feature) {
+		String uri = document.getUri();
+		int version = document.getVersion();
+		JavaFeaturesRequest request = featuresRequests.compute(uri, (key, current) -> {
+			if (current != null) {
+				if (current.version == version && current.consume(feature)) {
+					return current;
+				}
+				if (current.version != version) {
+					// The Java file has changed, the result is obsolete
+					current.result.cancel(true);
+				}
+			}
+			MicroProfileJavaFeaturesParams javaParams = createJavaFeaturesParams(uri);
+			JavaFeaturesRequest newRequest = new JavaFeaturesRequest(version, javaParams,
+					microprofileLanguageServer.getLanguageClient().getJavaFeatures(javaParams));
+			newRequest.consume(feature);
+			return newRequest;
+		});
+		// Returns a dependent future to keep the shared request when the caller
+		// cancels its future.
+		return request.result.thenApply(features -> features != null ? features : EMPTY_FEATURES);
+	}
+
+	private MicroProfileJavaFeaturesParams createJavaFeaturesParams(String uri) {
+		MicroProfileJavaFeaturesParams javaParams = new MicroProfileJavaFeaturesParams(uri);
+		javaParams.setDiagnostics(createJavaDiagnosticsParams(Arrays.asList(uri)));
+		if (sharedSettings.getCodeLensSettings().isUrlCodeLensEnabled()) {
+			javaParams.setCodeLens(createJavaCodeLensParams(uri));
+		}
+		javaParams.setInlayHint(createJavaInlayHintParams(uri));
+		return javaParams;
 	}
 
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
@@ -415,14 +618,14 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 			// Classpath changed or some properties config files (ex :
 			// microprofile-config.properties) has been
 			// saved, revalidate all opened java files.
-			triggerValidationForAll(null);
+			triggerValidationForAll(null, null);
 		}
 	}
 
 	public void triggerValidationAll() {
 		// trigger validation for all opened application.properties
 		documents.all().stream().forEach(document -> {
-			triggerValidationFor(document);
+			validatorDelayer.validate(document, Priority.BACKGROUND);
 		});
 	}
 
@@ -14,12 +14,20 @@
 package org.eclipse.lsp4mp.ls.java;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4mp.commons.JavaCursorContextKind;
+import org.eclipse.lsp4mp.commons.JavaCursorContextResult;
 import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
@@ -51,8 +59,74 @@ public class JavaTextDocumentSnippetRegistry extends TextDocumentSnippetRegistry
 	 */
 	private static final String JAKARTA_FLAG_TYPE = "jakarta.ws.rs.GET";
 
+	/**
+	 * Snippets bucketed by cursor context kind and by project.
+	 */
+	private static class SnippetIndex {
+
+		private final List<Snippet> snippets;
+
+		private final Map<JavaCursorContextKind, List<Snippet>> snippetsByKind;
+
+		private final Map<ProjectLabelInfoEntry, ProjectSnippets> projects;
+
+		public SnippetIndex(List<Snippet> snippets) {
+			this.snippets = new ArrayList<>(snippets);
+			this.snippetsByKind = new EnumMap<>(JavaCursorContextKind.class);
+			for (JavaCursorContextKind kind : JavaCursorContextKind.values()) {
+				snippetsByKind.put(kind, this.snippets.stream() //
+						.filter(snippet -> !(snippet.getContext() instanceof SnippetContextForJava)
+								|| ((SnippetContextForJava) snippet.getContext()).isMatchCursorContextKind(kind)) //
+						.collect(Collectors.toList()));
+			}
+			this.projects = new WeakHashMap<>();
+		}
+
+		public List<Snippet> getSnippets(ProjectLabelInfoEntry projectInfo, JavaCursorContextKind kind) {
+			if (projectInfo == null) {
+				return kind != null ? snippetsByKind.get(kind) : snippets;
+			}
+			ProjectSnippets project = null;
+			synchronized (projects) {
+				project = projects.get(projectInfo);
+				if (project == null) {
+					project = new ProjectSnippets(projectInfo, this);
+					projects.put(projectInfo, project);
+				}
+			}
+			return kind != null ? project.snippetsByKind.get(kind) : project.snippets;
+		}
+	}
+
+	/**
+	 * Snippets which match the types of a given project, bucketed by cursor
+	 * context kind.
+	 */
+	private static class ProjectSnippets {
+
+		private final List<Snippet> snippets;
+
+		private final Map<JavaCursorContextKind, List<Snippet>> snippetsByKind;
+
+		public ProjectSnippets(ProjectLabelInfoEntry projectInfo, SnippetIndex index) {
+			this.snippets = index.snippets.stream() //
+					.filter(snippet -> !(snippet.getContext() instanceof SnippetContextForJava)
+							|| ((SnippetContextForJava) snippet.getContext()).isMatchTypes(projectInfo)) //
+					.collect(Collectors.toList());
+			this.snippetsByKind = new EnumMap<>(JavaCursorContextKind.class);
+			Set<Snippet> projectSnippets = Collections.newSetFromMap(new IdentityHashMap<>());
+			projectSnippets.addAll(snippets);
+			index.snippetsByKind.forEach((kind, kindSnippets) -> {
+				snippetsByKind.put(kind,
+						kindSnippets.stream().filter(projectSnippets::contains).collect(Collectors.toList()));
+			});
+		}
+	}
+
 	private List<String> types;
 
+	private volatile SnippetIndex index;
+
 	public JavaTextDocumentSnippetRegistry() {
 		this(true);
 	}
@@ -99,6 +173,23 @@ public class JavaTextDocumentSnippetRegistry extends TextDocumentSnippetRegistry
 	public void registerSnippet(Snippet snippet) {
 		preprocessSnippetBody(snippet);
 		super.registerSnippet(snippet);
+		index = null;
+	}
+
+	private SnippetIndex getIndex() {
+		SnippetIndex index = this.index;
+		if (index != null) {
+			return index;
+		}
+		return createIndex();
+	}
+
+	private synchronized SnippetIndex createIndex() {
+		if (index != null) {
+			return index;
+		}
+		index = new SnippetIndex(getSnippets());
+		return index;
 	}
 
 	/**
@@ -140,6 +231,48 @@ public class JavaTextDocumentSnippetRegistry extends TextDocumentSnippetRegistry
 	public List<CompletionItem> getCompletionItems(JavaTextDocument document, int completionOffset,
 			boolean canSupportMarkdown, boolean snippetsSupported,
 			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter, ProjectLabelInfoEntry projectInfo) {
+		return super.getCompletionItems(document, completionOffset, canSupportMarkdown, snippetsSupported,
+				contextFilter, createModel(document, projectInfo));
+	}
+
+	/**
+	 * Returns the snippet completion items for the given project and cursor
+	 * context.
+	 *
+	 * <p>
+	 * The snippets are bucketed by cursor context kind and by project types when
+	 * they are registered / when the project is used for the first time, so that
+	 * only the annotation prefix of the cursor context must be checked for each
+	 * snippet candidate.
+	 * </p>
+	 *
+	 * @param document           the Java text document.
+	 * @param completionOffset   the completion offset.
+	 * @param canSupportMarkdown true if markdown is supported to generate
+	 *                           documentation and false otherwise.
+	 * @param snippetsSupported  true if snippets are supported and false
+	 *                           otherwise.
+	 * @param projectInfo        the project label info.
+	 * @param cursorContext      the cursor context and null if the client doesn't
+	 *                           support getting the cursor context.
+	 * @return the snippet completion items for the given project and cursor
+	 *         context.
+	 */
+	public List<CompletionItem> getCompletionItems(JavaTextDocument document, int completionOffset,
+			boolean canSupportMarkdown, boolean snippetsSupported, ProjectLabelInfoEntry projectInfo,
+			JavaCursorContextResult cursorContext) {
+		JavaCursorContextKind kind = cursorContext != null ? cursorContext.getKind() : null;
+		List<Snippet> snippets = getIndex().getSnippets(projectInfo, kind);
+		return super.getCompletionItems(snippets, document, completionOffset, canSupportMarkdown, snippetsSupported,
+				(context, model) -> {
+					if (context instanceof SnippetContextForJava) {
+						return ((SnippetContextForJava) context).isMatchCursorContext(cursorContext);
+					}
+					return true;
+				}, createModel(document, projectInfo));
+	}
+
+	private static Map<String, String> createModel(JavaTextDocument document, ProjectLabelInfoEntry projectInfo) {
 		Map<String, String> model = new HashMap<>();
 		String packageStatement = "";
 		String packageName = document.getPackageName();
@@ -168,8 +301,7 @@ public class JavaTextDocumentSnippetRegistry extends TextDocumentSnippetRegistry
 		model.put(EE_NAMESPACE_KEY, projectInfo.getLabels().contains(JavaTextDocumentSnippetRegistry.JAKARTA_FLAG_TYPE)
 				? JavaTextDocumentSnippetRegistry.JAKARTA_VALUE
 				: JavaTextDocumentSnippetRegistry.JAVAX_VALUE);
-		return super.getCompletionItems(document, completionOffset, canSupportMarkdown, snippetsSupported,
-				contextFilter, model);
+		return model;
 	}
 
 }
@@ -25,6 +25,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidSaveTextDocumentParams;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
@@ -36,9 +38,11 @@ import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4mp.ls.api.MicroProfileJavaFileInfoProvider;
 import org.eclipse.lsp4mp.ls.api.MicroProfileJavaProjectLabelsProvider;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerExecutors;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
 import org.eclipse.lsp4mp.ls.commons.TextDocuments;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments.JavaTextDocument;
+import org.eclipse.lsp4mp.utils.URIUtils;
 
 /**
  * Java Text documents registry which manages opened Java file.
@@ -64,7 +68,9 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 
 	private JavaTextDocumentSnippetRegistry snippetRegistry;
 
-	private boolean hasLoadedAllProjects = false;
+	private volatile boolean hasLoadedAllProjects = false;
+
+	private CompletableFuture<List<ProjectLabelInfoEntry>> loadingAllProjects;
 
 	/**
 	 * Opened Java file.
@@ -78,6 +84,8 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 
 		private CompletableFuture<JavaFileInfo> fileInfoFuture;
 
+		private volatile boolean unsavedChanges;
+
 		public JavaTextDocument(TextDocumentItem document) {
 			super(document);
 			collectFileInfo();
@@ -193,6 +201,17 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 			ProjectLabelInfoEntry projectInfo = getProjectInfo(this).getNow(null);
 			return isMicroProfileProject(projectInfo);
 		}
+
+		/**
+		 * Returns true if the Java file has been changed since it has been opened or
+		 * saved and false otherwise.
+		 *
+		 * @return true if the Java file has been changed since it has been opened or
+		 *         saved and false otherwise.
+		 */
+		public boolean hasUnsavedChanges() {
+			return unsavedChanges;
+		}
 	}
 
 	public JavaTextDocuments(MicroProfileJavaProjectLabelsProvider projectInfoProvider,
@@ -210,6 +229,45 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 		return doc;
 	}
 
+	@Override
+	public JavaTextDocument onDidChangeTextDocument(DidChangeTextDocumentParams params) {
+		JavaTextDocument document = super.onDidChangeTextDocument(params);
+		if (document != null) {
+			document.unsavedChanges = true;
+		}
+		return document;
+	}
+
+	public JavaTextDocument onDidSaveTextDocument(DidSaveTextDocumentParams params) {
+		JavaTextDocument document = get(params.getTextDocument().getUri());
+		if (document != null) {
+			document.unsavedChanges = false;
+		}
+		return document;
+	}
+
+	/**
+	 * Returns true if the Java file of the given URI is opened and has been changed
+	 * since it has been opened or saved and false otherwise.
+	 *
+	 * <p>
+	 * The URI can come from the JDT LS extension, so the URI of the opened Java
+	 * files are compared with {@link URIUtils#isSameFileURI(String, String)}.
+	 * </p>
+	 *
+	 * @param uri the Java file URI.
+	 * @return true if the Java file of the given URI is opened and has been changed
+	 *         since it has been opened or saved and false otherwise.
+	 */
+	public boolean hasUnsavedChanges(String uri) {
+		for (JavaTextDocument document : all()) {
+			if (document.hasUnsavedChanges() && URIUtils.isSameFileURI(document.getUri(), uri)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Returns as promise the MicroProfile project information for the given java
 	 * file document.
@@ -292,21 +350,7 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 	 */
 	public CompletableFuture<List<ProjectLabelInfoEntry>> getWorkspaceProjects() {
 		if (!hasLoadedAllProjects) {
-			return projectInfoProvider.getAllJavaProjectLabels() //
-					.thenApply(entries -> {
-						if (entries != null && entries.size() > 0) {
-							for (ProjectLabelInfoEntry entry : entries) {
-								if (entry != null) {
-									String newProjectURI = entry.getUri();
-									if (!projectCache.containsKey(newProjectURI)) {
-										projectCache.put(newProjectURI, CompletableFuture.completedFuture(entry));
-									}
-								}
-							}
-						}
-						hasLoadedAllProjects = true;
-						return entries;
-					});
+			return loadAllProjects();
 		}
 
 		// otherwise the list of all projects is cached
@@ -324,6 +368,30 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 				});
 	}
 
+	private synchronized CompletableFuture<List<ProjectLabelInfoEntry>> loadAllProjects() {
+		if (loadingAllProjects == null || loadingAllProjects.isCompletedExceptionally()
+				|| loadingAllProjects.isCancelled()) {
+			// Load the project labels of the workspace only once, even if several requests
+			// (ex : workspace symbols) are done while the projects are loading.
+			loadingAllProjects = projectInfoProvider.getAllJavaProjectLabels() //
+					.thenApply(entries -> {
+						if (entries != null && entries.size() > 0) {
+							for (ProjectLabelInfoEntry entry : entries) {
+								if (entry != null) {
+									String newProjectURI = entry.getUri();
+									if (!projectCache.containsKey(newProjectURI)) {
+										projectCache.put(newProjectURI, CompletableFuture.completedFuture(entry));
+									}
+								}
+							}
+						}
+						hasLoadedAllProjects = true;
+						return entries;
+					});
+		}
+		return loadingAllProjects;
+	}
+
 	public boolean propertiesChanged(MicroProfilePropertiesChangeEvent event) {
 		List<MicroProfilePropertiesScope> scopes = event.getType();
 		boolean changedOnlyInSources = MicroProfilePropertiesScope.isOnlySources(scopes);
@@ -361,7 +429,7 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 
 	private static <R> CompletableFuture<R> computeAsyncCompose(Function<CancelChecker, CompletableFuture<R>> code) {
 		CompletableFuture<CancelChecker> start = new CompletableFuture<>();
-		CompletableFuture<R> result = start.thenComposeAsync(code);
+		CompletableFuture<R> result = start.thenComposeAsync(code, LanguageServerExecutors.getRequestExecutor());
 		start.complete(new FutureCancelChecker(result));
 		return result;
 	}
@@ -17,9 +17,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -29,8 +32,11 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntime;
+import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntimeRegistry;
 import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerExecutors;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerStatistics;
 
 /**
  * MicroProfile project information cache.
@@ -42,8 +48,44 @@ class MicroProfileProjectInfoCache {
 
 	private static final Logger LOGGER = Logger.getLogger(MicroProfileProjectInfoCache.class.getName());
 
-	private final Map<String /* application.properties URI */, CompletableFuture<MicroProfileProjectInfo>> cache;
+	/**
+	 * Project information cache key. The project information loaded with lazy
+	 * descriptions has no descriptions for the properties declared in Java, so it
+	 * must not be shared with requests which expect the descriptions (ex : JSON
+	 * schema).
+	 */
+	private static class ProjectInfoKey {
+
+		private final String uri;
+
+		private final boolean lazyDescriptions;
+
+		public ProjectInfoKey(String uri, boolean lazyDescriptions) {
+			this.uri = uri;
+			this.lazyDescriptions = lazyDescriptions;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(uri, lazyDescriptions);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ProjectInfoKey)) {
+				return false;
+			}
+			ProjectInfoKey other = (ProjectInfoKey) obj;
+			return lazyDescriptions == other.lazyDescriptions && Objects.equals(uri, other.uri);
+		}
+	}
+
+	private final Map<ProjectInfoKey /* application.properties URI, lazy descriptions */, CompletableFuture<MicroProfileProjectInfo>> cache;
 	private final Map<String /* project URI */, MicroProfileProjectRuntime> projectRuntimes;
+	private final Map<String /* application.properties URI */, String /* project URI */> projectURIs;
 
 	private final MicroProfileProjectInfoProvider provider;
 
@@ -51,6 +93,7 @@ class MicroProfileProjectInfoCache {
 		this.provider = provider;
 		this.cache = new ConcurrentHashMap<>();
 		this.projectRuntimes = new ConcurrentHashMap<>();
+		this.projectURIs = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -64,22 +107,49 @@ class MicroProfileProjectInfoCache {
 	public CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params) {
 		return getProjectInfoFromCache(params). //
 				exceptionally(ex -> {
-					LOGGER.log(Level.WARNING, String.format(
-							"Error while getting MicroProfileProjectInfo (classpath) for '%s'", params.getUri()), ex);
+					if (isCancellation(ex)) {
+						// the load has been superseded by a classpath change, the document will be
+						// validated again with the new project info
+						LOGGER.log(Level.FINE, String.format(
+								"MicroProfileProjectInfo (classpath) loading cancelled for '%s'", params.getUri()));
+					} else {
+						LOGGER.log(Level.WARNING, String.format(
+								"Error while getting MicroProfileProjectInfo (classpath) for '%s'", params.getUri()),
+								ex);
+					}
 					return MicroProfileProjectInfo.EMPTY_PROJECT_INFO;
 				});
 	}
 
+	private static boolean isCancellation(Throwable ex) {
+		return ex instanceof CancellationException || ex.getCause() instanceof CancellationException;
+	}
+
 	CompletableFuture<MicroProfileProjectInfo> getProjectInfoFromCache(MicroProfileProjectInfoParams params) {
 		// Search future which load project info in cache
-		CompletableFuture<MicroProfileProjectInfo> projectInfo = cache.get(params.getUri());
+		ProjectInfoKey key = new ProjectInfoKey(params.getUri(), params.isLazyDescriptions());
+		CompletableFuture<MicroProfileProjectInfo> projectInfo = cache.get(key);
 		if (projectInfo == null || projectInfo.isCancelled() || projectInfo.isCompletedExceptionally()) {
 			// not found in the cache, load the project info from the JDT LS Extension
+			// and process it outside of the JSON-RPC thread
+			LanguageServerStatistics.getInstance().increment("projectInfoCache/miss");
 			params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
-			CompletableFuture<MicroProfileProjectInfo> future = provider.getProjectInfo(params). //
-					thenApply(info -> new ExtendedMicroProfileProjectInfo(info, getOrCreateProjectRuntime(info)));
+			CompletableFuture<MicroProfileProjectInfo> request = provider.getProjectInfo(params);
+			CompletableFuture<MicroProfileProjectInfo> future = thenApplyInProjectExecutor(request, info -> {
+				if (info.getProjectURI() != null && !info.getProjectURI().isEmpty()) {
+					projectURIs.put(params.getUri(), info.getProjectURI());
+				}
+				return new ExtendedMicroProfileProjectInfo(info, getOrCreateProjectRuntime(info));
+			});
+			// cancel the request (and the scan of the JDT LS extension) when the future is
+			// cancelled.
+			future.whenComplete((info, ex) -> {
+				if (future.isCancelled()) {
+					request.cancel(true);
+				}
+			});
 			// cache the future.
-			cache.put(params.getUri(), future);
+			cache.put(key, future);
 			return future;
 		}
 		if (!projectInfo.isDone()) {
@@ -91,28 +161,57 @@ class MicroProfileProjectInfoCache {
 			// There are some java sources changed, get the MicroProfile properties from
 			// java
 			// sources.
+			LanguageServerStatistics.getInstance().increment("projectInfoCache/reloadSources");
 			params.setScopes(MicroProfilePropertiesScope.ONLY_SOURCES);
-			return provider.getProjectInfo(params). //
+			params.setSourceURIs(wrapper.getSourceURIsToReload());
+			return thenApplyInProjectExecutor(provider.getProjectInfo(params). //
 					exceptionally(ex -> {
 						LOGGER.log(Level.WARNING, String.format(
 								"Error while getting MicroProfileProjectInfo (sources) for '%s'", params.getUri()), ex);
 						return MicroProfileProjectInfo.EMPTY_PROJECT_INFO;
-					}) //
-					.thenApply(info ->
+					}), info ->
 					// then update the cache with the new properties
 					{
-						wrapper.updateSourcesProperties(info.getProperties(), info.getHints());
+						if (info.getSourceTypes() != null) {
+							// Only the properties of the changed Java sources have been collected
+							wrapper.updateSourcesProperties(info.getSourceTypes(), info.getProperties(),
+									info.getHints());
+						} else {
+							wrapper.updateSourcesProperties(info.getProperties(), info.getHints());
+						}
 						return wrapper;
 					});
 		}
 
 		// Returns the cached project info
+		LanguageServerStatistics.getInstance().increment("projectInfoCache/hit");
 		return projectInfo;
 	}
 
+	/**
+	 * Apply the given function to the project info loaded by the JDT LS extension.
+	 * When the project info is not loaded yet, the function is applied with the
+	 * project executor instead of the thread which completes the future (the
+	 * JSON-RPC thread which must continue to read the messages).
+	 *
+	 * @param future the project info future.
+	 * @param fn     the function to apply.
+	 * @return the future of the result of the function.
+	 */
+	private static CompletableFuture<MicroProfileProjectInfo> thenApplyInProjectExecutor(
+			CompletableFuture<MicroProfileProjectInfo> future,
+			Function<MicroProfileProjectInfo, MicroProfileProjectInfo> fn) {
+		if (future.isDone()) {
+			return future.thenApply(fn);
+		}
+		return future.thenApplyAsync(fn, LanguageServerExecutors.getProjectExecutor());
+	}
+
 	private MicroProfileProjectRuntime getOrCreateProjectRuntime(MicroProfileProjectInfo info) {
-		return projectRuntimes.computeIfAbsent(info.getProjectURI(), f -> new MicroProfileProjectRuntime(
-				info.getClasspath() != null ? info.getClasspath() : Collections.emptySet()));
+		// the runtime is shared with the JDT LS extension when it runs in the same JVM
+		return projectRuntimes.computeIfAbsent(info.getProjectURI(),
+				projectURI -> MicroProfileProjectRuntimeRegistry.getInstance().acquire(projectURI,
+						info.getClasspath() != null ? info.getClasspath() : Collections.emptySet()));
 	}
 
 	private static ExtendedMicroProfileProjectInfo getProjectInfoWrapper(
@@ -131,7 +230,7 @@ class MicroProfileProjectInfoCache {
 		if (changedOnlyInSources) {
 			// Some Java sources files has been saved, evict the cache for item metadata
 			// (properties) computed from Java source files only.
-			return javaSourceChanged(event.getProjectURIs());
+			return javaSourceChanged(event.getProjectURIs(), event.getSourceURIs());
 		}
 		// Classpath changed (ex : add, remove maven/gradle dependencies) evict the full
 		// cache.
@@ -139,22 +238,32 @@ class MicroProfileProjectInfoCache {
 	}
 
 	private Collection<String> classpathChanged(Set<String> projectURIs) {
-		List<String> applicationPropertiesURIs = getApplicationPropertiesURIs(projectURIs);
-		applicationPropertiesURIs.forEach(cache::remove);
+		List<ProjectInfoKey> keys = getProjectInfoKeys(projectURIs);
+		keys.forEach(key -> {
+			CompletableFuture<MicroProfileProjectInfo> projectInfo = cache.remove(key);
+			if (projectInfo != null && !projectInfo.isDone()) {
+				// the project info is loading with the old classpath, cancel it
+				projectInfo.cancel(true);
+			}
+		});
 		updateProjectRuntimes(projectURIs);
-		return applicationPropertiesURIs;
+		// the classpath could have changed, release the runtimes to acquire them with
+		// the new classpath when the project info will be reloaded
+		projectURIs.forEach(projectUri -> MicroProfileProjectRuntimeRegistry.getInstance()
+				.release(projectRuntimes.remove(projectUri)));
+		return getApplicationPropertiesURIs(keys);
 	}
 
-	private Collection<String> javaSourceChanged(Set<String> projectURIs) {
-		List<String> applicationPropertiesURIs = getApplicationPropertiesURIs(projectURIs);
-		for (String uri : applicationPropertiesURIs) {
-			ExtendedMicroProfileProjectInfo info = getProjectInfoWrapper(cache.get(uri));
+	private Collection<String> javaSourceChanged(Set<String> projectURIs, Set<String> sourceURIs) {
+		List<ProjectInfoKey> keys = getProjectInfoKeys(projectURIs);
+		for (ProjectInfoKey key : keys) {
+			ExtendedMicroProfileProjectInfo info = getProjectInfoWrapper(cache.get(key));
 			if (info != null) {
-				info.clearPropertiesFromSource();
+				info.clearPropertiesFromSource(sourceURIs);
 			}
 		}
 		updateProjectRuntimes(projectURIs);
-		return applicationPropertiesURIs;
+		return getApplicationPropertiesURIs(keys);
 	}
 
 	private void updateProjectRuntimes(Set<String> projectURIs) {
@@ -166,21 +275,29 @@ class MicroProfileProjectInfoCache {
 		});
 	}
 
+	private static List<String> getApplicationPropertiesURIs(List<ProjectInfoKey> keys) {
+		return keys.stream().map(key -> key.uri).distinct().collect(Collectors.toList());
+	}
+
 	/**
-	 * Returns the application.propeties URIs which belongs to the given project
-	 * URIs.
+	 * Returns the cache keys of the application.propeties which belongs to the
+	 * given project URIs.
 	 * 
 	 * @param projectURIs project URIs
 	 * 
-	 * @return the application.propeties URIs which belongs to the given project
-	 *         URIs.
+	 * @return the cache keys of the application.propeties which belongs to the
+	 *         given project URIs.
 	 */
-	private List<String> getApplicationPropertiesURIs(Set<String> projectURIs) {
+	private List<ProjectInfoKey> getProjectInfoKeys(Set<String> projectURIs) {
 		return cache.entrySet().stream().filter(entry -> {
 			MicroProfileProjectInfo projectInfo = getProjectInfoWrapper(entry.getValue());
 			if (projectInfo != null) {
 				return projectURIs.contains(projectInfo.getProjectURI());
 			}
+			if (!entry.getValue().isDone()) {
+				// the project info is loading, use the project of the previous load
+				return projectURIs.contains(this.projectURIs.get(entry.getKey().uri));
+			}
 			return false;
 		}).map(Map.Entry::getKey).collect(Collectors.toList());
 	}
@@ -58,9 +58,12 @@ import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.ls.AbstractTextDocumentService;
 import org.eclipse.lsp4mp.ls.MicroProfileLanguageServer;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI.JsonSchemaForProjectInfo;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerExecutors;
 import org.eclipse.lsp4mp.ls.commons.ModelTextDocument;
 import org.eclipse.lsp4mp.ls.commons.ModelTextDocuments;
+import org.eclipse.lsp4mp.ls.commons.ValidationScheduler.Priority;
 import org.eclipse.lsp4mp.ls.commons.ValidatorDelayer;
+import org.eclipse.lsp4mp.ls.java.JavaTextDocuments;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.services.properties.CompletionData;
 import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
@@ -85,15 +88,20 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 
 	private final ValidatorDelayer<ModelTextDocument<PropertiesModel>> validatorDelayer;
 
+	private final JavaTextDocuments javaDocuments;
+
 	public PropertiesFileTextDocumentService(MicroProfileLanguageServer microprofileLanguageServer,
-			SharedSettings sharedSettings) {
+			SharedSettings sharedSettings, JavaTextDocuments javaDocuments) {
 		super(microprofileLanguageServer, sharedSettings);
+		this.javaDocuments = javaDocuments;
 		this.documents = new ModelTextDocuments<PropertiesModel>((document, cancelChecker) -> {
 			return PropertiesModel.parse(document, cancelChecker);
 		});
-		this.validatorDelayer = new ValidatorDelayer<ModelTextDocument<PropertiesModel>>((document) -> {
-			triggerValidationFor(document);
-		});
+		this.validatorDelayer = new ValidatorDelayer<ModelTextDocument<PropertiesModel>>(
+				microprofileLanguageServer.getValidationScheduler(), (document) -> {
+					triggerValidationFor(document);
+					return null;
+				});
 	}
 
 	@Override
@@ -150,11 +158,12 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			return CompletableFuture.completedFuture(null);
 		}
 		TextDocumentIdentifier identifier = new TextDocumentIdentifier(uri);
-		return getPropertiesModel(identifier, (document, cancelChecker) -> {
+		return getPropertiesModelCompose(identifier, (document, cancelChecker) -> {
 			MicroProfileProjectInfoParams projectInfoParams = createProjectInfoParams(new TextDocumentIdentifier(uri));
 			MicroProfileProjectInfo projectInfo = getProjectInfoCache().getProjectInfo(projectInfoParams).getNow(null);
-			return getPropertiesFileLanguageService().resolveCompletionItem(unresolved, projectInfo,
-					sharedSettings.getCompletionCapabilities(), cancelChecker);
+			return getPropertiesFileLanguageService().resolveCompletionItem(unresolved, uri, projectInfo,
+					sharedSettings.getCompletionCapabilities(), microprofileLanguageServer.getLanguageClient(),
+					cancelChecker);
 		});
 	}
 
@@ -209,7 +218,8 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			MicroProfileProjectInfoParams projectInfoParams = createProjectInfoParams(params.getTextDocument());
 			MicroProfileProjectInfo projectInfo = getProjectInfoCache().getProjectInfo(projectInfoParams).getNow(null);
 			return getPropertiesFileLanguageService().findDefinition(document, params.getPosition(), projectInfo,
-					microprofileLanguageServer.getLanguageClient(), isDefinitionLinkSupport(), cancelChecker);
+					microprofileLanguageServer.getLanguageClient(), javaDocuments::hasUnsavedChanges,
+					isDefinitionLinkSupport(), cancelChecker);
 		});
 	}
 
@@ -295,6 +305,10 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	private MicroProfileProjectInfoParams createProjectInfoParams(String uri) {
 		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(uri);
 		params.setDocumentFormat(getDocumentFormat());
+		// The descriptions of the properties declared in Java are collected on
+		// completion resolve and hover
+		params.setLazyDescriptions(
+				sharedSettings.getCompletionCapabilities().isCompletionResolveDocumentationSupported());
 		return params;
 	}
 
@@ -306,9 +320,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		if (delay) {
 			this.validatorDelayer.validateWithDelay(model);
 		} else {
-			CompletableFuture.runAsync(() -> {
-				triggerValidationFor(model);
-			});
+			this.validatorDelayer.validate(model, Priority.ACTIVE);
 		}
 	}
 
@@ -327,7 +339,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			// The project is loading, wait for project loading and trigger the validation.
 			projectInfoFuture.thenComposeAsync(loadedProjectInfo -> {
 				return triggerValidationFor(propertiesModel, loadedProjectInfo, cancelChecker);
-			});
+			}, LanguageServerExecutors.getRequestExecutor());
 		} else {
 			// The project is loaded, trigger the validation.
 			triggerValidationFor(propertiesModel, projectInfo, cancelChecker);
@@ -386,7 +398,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		for (String uri : uris) {
 			ModelTextDocument<PropertiesModel> document = getDocument(uri);
 			if (document != null) {
-				triggerValidationFor(document);
+				validatorDelayer.validate(document, Priority.BACKGROUND);
 			}
 		}
 	}
@@ -399,7 +411,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	public void triggerValidationAll() {
 		// trigger validation for all opened application.properties
 		documents.all().stream().forEach(document -> {
-			triggerValidationFor(document);
+			validatorDelayer.validate(document, Priority.BACKGROUND);
 		});
 	}
 
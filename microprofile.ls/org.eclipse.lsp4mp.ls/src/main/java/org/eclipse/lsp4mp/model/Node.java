@@ -174,6 +174,18 @@ public abstract class Node {
 		return this;
 	}
 
+	/**
+	 * Returns the index of the first child which ends at or after the given offset
+	 * and the number of children if there is no such child.
+	 *
+	 * @param offset the offset
+	 * @return the index of the first child which ends at or after the given offset
+	 *         and the number of children if there is no such child.
+	 */
+	public int findFirstChildEndingAfter(int offset) {
+		return findFirst(getChildren(), c -> c.getEnd() >= offset);
+	}
+
 	/**
 	 * Returns true if the node included the given offset and false otherwise.
 	 *
@@ -13,8 +13,12 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.model;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.lsp4j.Position;
@@ -159,14 +163,67 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		}
 	}
 
+	/**
+	 * Index of the properties of the model. A model is never updated (a new model
+	 * is parsed for each version of the document), so the index is built once.
+	 */
+	private static class PropertiesIndex {
+
+		private final Map<String /* name with profile */, List<Property>> propertiesByKey;
+
+		private final Map<String /* name without profile */, List<Property>> propertiesByName;
+
+		private final Map<String /* name with profile */, String> values;
+
+		private final Map<String /* referenced name */, List<PropertyValueExpression>> expressionsByReference;
+
+		public PropertiesIndex(PropertiesModel model) {
+			propertiesByKey = new LinkedHashMap<>();
+			propertiesByName = new HashMap<>();
+			values = new HashMap<>();
+			expressionsByReference = new LinkedHashMap<>();
+			for (Node child : model.getChildren()) {
+				if (child.getNodeType() == NodeType.PROPERTY) {
+					Property property = (Property) child;
+					String key = property.getPropertyNameWithProfile();
+					if (!StringUtils.isEmpty(key)) {
+						propertiesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(property);
+					}
+					String name = property.getPropertyName();
+					if (!StringUtils.isEmpty(name)) {
+						propertiesByName.computeIfAbsent(name, k -> new ArrayList<>()).add(property);
+					}
+					PropertyValue valueNode = property.getValue();
+					if (valueNode != null) {
+						// the first property which has a value wins
+						String value = valueNode.getText(true);
+						if (StringUtils.hasText(value) && StringUtils.hasText(key)) {
+							values.putIfAbsent(key, value);
+						}
+						for (Node valueChild : valueNode.getChildren()) {
+							if (valueChild.getNodeType() == NodeType.PROPERTY_VALUE_EXPRESSION) {
+								PropertyValueExpression expression = (PropertyValueExpression) valueChild;
+								String referencedName = expression.getReferencedPropertyName();
+								if (referencedName != null) {
+									expressionsByReference.computeIfAbsent(referencedName, k -> new ArrayList<>())
+											.add(expression);
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
 	private final TextDocument document;
 	private CancelChecker cancelChecker;
-	private transient Set<String> keys;
+	private transient volatile PropertiesIndex index;
 
 	PropertiesModel(TextDocument document, CancelChecker cancelChecker) {
 		this.document = document;
 		this.cancelChecker = cancelChecker;
-		this.keys = null;
+		this.index = null;
 	}
 
 	@Override
@@ -296,33 +353,80 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		return cancelChecker;
 	}
 
-	@Override
-	public Set<String> keys() {
-		if (keys != null) {
-			return keys;
+	private PropertiesIndex getIndex() {
+		PropertiesIndex index = this.index;
+		if (index == null) {
+			index = new PropertiesIndex(this);
+			this.index = index;
 		}
+		return index;
+	}
 
-		keys = new HashSet<>();
+	/**
+	 * Returns the properties declared with the given property name with profile
+	 * (ex : '%dev.quarkus.http.port') in the document order.
+	 *
+	 * @param propertyNameWithProfile the property name with profile.
+	 * @return the properties declared with the given property name with profile.
+	 */
+	public List<Property> getPropertiesByKey(String propertyNameWithProfile) {
+		List<Property> properties = getIndex().propertiesByKey.get(propertyNameWithProfile);
+		return properties != null ? Collections.unmodifiableList(properties) : Collections.emptyList();
+	}
 
-		for (Node child : getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				PropertyValue valueNode = property.getValue();
-				if (valueNode != null && StringUtils.hasText(valueNode.getText(true))) {
-					String key = property.getPropertyNameWithProfile();
-					if (StringUtils.hasText(key)) {
-						keys.add(key);
-					}
-				}
-			}
-		}
+	/**
+	 * Returns the properties declared with the given property name without profile
+	 * (ex : 'quarkus.http.port' for '%dev.quarkus.http.port') in the document
+	 * order.
+	 *
+	 * @param propertyName the property name without profile.
+	 * @return the properties declared with the given property name without
+	 *         profile.
+	 */
+	public List<Property> getPropertiesByName(String propertyName) {
+		List<Property> properties = getIndex().propertiesByName.get(propertyName);
+		return properties != null ? Collections.unmodifiableList(properties) : Collections.emptyList();
+	}
+
+	/**
+	 * Returns the property names with profile declared in the document.
+	 *
+	 * @return the property names with profile declared in the document.
+	 */
+	public Set<String> getPropertyKeys() {
+		return Collections.unmodifiableSet(getIndex().propertiesByKey.keySet());
+	}
+
+	/**
+	 * Returns the property value expressions which reference the given property
+	 * name (ex : '${quarkus.http.port}') in the document order.
+	 *
+	 * @param referencedPropertyName the referenced property name.
+	 * @return the property value expressions which reference the given property
+	 *         name.
+	 */
+	public List<PropertyValueExpression> getPropertyValueExpressions(String referencedPropertyName) {
+		List<PropertyValueExpression> expressions = getIndex().expressionsByReference.get(referencedPropertyName);
+		return expressions != null ? Collections.unmodifiableList(expressions) : Collections.emptyList();
+	}
 
-		return keys;
+	/**
+	 * Returns the property names referenced by property value expressions.
+	 *
+	 * @return the property names referenced by property value expressions.
+	 */
+	public Set<String> getReferencedPropertyNames() {
+		return Collections.unmodifiableSet(getIndex().expressionsByReference.keySet());
+	}
+
+	@Override
+	public Set<String> keys() {
+		return Collections.unmodifiableSet(getIndex().values.keySet());
 	}
 
 	@Override
 	public boolean hasKey(String key) {
-		return keys().contains(key);
+		return getIndex().values.containsKey(key);
 	}
 
 	@Override
@@ -330,20 +434,7 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		if (key == null) {
 			return null;
 		}
-		for (Node child : getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				PropertyKey keyNode = property.getKey();
-				if (key.equals(keyNode.getPropertyNameWithProfile())) {
-					PropertyValue valueNode = property.getValue();
-					if (valueNode != null && StringUtils.hasText(valueNode.getText(true))) {
-						return valueNode.getText(true);
-					}
-				}
-
-			}
-		}
-		return null;
+		return getIndex().values.get(key);
 	}
 
 }
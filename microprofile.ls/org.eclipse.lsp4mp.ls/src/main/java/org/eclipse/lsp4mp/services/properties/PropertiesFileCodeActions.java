@@ -21,7 +21,12 @@ import static org.eclipse.lsp4mp.commons.codeaction.MicroProfileCodeActionId.Unk
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -38,6 +43,7 @@ import org.eclipse.lsp4mp.commons.metadata.ConverterKind;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.ls.commons.CodeActionFactory;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
@@ -60,7 +66,7 @@ import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
  */
 class PropertiesFileCodeActions {
 
-	private static final float MAX_DISTANCE_DIFF_RATIO = 0.1f;
+	private static final int MAX_SIMILAR_SUGGESTIONS = 10;
 
 	private static final Logger LOGGER = Logger.getLogger(PropertiesFileCodeActions.class.getName());
 
@@ -69,6 +75,80 @@ class PropertiesFileCodeActions {
 	private static final String UNKNOWN_ENUM_VALUE_ALL_ENUMS_SUGGESTION = "Replace with ''{0}''?";
 	private static final String ADD_ALL_MISSING_REQUIRED_PROPERTIES = "Add all missing required properties?";
 
+	/**
+	 * Similar text indexes computed for a given generation of a MicroProfile
+	 * project info.
+	 */
+	private static class SimilarTextIndexes {
+
+		private final int generation;
+
+		private SimilarTextIndex propertyNames;
+
+		private final Map<Collection<ValueHint>, Map<List<ConverterKind>, SimilarTextIndex>> enumValues;
+
+		public SimilarTextIndexes(int generation) {
+			this.generation = generation;
+			this.enumValues = new IdentityHashMap<>();
+		}
+
+		/**
+		 * Returns the index of the (not mapped) property names of the given project
+		 * info.
+		 *
+		 * @param projectInfo the MicroProfile project info.
+		 * @return the index of the (not mapped) property names of the given project
+		 *         info.
+		 */
+		public synchronized SimilarTextIndex getPropertyNames(MicroProfileProjectInfo projectInfo) {
+			if (propertyNames == null) {
+				List<String> names = new ArrayList<>();
+				for (ItemMetadata metaProperty : projectInfo.getProperties()) {
+					String name = metaProperty.getName();
+					if (PropertiesFileUtils.isMappedProperty(name)) {
+						// FIXME: support mapped property
+					} else {
+						names.add(name);
+					}
+				}
+				propertyNames = new SimilarTextIndex(names);
+			}
+			return propertyNames;
+		}
+
+		/**
+		 * Returns the index of the given enumeration values converted with the given
+		 * converters.
+		 *
+		 * @param enums          the enumeration values.
+		 * @param converterKinds the converters and null otherwise.
+		 * @return the index of the given enumeration values converted with the given
+		 *         converters.
+		 */
+		public synchronized SimilarTextIndex getEnumValues(Collection<ValueHint> enums,
+				List<ConverterKind> converterKinds) {
+			List<ConverterKind> key = converterKinds != null ? converterKinds : Collections.emptyList();
+			return enumValues.computeIfAbsent(enums, k -> new HashMap<>()) //
+					.computeIfAbsent(key, k -> {
+						List<String> values = new ArrayList<>();
+						for (ValueHint e : enums) {
+							if (!key.isEmpty()) {
+								// The metadata property has converters, index each converted value
+								for (ConverterKind converterKind : key) {
+									values.add(e.getValue(converterKind));
+								}
+							} else {
+								values.add(e.getValue());
+							}
+						}
+						return new SimilarTextIndex(values);
+					});
+		}
+	}
+
+	private final Map<MicroProfileProjectInfo, SimilarTextIndexes> indexes = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Returns code actions for the given diagnostics of the application.properties
 	 * <code>document</code> by using the given MicroProfile properties metadata
@@ -124,22 +204,16 @@ class PropertiesFileCodeActions {
 			// Get property name by using the diagnostic range
 			PropertyKey propertyKey = (PropertyKey) document.findNodeAt(diagnostic.getRange().getStart());
 			String propertyName = propertyKey.getPropertyName();
-			// Loop for each metadata property
-			for (ItemMetadata metaProperty : projectInfo.getProperties()) {
-				String name = metaProperty.getName();
-				if (PropertiesFileUtils.isMappedProperty(name)) {
-					// FIXME: support mapped property
-				} else {
-					// Check if the property name is similar to the metadata name
-					if (isSimilar(metaProperty.getName(), propertyName)) {
-						Range range = PositionUtils.createRange(propertyKey);
-						CodeAction replaceAction = CodeActionFactory.replace(
-								MessageFormat.format(UNKNOWN_PROPERTY_SIMILAR_TEXT_SUGGESTION, name),
-								MicroProfileCodeActionId.UnknownPropertySimilarTextSuggestion, range, name,
-								document.getDocument(), diagnostic);
-						codeActions.add(replaceAction);
-					}
-				}
+			// Search the metadata property names which are similar to the property name
+			List<String> similarNames = getIndexes(projectInfo).getPropertyNames(projectInfo)
+					.findSimilar(propertyName, false, MAX_SIMILAR_SUGGESTIONS);
+			for (String name : similarNames) {
+				Range range = PositionUtils.createRange(propertyKey);
+				CodeAction replaceAction = CodeActionFactory.replace(
+						MessageFormat.format(UNKNOWN_PROPERTY_SIMILAR_TEXT_SUGGESTION, name),
+						MicroProfileCodeActionId.UnknownPropertySimilarTextSuggestion, range, name,
+						document.getDocument(), diagnostic);
+				codeActions.add(replaceAction);
 			}
 
 			if (commandCapabilities.isCommandSupported(CommandKind.COMMAND_CONFIGURATION_UPDATE)) {
@@ -190,24 +264,10 @@ class PropertiesFileCodeActions {
 			}
 
 			List<ConverterKind> converterKinds = metaProperty.getConverterKinds();
-			Collection<String> similarEnums = new ArrayList<>();
-			for (ValueHint e : enums) {
-				if (converterKinds != null && !converterKinds.isEmpty()) {
-					// The metadata property has converters, loop for each converter and check for
-					// each converted value if it could be a similar value.
-					for (ConverterKind converterKind : converterKinds) {
-						String convertedValue = e.getValue(converterKind);
-						if (isSimilarPropertyValue(convertedValue, value)) {
-							similarEnums.add(convertedValue);
-						}
-					}
-				} else {
-					// No converter, check if the value if the value hint could be a similar value.
-					if (isSimilarPropertyValue(e.getValue(), value)) {
-						similarEnums.add(e.getValue());
-					}
-				}
-			}
+			// Search the enumeration values (converted with the converters of the metadata
+			// property) which start with or are similar to the value.
+			Collection<String> similarEnums = getIndexes(projectInfo).getEnumValues(enums, converterKinds)
+					.findSimilar(value, true, MAX_SIMILAR_SUGGESTIONS);
 
 			Range range = diagnostic.getRange();
 
@@ -380,13 +440,22 @@ class PropertiesFileCodeActions {
 		return diagnosticMessage.substring(start, end);
 	}
 
-	private static boolean isSimilarPropertyValue(String reference, String current) {
-		return reference.startsWith(current) ? true : isSimilar(reference, current);
-	}
-
-	private static boolean isSimilar(String reference, String current) {
-		int threshold = Math.round(MAX_DISTANCE_DIFF_RATIO * reference.length());
-		LevenshteinDistance levenshteinDistance = new LevenshteinDistance(threshold);
-		return levenshteinDistance.apply(reference, current) != -1;
+	/**
+	 * Returns the similar text indexes for the current generation of the given
+	 * project info.
+	 *
+	 * @param projectInfo the MicroProfile project info.
+	 * @return the similar text indexes for the current generation of the given
+	 *         project info.
+	 */
+	private SimilarTextIndexes getIndexes(MicroProfileProjectInfo projectInfo) {
+		if (!(projectInfo instanceof ExtendedMicroProfileProjectInfo)) {
+			// the project info cannot track its changes, don't cache the indexes
+			return new SimilarTextIndexes(-1);
+		}
+		int generation = ((ExtendedMicroProfileProjectInfo) projectInfo).getGeneration();
+		return indexes.compute(projectInfo, (k, current) -> current != null && current.generation == generation //
+				? current
+				: new SimilarTextIndexes(generation));
 	}
 }
@@ -15,10 +15,10 @@ package org.eclipse.lsp4mp.services.properties;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -41,6 +41,7 @@ import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.ls.commons.SnippetsBuilder;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
@@ -162,13 +163,8 @@ class PropertiesFileCompletions {
 	 */
 	public CompletionItem resolveCompletionItem(CompletionItem unresolved, MicroProfileProjectInfo projectInfo,
 			MicroProfileCompletionCapabilities completionCapabilities, CancelChecker cancelChecker) {
-		String propertyName = unresolved.getLabel();
-		int index = propertyName.indexOf(" =" );
-		if (index != -1) {
-			propertyName = propertyName.substring(0, index);
-		}
 		boolean markdownSupported = completionCapabilities.isDocumentationFormatSupported(MarkupKind.MARKDOWN);
-		ItemMetadata property = PropertiesFileUtils.getProperty(propertyName, projectInfo);
+		ItemMetadata property = getResolvedProperty(unresolved, projectInfo);
 		if (property == null) {
 			return unresolved;
 		}
@@ -176,6 +172,48 @@ class PropertiesFileCompletions {
 		return unresolved;
 	}
 
+	/**
+	 * Returns the completion item with the empty fields resolved and the missing
+	 * description of the property declared in a Java file collected with the
+	 * given documentation provider.
+	 *
+	 * @param unresolved             the unresolved completion item
+	 * @param uri                    the properties file URI
+	 * @param projectInfo            the MicroProfile project information
+	 * @param completionCapabilities the completion capabilities
+	 * @param documentationProvider  the documentation provider
+	 * @param cancelChecker          the cancel checker
+	 * @return the completion item with the empty fields resolved.
+	 */
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved, String uri,
+			MicroProfileProjectInfo projectInfo, MicroProfileCompletionCapabilities completionCapabilities,
+			MicroProfilePropertyDocumentationProvider documentationProvider, CancelChecker cancelChecker) {
+		ItemMetadata property = getResolvedProperty(unresolved, projectInfo);
+		CompletableFuture<Void> docsCollect = property != null
+				? PropertiesFileUtils.collectDescription(property, uri,
+						completionCapabilities.isDocumentationFormatSupported(MarkupKind.MARKDOWN),
+						documentationProvider)
+				: null;
+		if (docsCollect == null) {
+			return CompletableFuture
+					.completedFuture(resolveCompletionItem(unresolved, projectInfo, completionCapabilities, cancelChecker));
+		}
+		return docsCollect.thenApply(
+				(_null) -> resolveCompletionItem(unresolved, projectInfo, completionCapabilities, cancelChecker));
+	}
+
+	private static ItemMetadata getResolvedProperty(CompletionItem unresolved, MicroProfileProjectInfo projectInfo) {
+		if (projectInfo == null) {
+			return null;
+		}
+		String propertyName = unresolved.getLabel();
+		int index = propertyName.indexOf(" =" );
+		if (index != -1) {
+			propertyName = propertyName.substring(0, index);
+		}
+		return PropertiesFileUtils.getProperty(propertyName, projectInfo);
+	}
+
 	/**
 	 * Collect property keys.
 	 *
@@ -214,7 +252,7 @@ class PropertiesFileCompletions {
 			profile = key.getProfile();
 		}
 
-		Set<String> existingProperties = getExistingProperties(model);
+		Set<String> existingProperties = model.getPropertyKeys();
 
 		String propertyValue = null;
 		if (node != null && node.getNodeType() == NodeType.PROPERTY_KEY) {
@@ -420,25 +458,6 @@ class PropertiesFileCompletions {
 		return t.negate();
 	}
 
-	/**
-	 * Returns a set of property names for the properties in <code>model</code>.
-	 *
-	 * @param model the <code>PropertiesModel</code> to get property names from
-	 * @return set of property names for the properties in <code>model</code>
-	 */
-	private static Set<String> getExistingProperties(PropertiesModel model) {
-		Set<String> set = new HashSet<String>();
-		for (Node child : model.getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				String name = ((Property) child).getPropertyNameWithProfile();
-				if (!StringUtils.isEmpty(name)) {
-					set.add(name);
-				}
-			}
-		}
-		return set;
-	}
-
 	/**
 	 * Returns the property name to insert when completion is applied.
 	 *
@@ -17,9 +17,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
@@ -57,18 +59,20 @@ public class PropertiesFileDefinition {
 	 * given <code>position</code> of the given microprofile-config.properties
 	 * <code>document</code>.
 	 *
-	 * @param document      the properties model.
-	 * @param position      the position where definition was triggered
-	 * @param projectInfo   the MicroProfile project info
-	 * @param provider      the MicroProfile property definition provider.
-	 * @param cancelChecker the cancel checker
+	 * @param document          the properties model.
+	 * @param position          the position where definition was triggered
+	 * @param projectInfo       the MicroProfile project info
+	 * @param provider          the MicroProfile property definition provider.
+	 * @param hasUnsavedChanges the predicate which returns true if the Java file
+	 *                          of the given URI has unsaved changes.
+	 * @param cancelChecker     the cancel checker
 	 * @return as promise the Java field definition location of the property at the
 	 *         given <code>position</code> of the given
 	 *         microprofile-config.properties <code>document</code>.
 	 */
 	public CompletableFuture<List<LocationLink>> findDefinition(PropertiesModel document, Position position,
 			MicroProfileProjectInfo projectInfo, MicroProfilePropertyDefinitionProvider provider,
-			CancelChecker cancelChecker) {
+			Predicate<String> hasUnsavedChanges, CancelChecker cancelChecker) {
 
 		try {
 			int offset = document.offsetAt(position);
@@ -106,6 +110,18 @@ public class PropertiesFileDefinition {
 				return getEmptyDefinition();
 			}
 
+			Location sourceLocation = item.getSourceLocation();
+			if (node.getNodeType() == NodeType.PROPERTY_KEY && sourceLocation != null
+					&& !hasUnsavedChanges.test(sourceLocation.getUri())) {
+				// The location of the Java field or method has been collected with the
+				// properties, no need to search it with the definition provider. When the
+				// Java file has unsaved changes, the location could be outdated and the
+				// definition is searched with the definition provider.
+				LocationLink link = new LocationLink(sourceLocation.getUri(), sourceLocation.getRange(),
+						sourceLocation.getRange(), PositionUtils.createRange(node));
+				return CompletableFuture.completedFuture(Collections.singletonList(link));
+			}
+
 			MicroProfilePropertyDefinitionParams definitionParams = getPropertyDefinitionParams(document, item,
 					projectInfo, node, inDefaultValue);
 			if (definitionParams == null) {
@@ -78,14 +78,9 @@ public class PropertiesFileDocumentHighlight {
 		}
 		List<DocumentHighlight> highlights = new ArrayList<>(2);
 		highlights.add(createHighlight(node, DocumentHighlightKind.Read));
-		for (Node child : document.getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				if (otherProp.equals(property.getPropertyName())) {
-					highlights.add(createHighlight(property.getKey(), DocumentHighlightKind.Write));
-					break;
-				}
-			}
+		List<Property> properties = document.getPropertiesByName(otherProp);
+		if (!properties.isEmpty()) {
+			highlights.add(createHighlight(properties.get(0).getKey(), DocumentHighlightKind.Write));
 		}
 		return highlights;
 	}
@@ -107,18 +102,8 @@ public class PropertiesFileDocumentHighlight {
 		}
 		List<DocumentHighlight> highlights = new ArrayList<>();
 		highlights.add(createHighlight(node, DocumentHighlightKind.Write));
-		for (Node child : document.getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				if (property.getValue() != null) {
-					for (Node valueSegment : property.getValue().getChildren()) {
-						if (valueSegment.getNodeType() == NodeType.PROPERTY_VALUE_EXPRESSION && propertyName
-								.equals(((PropertyValueExpression) valueSegment).getReferencedPropertyName())) {
-							highlights.add(createHighlight(valueSegment, DocumentHighlightKind.Read));
-						}
-					}
-				}
-			}
+		for (PropertyValueExpression expression : document.getPropertyValueExpressions(propertyName)) {
+			highlights.add(createHighlight(expression, DocumentHighlightKind.Read));
 		}
 		return highlights;
 	}
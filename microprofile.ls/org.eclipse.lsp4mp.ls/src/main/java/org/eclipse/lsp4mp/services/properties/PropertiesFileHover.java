@@ -23,9 +23,7 @@ import org.eclipse.lsp4j.MarkupKind;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
-import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
-import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
@@ -179,22 +177,10 @@ class PropertiesFileHover {
 
 		if (item != null || propertyValue != null) {
 
-			CompletableFuture<Void> docsCollect = null;
-			if (item != null && item.isJavaOrigin() && StringUtils.isEmpty(item.getDescription())) {
-				// It is a property declared in a Java file, try to collect the Javadoc
-				MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
-				params.setUri(uri);
-				params.setSourceField(item.getSourceField());
-				params.setSourceMethod(item.getSourceMethod());
-				params.setSourceType(item.getSourceType());
-				params.setDocumentFormat(markdownSupported ? DocumentFormat.Markdown : DocumentFormat.PlainText);
-				docsCollect = documentationProvider.getPropertyDocumentation(params) //
-						.thenAccept(docs -> {
-							if (docs != null && !docs.isEmpty()) {
-								item.setDescription(docs);
-							}
-						});
-			}
+			// If it is a property declared in a Java file, try to collect the Javadoc
+			CompletableFuture<Void> docsCollect = item != null
+					? PropertiesFileUtils.collectDescription(item, uri, markdownSupported, documentationProvider)
+					: null;
 
 			if (docsCollect == null) {
 				Hover hover = new Hover();
@@ -15,7 +15,10 @@ package org.eclipse.lsp4mp.services.properties;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,6 +31,7 @@ import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.commons.MicroProfileInlayHintSettings;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.runtime.ExecutionMode;
 import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntime;
 import org.eclipse.lsp4mp.commons.runtime.converter.ConverterValidator;
 import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
@@ -67,115 +71,239 @@ import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
 	service=eclipse/microprofile-config
 	endpoint=${app}/${service} [eclipse/microprofile-config]
  * </code>
+ *
+ * Only the properties which intersect the requested range are processed and
+ * the inlay hints of a property are cached for the current version of the
+ * properties model, so scrolling back in a large file doesn't compute them
+ * again.
  */
 
 class PropertiesFileInlayHint {
 
 	private static final Logger LOGGER = Logger.getLogger(PropertiesFileInlayHint.class.getName());
 
+	/**
+	 * Inlay hints computed for a given version of a properties model with a given
+	 * generation of a MicroProfile project info and given settings.
+	 */
+	private static class InlayHintCache {
+
+		private final MicroProfileProjectInfo projectInfo;
+
+		private final int generation;
+
+		private final boolean showResolveExpressions;
+
+		private final boolean showConverters;
+
+		private final boolean showTypes;
+
+		private final ExecutionMode executionMode;
+
+		private final Map<Property, List<InlayHint>> hints;
+
+		public InlayHintCache(MicroProfileProjectInfo projectInfo, int generation, boolean showResolveExpressions,
+				boolean showConverters, boolean showTypes, ExecutionMode executionMode) {
+			this.projectInfo = projectInfo;
+			this.generation = generation;
+			this.showResolveExpressions = showResolveExpressions;
+			this.showConverters = showConverters;
+			this.showTypes = showTypes;
+			this.executionMode = executionMode;
+			this.hints = new IdentityHashMap<>();
+		}
+
+		public boolean isValid(MicroProfileProjectInfo projectInfo, int generation, boolean showResolveExpressions,
+				boolean showConverters, boolean showTypes, ExecutionMode executionMode) {
+			return this.projectInfo == projectInfo && this.generation == generation
+					&& this.showResolveExpressions == showResolveExpressions && this.showConverters == showConverters
+					&& this.showTypes == showTypes && this.executionMode == executionMode;
+		}
+	}
+
+	/**
+	 * The context of an inlay hint request.
+	 */
+	private static class InlayHintRequest {
+
+		private final PropertiesModel document;
+
+		private final InlayHintCache cache;
+
+		private PropertyValueExpander expander;
+
+		public InlayHintRequest(PropertiesModel document, InlayHintCache cache) {
+			this.document = document;
+			this.cache = cache;
+		}
+
+		public PropertyValueExpander getExpander() {
+			// The expander (and its property graph) is created only when the first
+			// expression which is not cached must be resolved. It is not cached with the
+			// inlay hints since it references the properties model.
+			if (expander == null) {
+				MicroProfileProjectInfo projectInfo = cache.projectInfo;
+				List<ItemMetadata> metadatas = projectInfo != null && projectInfo.getProperties() != null
+						? projectInfo.getProperties()
+						: Collections.emptyList();
+				IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils
+						.layer(document, new PropertiesInfoPropertiesProvider(metadatas));
+				expander = new PropertyValueExpander(propertiesProvider);
+			}
+			return expander;
+		}
+	}
+
+	private final Map<PropertiesModel, InlayHintCache> caches = Collections.synchronizedMap(new WeakHashMap<>());
+
 	public List<InlayHint> getInlayHint(PropertiesModel document, MicroProfileProjectInfo projectInfo, Range range,
 			MicroProfileInlayHintSettings inlayHintSettings, MicroProfileExecutionSettings executionSettings,
 			CancelChecker cancelChecker) {
-		List<ItemMetadata> metadatas = projectInfo != null && projectInfo.getProperties() != null
-				? projectInfo.getProperties()
-				: Collections.emptyList();
-		MicroProfileProjectRuntime projectRuntime = null;
-		if (projectInfo instanceof ExtendedMicroProfileProjectInfo) {
-			projectRuntime = ((ExtendedMicroProfileProjectInfo) projectInfo).getProjectRuntime();
+		InlayHintCache cache = getCache(document, projectInfo, inlayHintSettings, executionSettings);
+
+		// Search with a binary search the first property which intersects the range
+		List<Node> children = document.getChildren();
+		int startIndex = 0;
+		int endOffset = Integer.MAX_VALUE;
+		if (range != null) {
+			try {
+				startIndex = document.findFirstChildEndingAfter(document.offsetAt(range.getStart()));
+				endOffset = document.offsetAt(range.getEnd());
+			} catch (BadLocationException e) {
+				LOGGER.log(Level.SEVERE, "PropertiesFileInlayHint, range error", e);
+				startIndex = 0;
+				endOffset = Integer.MAX_VALUE;
+			}
 		}
+
+		InlayHintRequest request = new InlayHintRequest(document, cache);
+		List<InlayHint> hints = new ArrayList<>();
+		synchronized (cache) {
+			for (int i = startIndex; i < children.size(); i++) {
+				Node child = children.get(i);
+				if (child.getStart() > endOffset) {
+					break;
+				}
+				cancelChecker.checkCanceled();
+				if (child.getNodeType() == NodeType.PROPERTY) {
+					Property property = (Property) child;
+					List<InlayHint> propertyHints = cache.hints.get(property);
+					if (propertyHints == null) {
+						propertyHints = collectInlayHints(property, request);
+						cache.hints.put(property, propertyHints);
+					}
+					hints.addAll(propertyHints);
+				}
+			}
+		}
+		return hints;
+	}
+
+	private InlayHintCache getCache(PropertiesModel document, MicroProfileProjectInfo projectInfo,
+			MicroProfileInlayHintSettings inlayHintSettings, MicroProfileExecutionSettings executionSettings) {
+		int generation = projectInfo instanceof ExtendedMicroProfileProjectInfo
+				? ((ExtendedMicroProfileProjectInfo) projectInfo).getGeneration()
+				: -1;
 		boolean showResolveExpressions = inlayHintSettings.getResolveExpressions().isEnabled();
 		boolean showConverters = inlayHintSettings.getConverters().isEnabled();
 		boolean showTypes = inlayHintSettings.getTypes().isEnabled();
+		ExecutionMode executionMode = executionSettings.getExecutionMode();
+		return caches.compute(document,
+				(k, current) -> current != null && current.isValid(projectInfo, generation, showResolveExpressions,
+						showConverters, showTypes, executionMode) //
+								? current
+								: new InlayHintCache(projectInfo, generation, showResolveExpressions, showConverters,
+										showTypes, executionMode));
+	}
+
+	private static List<InlayHint> collectInlayHints(Property property, InlayHintRequest request) {
+		PropertyKey propertyKey = property.getKey();
+		if (propertyKey == null) {
+			return Collections.emptyList();
+		}
+		PropertiesModel document = request.document;
+		InlayHintCache cache = request.cache;
+		MicroProfileProjectInfo projectInfo = cache.projectInfo;
+		boolean showConverters = cache.showConverters;
+		boolean showTypes = cache.showTypes;
 
 		List<InlayHint> hints = new ArrayList<>();
-		List<Node> children = document.getChildren();
-		for (Node child : children) {
-			cancelChecker.checkCanceled();
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				PropertyKey propertyKey = property.getKey();
-				if (propertyKey != null) {
-
-					if (showConverters || showTypes) {
-						ItemMetadata metadata = PropertiesFileUtils.getProperty(property.getPropertyName(),
-								projectInfo);
-						if (metadata != null) {
-							String type = metadata.getType();
-							if (!StringUtils.isEmpty(type)) {
-								ConverterValidator converterValidator = null;
-								if (showConverters && projectRuntime != null) {
-									converterValidator = projectRuntime.findConverterValidator(type, projectInfo,
-											executionSettings.getExecutionMode());
-								}
-
-								try {
-									InlayHint hint = new InlayHint();
-
-									List<InlayHintLabelPart> label = new ArrayList<>();
-									if (showTypes) {
-										// Show Java types
-										label.add(new InlayHintLabelPart(" :"));
-										InlayHintLabelPart typeLabel = new InlayHintLabelPart(metadata.getSimpleType());
-										label.add(typeLabel);
-									}
-									if (converterValidator != null
-											&& converterValidator.getConverterSimpleClassName() != null) {
-										// Show converter
-										if (label.isEmpty()) {
-											label.add(new InlayHintLabelPart(" :"));
-										} else {
-											label.add(new InlayHintLabelPart(" - "));
-										}
-										InlayHintLabelPart converterLabel = new InlayHintLabelPart(
-												converterValidator.getConverterSimpleClassName());
-										label.add(converterLabel);
-									}
-
-									hint.setLabel(label);
-									hint.setKind(InlayHintKind.Type);
-									Position pos = document.positionAt(propertyKey.getEnd());
-									hint.setPosition(pos);
-									hints.add(hint);
-								} catch (BadLocationException e) {
-									LOGGER.log(Level.SEVERE, "PropertiesFileInlayHint, position error", e);
-								}
+		if (showConverters || showTypes) {
+			ItemMetadata metadata = PropertiesFileUtils.getProperty(property.getPropertyName(), projectInfo);
+			if (metadata != null) {
+				String type = metadata.getType();
+				if (!StringUtils.isEmpty(type)) {
+					ConverterValidator converterValidator = null;
+					MicroProfileProjectRuntime projectRuntime = null;
+					if (projectInfo instanceof ExtendedMicroProfileProjectInfo) {
+						projectRuntime = ((ExtendedMicroProfileProjectInfo) projectInfo).getProjectRuntime();
+					}
+					if (showConverters && projectRuntime != null) {
+						converterValidator = projectRuntime.findConverterValidator(type, projectInfo,
+								cache.executionMode);
+					}
+
+					try {
+						InlayHint hint = new InlayHint();
 
+						List<InlayHintLabelPart> label = new ArrayList<>();
+						if (showTypes) {
+							// Show Java types
+							label.add(new InlayHintLabelPart(" :"));
+							InlayHintLabelPart typeLabel = new InlayHintLabelPart(metadata.getSimpleType());
+							label.add(typeLabel);
+						}
+						if (converterValidator != null && converterValidator.getConverterSimpleClassName() != null) {
+							// Show converter
+							if (label.isEmpty()) {
+								label.add(new InlayHintLabelPart(" :"));
+							} else {
+								label.add(new InlayHintLabelPart(" - "));
 							}
+							InlayHintLabelPart converterLabel = new InlayHintLabelPart(
+									converterValidator.getConverterSimpleClassName());
+							label.add(converterLabel);
 						}
+
+						hint.setLabel(label);
+						hint.setKind(InlayHintKind.Type);
+						Position pos = document.positionAt(propertyKey.getEnd());
+						hint.setPosition(pos);
+						hints.add(hint);
+					} catch (BadLocationException e) {
+						LOGGER.log(Level.SEVERE, "PropertiesFileInlayHint, position error", e);
 					}
 
-					PropertyValue valueNode = property.getValue();
-					if (valueNode != null) {
-
-						if (showResolveExpressions && valueNode.hasExpression()) {
-							// The current property has a value with expression:
-							// ex : server.url=https://${host}:${port:8080}/${endpoint}
-							IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils
-									.layer(document, new PropertiesInfoPropertiesProvider(metadatas));
-							PropertyValueExpander expander = new PropertyValueExpander(propertiesProvider);
-							String resolved = expander.getValue(property.getKey().getPropertyNameWithProfile());
-							if (resolved != null) {
-								try {
-									// The expression 'https://${host}:${port:8080}/${endpoint}' can be resolved
-									// ex : https://microprofile.io:8080/project/eclipse/microprofile-config
-									// Display this resolved with inlay hint:
-									// server.url=https://${host}:${port:8080}/${endpoint}
-									// [https://microprofile.io:8080/project/eclipse/microprofile-config]
-									InlayHint hint = new InlayHint();
-									hint.setLabel(" " + resolved);
-									hint.setKind(InlayHintKind.Parameter);
-									Position pos = document.positionAt(valueNode.getEnd());
-									hint.setPosition(pos);
-									hints.add(hint);
-								} catch (BadLocationException e) {
-									LOGGER.log(Level.SEVERE, "PropertiesFileInlayHint, position error", e);
-								}
-							}
-						}
+				}
+			}
+		}
+
+		PropertyValue valueNode = property.getValue();
+		if (valueNode != null) {
+
+			if (cache.showResolveExpressions && valueNode.hasExpression()) {
+				// The current property has a value with expression:
+				// ex : server.url=https://${host}:${port:8080}/${endpoint}
+				String resolved = request.getExpander().getValue(propertyKey.getPropertyNameWithProfile());
+				if (resolved != null) {
+					try {
+						// The expression 'https://${host}:${port:8080}/${endpoint}' can be resolved
+						// ex : https://microprofile.io:8080/project/eclipse/microprofile-config
+						// Display this resolved with inlay hint:
+						// server.url=https://${host}:${port:8080}/${endpoint}
+						// [https://microprofile.io:8080/project/eclipse/microprofile-config]
+						InlayHint hint = new InlayHint();
+						hint.setLabel(" " + resolved);
+						hint.setKind(InlayHintKind.Parameter);
+						Position pos = document.positionAt(valueNode.getEnd());
+						hint.setPosition(pos);
+						hints.add(hint);
+					} catch (BadLocationException e) {
+						LOGGER.log(Level.SEVERE, "PropertiesFileInlayHint, position error", e);
 					}
 				}
 			}
 		}
 		return hints;
 	}
-}
\ No newline at end of file
+}
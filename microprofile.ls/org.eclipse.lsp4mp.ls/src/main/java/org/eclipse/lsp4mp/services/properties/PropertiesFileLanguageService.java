@@ -15,6 +15,7 @@ package org.eclipse.lsp4mp.services.properties;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.CodeAction;
@@ -110,6 +111,26 @@ public class PropertiesFileLanguageService extends PropertiesFileExtensionRegist
 		return completions.resolveCompletionItem(unresolved, projectInfo, completionCapabilities, cancelChecker);
 	}
 
+	/**
+	 * Returns the completion item with the empty fields resolved and the missing
+	 * description of the property declared in a Java file collected with the
+	 * given documentation provider.
+	 *
+	 * @param unresolved             the unresolved completion item
+	 * @param uri                    the properties file URI
+	 * @param projectInfo            the MicroProfile project information
+	 * @param completionCapabilities the completion capabilities
+	 * @param documentationProvider  the documentation provider
+	 * @param cancelChecker          the cancel checker
+	 * @return the completion item with the empty fields resolved.
+	 */
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved, String uri,
+			MicroProfileProjectInfo projectInfo, MicroProfileCompletionCapabilities completionCapabilities,
+			MicroProfilePropertyDocumentationProvider documentationProvider, CancelChecker cancelChecker) {
+		return completions.resolveCompletionItem(unresolved, uri, projectInfo, completionCapabilities,
+				documentationProvider, cancelChecker);
+	}
+
 	/**
 	 * Returns Hover object for the currently hovered token
 	 *
@@ -159,6 +180,8 @@ public class PropertiesFileLanguageService extends PropertiesFileExtensionRegist
 	 * @param position              the position where definition was triggered
 	 * @param projectInfo           the MicroProfile project info
 	 * @param provider              the MicroProfile property definition provider.
+	 * @param hasUnsavedChanges     the predicate which returns true if the Java
+	 *                              file of the given URI has unsaved changes.
 	 * @param definitionLinkSupport true if {@link LocationLink} must be returned
 	 *                              and false otherwise.
 	 * @param cancelChecker         the cancel checker
@@ -168,11 +191,11 @@ public class PropertiesFileLanguageService extends PropertiesFileExtensionRegist
 	 */
 	public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>> findDefinition(
 			PropertiesModel document, Position position, MicroProfileProjectInfo projectInfo,
-			MicroProfilePropertyDefinitionProvider provider, boolean definitionLinkSupport,
-			CancelChecker cancelChecker) {
+			MicroProfilePropertyDefinitionProvider provider, Predicate<String> hasUnsavedChanges,
+			boolean definitionLinkSupport, CancelChecker cancelChecker) {
 		updateProperties(projectInfo, document);
 		CompletableFuture<List<LocationLink>> definitionLocationLinks = definition.findDefinition(document, position,
-				projectInfo, provider, cancelChecker);
+				projectInfo, provider, hasUnsavedChanges, cancelChecker);
 		if (definitionLinkSupport) {
 			return definitionLocationLinks.thenApply((List<LocationLink> resolvedLinks) -> {
 				return Either.forRight(resolvedLinks);
@@ -13,7 +13,6 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.services.properties;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -66,7 +65,6 @@ class PropertiesFileValidator {
 
 	private final MicroProfileValidationSettings validationSettings;
 	private final PropertiesFileExtensionRegistry extensionRegistry;
-	private final Map<String, List<Property>> existingProperties;
 	private final Map<String, Property> potentiallyUnknownProperties;
 	private Set<String> declaredProperties;
 	private Map<String, ItemMetadata> availableProperties;
@@ -83,7 +81,6 @@ class PropertiesFileValidator {
 		this.executionSettings = executionSettings;
 		this.validationSettings = validationSettings;
 		this.extensionRegistry = extensionRegistry;
-		this.existingProperties = new HashMap<String, List<Property>>();
 		this.potentiallyUnknownProperties = new HashMap<String, Property>();
 		// to be lazily init
 		this.declaredProperties = null;
@@ -103,7 +100,7 @@ class PropertiesFileValidator {
 			}
 		}
 
-		addDiagnosticsForDuplicates();
+		addDiagnosticsForDuplicates(document);
 		addDiagnosticsForMissingRequired(document);
 		addDiagnosticsForUnknownProperties();
 	}
@@ -113,8 +110,6 @@ class PropertiesFileValidator {
 		if (!StringUtils.isEmpty(propertyNameWithProfile)) {
 			// Validate Syntax property
 			validateSyntaxProperty(propertyNameWithProfile, property);
-			// Validate Duplicate property
-			validateDuplicateProperty(propertyNameWithProfile, property);
 		}
 
 		String propertyName = property.getPropertyName();
@@ -126,7 +121,7 @@ class PropertiesFileValidator {
 		}
 	}
 
-	// ---------------- Property syntax/duplicate validation
+	// ---------------- Property syntax validation
 
 	private void validateSyntaxProperty(String propertyName, Property property) {
 		DiagnosticSeverity severity = validationSettings.getSyntax().getDiagnosticSeverity(propertyName);
@@ -140,20 +135,6 @@ class PropertiesFileValidator {
 		}
 	}
 
-	private void validateDuplicateProperty(String propertyName, Property property) {
-		DiagnosticSeverity severity = validationSettings.getDuplicate().getDiagnosticSeverity(propertyName);
-		if (severity == null) {
-			// The duplicate validation must be ignored for this property name
-			return;
-		}
-
-		if (!existingProperties.containsKey(propertyName)) {
-			existingProperties.put(propertyName, new ArrayList<Property>());
-		}
-
-		existingProperties.get(propertyName).add(property);
-	}
-
 	// ---------------- Property key validation
 
 	private void validatePropertyKey(Property property, String propertyName, ItemMetadata metadata,
@@ -380,19 +361,24 @@ class PropertiesFileValidator {
 		}
 	}
 
-	private void addDiagnosticsForDuplicates() {
-		existingProperties.forEach((propertyName, propertyList) -> {
+	private void addDiagnosticsForDuplicates(PropertiesModel document) {
+		for (String propertyName : document.getPropertyKeys()) {
+			List<Property> propertyList = document.getPropertiesByKey(propertyName);
 			if (propertyList.size() <= 1) {
-				return;
+				continue;
 			}
 
 			DiagnosticSeverity severity = validationSettings.getDuplicate().getDiagnosticSeverity(propertyName);
+			if (severity == null) {
+				// The duplicate validation must be ignored for this property name
+				continue;
+			}
 
 			for (Property property : propertyList) {
 				addDiagnostic("Duplicate property '" + propertyName + "'", property.getKey(), severity,
 						ValidationType.duplicate.name());
 			}
-		});
+		}
 	}
 
 	private void addDiagnosticsForMissingRequired(PropertiesModel document) {
@@ -403,19 +389,19 @@ class PropertiesFileValidator {
 			DiagnosticSeverity severity = validationSettings.getRequired().getDiagnosticSeverity(propertyName);
 
 			if (severity != null && property.isRequired()) {
-				if (!existingProperties.containsKey(propertyName)) {
+				List<Property> propertyList = document.getPropertiesByKey(propertyName);
+				if (propertyList.isEmpty()) {
 					addDiagnostic("Missing required property '" + propertyName + "'", document, severity,
 							ValidationType.required.name());
 				} else {
-					addDiagnosticsForRequiredIfNoValue(propertyName, severity);
+					addDiagnosticsForRequiredIfNoValue(propertyName, propertyList, severity);
 				}
 			}
 		}
 	}
 
-	private void addDiagnosticsForRequiredIfNoValue(String propertyName, DiagnosticSeverity severity) {
-		List<Property> propertyList = existingProperties.get(propertyName);
-
+	private void addDiagnosticsForRequiredIfNoValue(String propertyName, List<Property> propertyList,
+			DiagnosticSeverity severity) {
 		for (Property property : propertyList) {
 			if (property.getValue() != null && !property.getValue().getValue().isEmpty()) {
 				return;
@@ -449,35 +435,14 @@ class PropertiesFileValidator {
 	}
 
 	/**
-	 * Initialize properties collections in a single pass over the properties model.
+	 * Initialize properties collections from the index of the properties model.
 	 * Collects: - declaredProperties: all property names defined in the file -
 	 * availableProperties: all properties from project metadata -
 	 * referencedProperties: all properties referenced in expressions
 	 */
 	private void initializePropertiesCollections(PropertiesModel model) {
-		declaredProperties = new java.util.HashSet<>();
-
-		// Single pass to collect declared properties and referenced properties
-		for (Node node : model.getChildren()) {
-			if (node.getNodeType() == NodeType.PROPERTY) {
-				Property prop = (Property) node;
-				// Collect declared property
-				declaredProperties.add(prop.getPropertyNameWithProfile());
-
-				// Collect referenced properties in expressions
-				if (prop.getValue() != null) {
-					for (Node child : prop.getValue().getChildren()) {
-						if (child.getNodeType() == NodeType.PROPERTY_VALUE_EXPRESSION) {
-							PropertyValueExpression expr = (PropertyValueExpression) child;
-							if (referencedProperties == null) {
-								referencedProperties = new java.util.HashSet<>();
-							}
-							referencedProperties.add(expr.getReferencedPropertyName());
-						}
-					}
-				}
-			}
-		}
+		declaredProperties = model.getPropertyKeys();
+		referencedProperties = model.getReferencedPropertyNames();
 
 		// Collect available properties from project metadata
 		availableProperties = projectInfo.getProperties().stream()
@@ -0,0 +1,244 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index used to search texts which are similar to a given text (ex : 'Did you
+ * mean ...' quick fixes).
+ *
+ * <p>
+ * A text of the index is similar to the searched text when their Levenshtein
+ * distance is lower or equal to 10% of the length of the indexed text. Instead
+ * of computing the distance with every indexed text, the index uses:
+ * </p>
+ * <ul>
+ * <li>a length filter: the distance between two texts is at least the
+ * difference of their lengths.</li>
+ * <li>a bigram inverted index (count filter): two texts with a distance of
+ * <code>k</code> share at least <code>max(m, n) - 1 - 2 * k</code>
+ * bigrams.</li>
+ * </ul>
+ * <p>
+ * The Levenshtein distance is computed only for the remaining candidates, so
+ * the result is the same than a full scan.
+ * </p>
+ *
+ */
+class SimilarTextIndex {
+
+	private static final float MAX_DISTANCE_DIFF_RATIO = 0.1f;
+
+	private static final int GRAM_SIZE = 2;
+
+	private static final int[] EMPTY_IDS = new int[0];
+
+	/**
+	 * Posting list of a bigram: the ids of the texts which contain the bigram and
+	 * the number of occurrences of the bigram in those texts.
+	 */
+	private static class Posting {
+
+		private int[] ids = new int[4];
+
+		private int[] counts = new int[4];
+
+		private int size;
+
+		void add(int id, int count) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+				counts = Arrays.copyOf(counts, size * 2);
+			}
+			ids[size] = id;
+			counts[size] = count;
+			size++;
+		}
+	}
+
+	private final String[] texts;
+
+	private final int[][] idsByLength;
+
+	private final Integer[] sortedIds;
+
+	private final Map<String, Posting> postings;
+
+	/**
+	 * Create an index for the given texts. The order of the texts is kept in the
+	 * search result.
+	 *
+	 * @param texts the texts to index.
+	 */
+	public SimilarTextIndex(Collection<String> texts) {
+		this.texts = texts.toArray(new String[texts.size()]);
+		this.postings = new HashMap<>();
+		int maxLength = 0;
+		for (String text : this.texts) {
+			maxLength = Math.max(maxLength, text.length());
+		}
+		int[] lengthCounts = new int[maxLength + 1];
+		for (int id = 0; id < this.texts.length; id++) {
+			String text = this.texts[id];
+			lengthCounts[text.length()]++;
+			for (Map.Entry<String, Integer> gram : countGrams(text).entrySet()) {
+				postings.computeIfAbsent(gram.getKey(), k -> new Posting()).add(id, gram.getValue());
+			}
+		}
+		this.idsByLength = new int[maxLength + 1][];
+		for (int length = 0; length <= maxLength; length++) {
+			idsByLength[length] = lengthCounts[length] > 0 ? new int[lengthCounts[length]] : EMPTY_IDS;
+			lengthCounts[length] = 0;
+		}
+		for (int id = 0; id < this.texts.length; id++) {
+			int length = this.texts[id].length();
+			idsByLength[length][lengthCounts[length]++] = id;
+		}
+		this.sortedIds = new Integer[this.texts.length];
+		for (int id = 0; id < sortedIds.length; id++) {
+			sortedIds[id] = id;
+		}
+		Arrays.sort(sortedIds, Comparator.comparing(id -> this.texts[id]));
+	}
+
+	/**
+	 * Returns the indexed texts which are similar to the given text.
+	 *
+	 * @param text          the text to search.
+	 * @param matchPrefix   true if indexed texts which start with the given text
+	 *                      must be returned too and false otherwise.
+	 * @param maxResults    the maximum number of returned texts (the nearest
+	 *                      texts are kept).
+	 * @return the similar texts, in the order of the indexed texts.
+	 */
+	public List<String> findSimilar(String text, boolean matchPrefix, int maxResults) {
+		Map<Integer, Integer> distances = new HashMap<>();
+		if (matchPrefix) {
+			collectPrefixMatches(text, distances);
+		}
+		collectSimilarMatches(text, distances);
+		if (distances.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<Integer> ids = new ArrayList<>(distances.keySet());
+		if (ids.size() > maxResults) {
+			// keep the nearest texts
+			ids.sort(Comparator.comparing((Integer id) -> distances.get(id)).thenComparing(id -> id));
+			ids = ids.subList(0, maxResults);
+		}
+		Collections.sort(ids);
+		List<String> result = new ArrayList<>(ids.size());
+		for (Integer id : ids) {
+			result.add(texts[id]);
+		}
+		return result;
+	}
+
+	private void collectPrefixMatches(String prefix, Map<Integer, Integer> distances) {
+		int low = 0;
+		int high = sortedIds.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (texts[sortedIds[mid]].compareTo(prefix) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		for (int i = low; i < sortedIds.length && texts[sortedIds[i]].startsWith(prefix); i++) {
+			distances.put(sortedIds[i], 0);
+		}
+	}
+
+	private void collectSimilarMatches(String text, Map<Integer, Integer> distances) {
+		int textLength = text.length();
+		int[] commonGrams = null;
+		for (int length = 0; length < idsByLength.length; length++) {
+			int[] ids = idsByLength[length];
+			if (ids.length == 0) {
+				continue;
+			}
+			int threshold = getThreshold(length);
+			if (Math.abs(length - textLength) > threshold) {
+				// the difference of length is greater than the allowed distance
+				continue;
+			}
+			int minCommonGrams = Math.max(length, textLength) - GRAM_SIZE + 1 - threshold * GRAM_SIZE;
+			if (minCommonGrams > 0 && commonGrams == null) {
+				commonGrams = countCommonGrams(text);
+			}
+			LevenshteinDistance levenshteinDistance = new LevenshteinDistance(threshold);
+			for (int id : ids) {
+				if (minCommonGrams > 0 && commonGrams[id] < minCommonGrams) {
+					continue;
+				}
+				int distance = levenshteinDistance.apply(texts[id], text);
+				if (distance != -1) {
+					distances.merge(id, distance, Math::min);
+				}
+			}
+		}
+	}
+
+	private int[] countCommonGrams(String text) {
+		int[] commonGrams = new int[texts.length];
+		for (Map.Entry<String, Integer> gram : countGrams(text).entrySet()) {
+			Posting posting = postings.get(gram.getKey());
+			if (posting != null) {
+				int count = gram.getValue();
+				for (int i = 0; i < posting.size; i++) {
+					commonGrams[posting.ids[i]] += Math.min(count, posting.counts[i]);
+				}
+			}
+		}
+		return commonGrams;
+	}
+
+	private static Map<String, Integer> countGrams(String text) {
+		Map<String, Integer> grams = new HashMap<>();
+		for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+			grams.merge(text.substring(i, i + GRAM_SIZE), 1, Integer::sum);
+		}
+		return grams;
+	}
+
+	/**
+	 * Returns the maximum allowed Levenshtein distance for an indexed text with
+	 * the given length.
+	 *
+	 * @param length the length of the indexed text.
+	 * @return the maximum allowed Levenshtein distance for an indexed text with
+	 *         the given length.
+	 */
+	private static int getThreshold(int length) {
+		return Math.round(MAX_DISTANCE_DIFF_RATIO * length);
+	}
+
+	/**
+	 * Returns the number of indexed texts.
+	 *
+	 * @return the number of indexed texts.
+	 */
+	public int size() {
+		return texts.length;
+	}
+}
@@ -114,6 +114,20 @@ public class ClientCapabilitiesWrapper {
 		return extendedCapabilities.shouldLanguageServerExitOnShutdown();
 	}
 
+	/**
+	 * Returns true if the client supports the 'microprofile/java/features' request
+	 * and false otherwise.
+	 *
+	 * @return true if the client supports the 'microprofile/java/features' request
+	 *         and false otherwise.
+	 */
+	public boolean isJavaFeaturesSupported() {
+		if (extendedCapabilities == null) {
+			return false;
+		}
+		return extendedCapabilities.isJavaFeaturesSupport();
+	}
+
 	public boolean isResourceOperationSupported() {
 		// @formatter:off
 		return capabilities.getWorkspace() != null && capabilities.getWorkspace().getWorkspaceEdit() != null
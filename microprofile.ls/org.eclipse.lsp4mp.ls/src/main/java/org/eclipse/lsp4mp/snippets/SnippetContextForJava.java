@@ -67,12 +67,7 @@ public class SnippetContextForJava implements ISnippetContext<JavaSnippetComplet
 			if (types == null || types.isEmpty()) {
 				return typeMatches = true;
 			} else {
-				for (String type : types) {
-					if (label.hasLabel(type)) {
-						typeMatches = true;
-						break;
-					}
-				}
+				typeMatches = isMatchTypes(label);
 			}
 		} else {
 			typeMatches = true;
@@ -81,6 +76,52 @@ public class SnippetContextForJava implements ISnippetContext<JavaSnippetComplet
 		return typeMatches && snippetContentAppliesToContext(contentType, context.getJavaCursorContextResult());
 	}
 
+	/**
+	 * Returns true if the given project has one of the types declared by the
+	 * snippet (or if the snippet declares no type) and false otherwise.
+	 *
+	 * @param projectInfo the project label info.
+	 * @return true if the given project has one of the types declared by the
+	 *         snippet (or if the snippet declares no type) and false otherwise.
+	 */
+	public boolean isMatchTypes(ProjectLabelInfoEntry projectInfo) {
+		if (types == null || types.isEmpty()) {
+			return true;
+		}
+		for (String type : types) {
+			if (projectInfo.hasLabel(type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns true if the snippet content can be inserted for the given cursor
+	 * context and false otherwise.
+	 *
+	 * @param cursorContext the cursor context and null if the client doesn't
+	 *                      support getting the cursor context.
+	 * @return true if the snippet content can be inserted for the given cursor
+	 *         context and false otherwise.
+	 */
+	public boolean isMatchCursorContext(JavaCursorContextResult cursorContext) {
+		return snippetContentAppliesToContext(contentType, cursorContext);
+	}
+
+	/**
+	 * Returns true if the snippet content can be inserted for the given cursor
+	 * context kind (whatever the prefix) and false otherwise.
+	 *
+	 * @param kind the cursor context kind.
+	 * @return true if the snippet content can be inserted for the given cursor
+	 *         context kind (whatever the prefix) and false otherwise.
+	 */
+	public boolean isMatchCursorContextKind(JavaCursorContextKind kind) {
+		return snippetContentAppliesToContext(contentType, new JavaCursorContextResult(kind, ""))
+				|| snippetContentAppliesToContext(contentType, new JavaCursorContextResult(kind, "@"));
+	}
+
 	private static boolean snippetContentAppliesToContext(SnippetContentType content, JavaCursorContextResult context) {
 		// content/context being null signals that the client doesn't support getting
 		// the completion context
@@ -17,6 +17,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
+import org.eclipse.lsp4mp.ls.commons.LanguageServerExecutors;
 
 /**
  * Utilities for working with <code>CompletableFuture</code>s.
@@ -38,7 +39,7 @@ public class FutureUtils {
 	public static <R> CompletableFuture<R> computeAsyncCompose(
 			Function<ExtendedCancelChecker, CompletableFuture<R>> code) {
 		CompletableFuture<ExtendedCancelChecker> start = new CompletableFuture<>();
-		CompletableFuture<R> result = start.thenComposeAsync(code);
+		CompletableFuture<R> result = start.thenComposeAsync(code, LanguageServerExecutors.getRequestExecutor());
 		CompletableFutureWrapper<R> wrapper = new CompletableFutureWrapper<>(result);
 		start.complete(wrapper);
 		return wrapper;
@@ -13,7 +13,10 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.utils;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
@@ -21,6 +24,7 @@ import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -53,6 +57,28 @@ public class JSONSchemaUtils {
 
 	// private static final String DEFAULT_PROP = "default";
 
+	private static final Gson GSON = new Gson();
+
+	/**
+	 * JSON Schemas generated for a given generation of a MicroProfile project
+	 * info.
+	 */
+	private static class JSONSchemas {
+
+		private final int generation;
+
+		private String schema;
+
+		private String lenientSchema;
+
+		public JSONSchemas(int generation) {
+			this.generation = generation;
+		}
+	}
+
+	private static final Map<MicroProfileProjectInfo, JSONSchemas> SCHEMAS = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
 	private static enum JSONSchemaType {
 
 		string, //
@@ -150,9 +176,37 @@ public class JSONSchemaUtils {
 	 * @param lenient true if 'additionalProperties' must be set to false and false
 	 *                otherwise.
 	 *
+	 * <p>
+	 * The JSON Schema of a project info which tracks its changes (see
+	 * {@link ExtendedMicroProfileProjectInfo#getGeneration()}) is cached until
+	 * the properties of the project change.
+	 * </p>
+	 *
 	 * @return as JSON string the JSON Schema of the given <code>info</code>.
 	 */
 	public static String toJSONSchema(MicroProfileProjectInfo info, boolean lenient) {
+		if (!(info instanceof ExtendedMicroProfileProjectInfo)) {
+			// the project info cannot track its changes, don't cache the JSON Schema
+			return generateJSONSchema(info, lenient);
+		}
+		int generation = ((ExtendedMicroProfileProjectInfo) info).getGeneration();
+		JSONSchemas schemas = SCHEMAS.compute(info, (k, current) -> current != null
+				&& current.generation == generation ? current : new JSONSchemas(generation));
+		synchronized (schemas) {
+			if (lenient) {
+				if (schemas.lenientSchema == null) {
+					schemas.lenientSchema = generateJSONSchema(info, true);
+				}
+				return schemas.lenientSchema;
+			}
+			if (schemas.schema == null) {
+				schemas.schema = generateJSONSchema(info, false);
+			}
+			return schemas.schema;
+		}
+	}
+
+	private static String generateJSONSchema(MicroProfileProjectInfo info, boolean lenient) {
 		final JsonObject schema = new JsonObject();
 		schema.addProperty(SCHEMA_PROP, SCHEMA_URL);
 		// Generate the JSON Schema definitions for MicroProfile properties
@@ -162,7 +216,7 @@ public class JSONSchemaUtils {
 		// For accepting profile ("%dev"), we use patternProperties bound to
 		// #/definitions/root
 		generateProfile(schema);
-		return new Gson().toJson(schema);
+		return GSON.toJson(schema);
 	}
 
 	/**
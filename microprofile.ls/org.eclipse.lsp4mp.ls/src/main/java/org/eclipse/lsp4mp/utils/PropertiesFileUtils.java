@@ -18,11 +18,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
@@ -31,6 +35,7 @@ import org.eclipse.lsp4mp.commons.metadata.ValueProvider;
 import org.eclipse.lsp4mp.commons.metadata.ValueProvider.ValueProviderDefaultName;
 import org.eclipse.lsp4mp.commons.metadata.ValueProviderParameter;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
 import org.eclipse.lsp4mp.ls.commons.SnippetsBuilder;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.services.properties.QuarkusModel;
@@ -208,6 +213,43 @@ public class PropertiesFileUtils {
 		return null;
 	}
 
+	/**
+	 * Collect the description of the given property declared in a Java file when
+	 * the description is missing (ex : the project information has been loaded
+	 * with {@link MicroProfileProjectInfoParams#isLazyDescriptions()}).
+	 *
+	 * @param item                  the MicroProfile property.
+	 * @param uri                   the properties file URI.
+	 * @param markdownSupported     true if markdown is supported and false
+	 *                              otherwise.
+	 * @param documentationProvider the documentation provider.
+	 * @return the future which updates the description of the property and null
+	 *         if the description doesn't need to be collected.
+	 */
+	public static CompletableFuture<Void> collectDescription(ItemMetadata item, String uri,
+			boolean markdownSupported, MicroProfilePropertyDocumentationProvider documentationProvider) {
+		if (documentationProvider == null || !item.isJavaOrigin() || !StringUtils.isEmpty(item.getDescription())) {
+			return null;
+		}
+		MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
+		params.setUri(uri);
+		params.setPropertyName(item.getName());
+		params.setSourceField(item.getSourceField());
+		params.setSourceMethod(item.getSourceMethod());
+		params.setSourceType(item.getSourceType());
+		params.setDocumentFormat(markdownSupported ? DocumentFormat.Markdown : DocumentFormat.PlainText);
+		return documentationProvider.getPropertyDocumentation(params) //
+				.handle((docs, e) -> {
+					if (e != null) {
+						LOGGER.log(Level.WARNING, "Error while collecting the documentation of '" + item.getName() + "'",
+								e);
+					} else if (docs != null && !docs.isEmpty()) {
+						item.setDescription(docs);
+					}
+					return null;
+				});
+	}
+
 	private static boolean match(String propertyName, ItemMetadata metadata) {
 		String rawPattern = metadata.getName();
 		if (rawPattern.indexOf('{') != -1 || rawPattern.indexOf('[') != -1) {
@@ -15,6 +15,7 @@ package org.eclipse.lsp4mp.utils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -85,6 +86,47 @@ public class URIUtils {
 		return fileScheme + copyToString(baos, charset);
 	}
 
+	/**
+	 * Returns true if the given file URIs target the same file and false
+	 * otherwise.
+	 * 
+	 * <p>
+	 * The file URIs can come from the client (ex :
+	 * file:///c%3A/Users/a%20folder/Foo.java) or from the JDT LS extension (ex :
+	 * file:/C:/Users/a folder/Foo.java). The comparison ignores the case, so two
+	 * different files can be considered as the same file.
+	 * </p>
+	 * 
+	 * @param uri1 the first file URI.
+	 * @param uri2 the second file URI.
+	 * 
+	 * @return true if the given file URIs target the same file and false
+	 *         otherwise.
+	 */
+	public static boolean isSameFileURI(String uri1, String uri2) {
+		if (uri1 == null || uri2 == null) {
+			return false;
+		}
+		return normalizeFileURI(uri1).equalsIgnoreCase(normalizeFileURI(uri2));
+	}
+
+	private static String normalizeFileURI(String uri) {
+		String path = uri;
+		if (path.startsWith("file:")) {
+			path = path.substring("file:".length());
+		}
+		int index = 0;
+		while (index < path.length() && path.charAt(index) == '/') {
+			index++;
+		}
+		path = path.substring(index);
+		try {
+			return URLDecoder.decode(path.replace("+", "%2B"), StandardCharsets.UTF_8.name());
+		} catch (UnsupportedEncodingException | IllegalArgumentException e) {
+			return path;
+		}
+	}
+
 	/**
 	 * Copy the contents of the given {@link ByteArrayOutputStream} into a
 	 * {@link String}.
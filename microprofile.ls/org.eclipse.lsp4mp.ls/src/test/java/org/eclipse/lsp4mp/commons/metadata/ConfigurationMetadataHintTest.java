@@ -0,0 +1,104 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.metadata;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ConfigurationMetadata#getHint(String...)}.
+ */
+public class ConfigurationMetadataHintTest {
+
+	@Test
+	public void firstHintOfTheListWins() {
+		ConfigurationMetadata metadata = new ConfigurationMetadata();
+		metadata.setHints(new ArrayList<>());
+		ItemHint type = hint("org.acme.MyEnum");
+		ItemHint name = hint("my.property");
+		ItemHint duplicate = hint("org.acme.MyEnum");
+		metadata.addHints(Arrays.asList(type, name, duplicate));
+
+		assertSame(type, metadata.getHint("org.acme.MyEnum"));
+		assertSame(type, metadata.getHint("my.property", "org.acme.MyEnum"));
+		assertSame(name, metadata.getHint("unknown", "my.property"));
+		assertSame(name, metadata.getHint(null, "my.property"));
+		assertNull(metadata.getHint("unknown"));
+	}
+
+	@Test
+	public void indexIsUpdated() {
+		ConfigurationMetadata metadata = new ConfigurationMetadata();
+		metadata.setHints(new ArrayList<>());
+		assertNull(metadata.getHint("a"));
+
+		ItemHint a = hint("a");
+		metadata.addHint(a);
+		assertSame(a, metadata.getHint("a"));
+
+		// remove + add with the same size
+		ItemHint b = hint("b");
+		metadata.removeHints(Arrays.asList(a));
+		metadata.addHint(b);
+		assertNull(metadata.getHint("a"));
+		assertSame(b, metadata.getHint("b"));
+
+		// direct update of the list
+		ItemHint c = hint("c");
+		metadata.getHints().add(c);
+		assertSame(c, metadata.getHint("c"));
+
+		metadata.setHints(new ArrayList<>(Arrays.asList(a)));
+		assertSame(a, metadata.getHint("a"));
+		assertNull(metadata.getHint("b"));
+	}
+
+	@Test
+	public void indexIsUpdatedIncrementally() {
+		ConfigurationMetadata metadata = new ConfigurationMetadata();
+		metadata.setHints(new ArrayList<>());
+		ItemHint a = hint("a");
+		metadata.addHint(a);
+		assertSame(a, metadata.getHint("a"));
+
+		// the added hints are indexed, the first hint of the list still wins
+		ItemHint b = hint("b");
+		ItemHint duplicate = hint("a");
+		metadata.addHint(b);
+		metadata.addHints(Arrays.asList(duplicate, hint("c")));
+		assertSame(a, metadata.getHint("a"));
+		assertSame(b, metadata.getHint("b"));
+		assertSame(b, metadata.getHint("c", "b"));
+
+		// direct update of the list followed by an add
+		ItemHint d = hint("d");
+		ItemHint e = hint("e");
+		metadata.getHints().add(d);
+		metadata.addHint(e);
+		assertSame(d, metadata.getHint("d"));
+		assertSame(e, metadata.getHint("e"));
+	}
+
+	private static ItemHint hint(String name) {
+		ItemHint hint = new ItemHint();
+		hint.setName(name);
+		hint.setValues(new ArrayList<>());
+		return hint;
+	}
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.runtime;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MicroProfileProjectRuntimeRegistry}.
+ *
+ */
+public class MicroProfileProjectRuntimeRegistryTest {
+
+	@Test
+	public void sharedRuntime() {
+		MicroProfileProjectRuntimeRegistry registry = new MicroProfileProjectRuntimeRegistry();
+		Set<String> classpath = new HashSet<>(Arrays.asList("a.jar", "b.jar"));
+
+		MicroProfileProjectRuntime runtime1 = registry.acquire("project", classpath);
+		// same classpath with an other order
+		MicroProfileProjectRuntime runtime2 = registry.acquire("project",
+				new HashSet<>(Arrays.asList("b.jar", "a.jar")));
+		Assert.assertSame(runtime1, runtime2);
+		Assert.assertEquals(2, registry.getReferences(runtime1));
+
+		// the runtime doesn't depend on the set given by the caller
+		classpath.clear();
+		Assert.assertSame(runtime1, registry.acquire("project", new HashSet<>(Arrays.asList("a.jar", "b.jar"))));
+		Assert.assertEquals(3, registry.getReferences(runtime1));
+
+		// other project or other classpath
+		Assert.assertNotSame(runtime1, registry.acquire("other-project", new HashSet<>(Arrays.asList("a.jar", "b.jar"))));
+		Assert.assertNotSame(runtime1, registry.acquire("project", new HashSet<>(Arrays.asList("a.jar"))));
+	}
+
+	@Test
+	public void release() {
+		MicroProfileProjectRuntimeRegistry registry = new MicroProfileProjectRuntimeRegistry();
+		Set<String> classpath = new HashSet<>(Arrays.asList("a.jar"));
+
+		MicroProfileProjectRuntime runtime = registry.acquire("project", classpath);
+		registry.acquire("project", classpath);
+		registry.release(runtime);
+		Assert.assertEquals(1, registry.getReferences(runtime));
+		Assert.assertSame(runtime, registry.acquire("project", classpath));
+
+		registry.release(runtime);
+		registry.release(runtime);
+		Assert.assertEquals(0, registry.getReferences(runtime));
+		// the runtime is not referenced anymore, a new runtime is created
+		Assert.assertNotSame(runtime, registry.acquire("project", classpath));
+	}
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.runtime;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ProjectClassLoader} refresh.
+ *
+ */
+public class ProjectClassLoaderTest {
+
+	public static class MyClass {
+
+	}
+
+	private static final String JAR_CLASS_NAME = "org.eclipse.microprofile.config.Config";
+
+	@Test
+	public void refresh() throws Exception {
+		Path classesDir = Files.createTempDirectory("lsp4mp-classes");
+		String relPath = MyClass.class.getName().replace('.', '/') + ".class";
+		Path classFile = classesDir.resolve(relPath);
+		Files.createDirectories(classFile.getParent());
+		try (InputStream in = MyClass.class.getResourceAsStream("/" + relPath)) {
+			Files.copy(in, classFile);
+		}
+		String jar = Paths.get("src/test/resources/classpath/quarkus/microprofile-config-api-3.1.jar").toAbsolutePath()
+				.toString();
+
+		ProjectClassLoader classLoader = new ProjectClassLoader(
+				new HashSet<>(Arrays.asList(classesDir.toString(), jar)), ProjectClassLoaderTest.class.getClassLoader());
+		Class<?> projectClass = classLoader.loadClass(MyClass.class.getName());
+		Class<?> jarClass = classLoader.loadClass(JAR_CLASS_NAME);
+		assertTrue(classLoader.isProjectClass(projectClass));
+		assertFalse(classLoader.isProjectClass(jarClass));
+
+		// No class file changed
+		assertFalse(classLoader.hasChangedClasses());
+		assertSame(classLoader, classLoader.refresh());
+
+		// The class file changed
+		Files.setLastModifiedTime(classFile,
+				FileTime.fromMillis(Files.getLastModifiedTime(classFile).toMillis() + 10000));
+		assertTrue(classLoader.hasChangedClasses());
+		ProjectClassLoader newClassLoader = classLoader.refresh();
+		assertNotSame(classLoader, newClassLoader);
+
+		// The project class is reloaded, the jar class is kept
+		Class<?> newProjectClass = newClassLoader.loadClass(MyClass.class.getName());
+		assertNotSame(projectClass, newProjectClass);
+		assertTrue(newClassLoader.isProjectClass(newProjectClass));
+		assertSame(jarClass, newClassLoader.loadClass(JAR_CLASS_NAME));
+		assertFalse(newClassLoader.hasChangedClasses());
+	}
+}
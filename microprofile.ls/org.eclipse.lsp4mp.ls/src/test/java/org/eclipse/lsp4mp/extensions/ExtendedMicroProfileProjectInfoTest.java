@@ -11,6 +11,7 @@ package org.eclipse.lsp4mp.extensions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
@@ -124,8 +125,93 @@ public class ExtendedMicroProfileProjectInfoTest {
 
 	}
 
+	@Test
+	public void sourceTypesUpdate() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+
+		// Create a binary dynamic properties
+		ItemMetadata p = new ItemMetadata();
+		p.setName("${mp.register.rest.client.class}/mp-rest/url");
+		info.getProperties().add(p);
+
+		// Create source properties
+		info.getProperties().add(createSourceProperty("a.old", "org.acme.A"));
+		info.getProperties().add(createSourceProperty("b", "org.acme.B"));
+
+		// Create a source hint with values coming from several Java types
+		ItemHint hint = createSourceHint("${mp.register.rest.client.class}", null);
+		hint.getValues().add(createValue("org.acme.A", "org.acme.A"));
+		hint.getValues().add(createValue("org.acme.B", "org.acme.B"));
+		info.getHints().add(hint);
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		assertPropertyExist("org.acme.A/mp-rest/url", wrapper);
+		assertPropertyExist("org.acme.B/mp-rest/url", wrapper);
+
+		// 'org.acme.A' has changed: 'a.old' is renamed to 'a.new' and 'org.acme.A' is
+		// no longer a REST client
+		wrapper.updateSourcesProperties(new HashSet<>(Arrays.asList("org.acme.A")),
+				new ArrayList<>(Arrays.asList(createSourceProperty("a.new", "org.acme.A"))), new ArrayList<>());
+		assertPropertyExist("a.new", wrapper);
+		assertPropertyExist("b", wrapper);
+		assertPropertyNotExist("a.old", wrapper);
+		assertPropertyExist("org.acme.B/mp-rest/url", wrapper);
+		assertPropertyNotExist("org.acme.A/mp-rest/url", wrapper);
+		Assert.assertEquals(1, wrapper.getHint("${mp.register.rest.client.class}").getValues().size());
+
+		// 'org.acme.C' is a new REST client
+		ItemHint newHint = createSourceHint("${mp.register.rest.client.class}", null);
+		newHint.getValues().add(createValue("org.acme.C", "org.acme.C"));
+		wrapper.updateSourcesProperties(new HashSet<>(Arrays.asList("org.acme.C")), new ArrayList<>(),
+				new ArrayList<>(Arrays.asList(newHint)));
+		assertPropertyExist("org.acme.B/mp-rest/url", wrapper);
+		assertPropertyExist("org.acme.C/mp-rest/url", wrapper);
+		Assert.assertEquals(2, wrapper.getHint("${mp.register.rest.client.class}").getValues().size());
+		Assert.assertEquals(1, wrapper.getProperties().stream()
+				.filter(property -> "org.acme.B/mp-rest/url".equals(property.getName())).count());
+
+		// Only the properties of the updated source types are replaced
+		wrapper.updateSourcesProperties(new HashSet<>(Arrays.asList("org.acme.A")),
+				new ArrayList<>(Arrays.asList(createSourceProperty("a.new", "org.acme.A"),
+						createSourceProperty("b", "org.acme.B"))),
+				new ArrayList<>());
+		assertPropertyExist("a.new", wrapper);
+		Assert.assertEquals(1,
+				wrapper.getProperties().stream().filter(property -> "b".equals(property.getName())).count());
+	}
+
+	private static ItemMetadata createSourceProperty(String name, String sourceType) {
+		ItemMetadata property = new ItemMetadata();
+		property.setName(name);
+		property.setSourceType(sourceType);
+		property.setSource(Boolean.TRUE);
+		return property;
+	}
+
+	private static ItemHint createSourceHint(String name, String sourceType) {
+		ItemHint hint = new ItemHint();
+		hint.setName(name);
+		hint.setSourceType(sourceType);
+		hint.setSource(Boolean.TRUE);
+		hint.setValues(new ArrayList<>());
+		return hint;
+	}
+
+	private static ValueHint createValue(String value, String sourceType) {
+		ValueHint valueHint = new ValueHint();
+		valueHint.setValue(value);
+		valueHint.setSourceType(sourceType);
+		return valueHint;
+	}
+
 	private void assertPropertyExist(String propertyName, ExtendedMicroProfileProjectInfo wrapper) {
 		Assert.assertTrue(wrapper.getProperties().stream().anyMatch(p -> propertyName.equals(p.getName())));
 	}
 
+	private void assertPropertyNotExist(String propertyName, ExtendedMicroProfileProjectInfo wrapper) {
+		Assert.assertFalse(wrapper.getProperties().stream().anyMatch(p -> propertyName.equals(p.getName())));
+	}
+
 }
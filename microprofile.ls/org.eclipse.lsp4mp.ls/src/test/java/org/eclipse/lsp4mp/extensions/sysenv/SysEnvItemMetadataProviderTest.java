@@ -0,0 +1,50 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+
+package org.eclipse.lsp4mp.extensions.sysenv;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Test;
+
+/**
+ * Test with the cache of System/Environment variables metadata.
+ *
+ */
+public class SysEnvItemMetadataProviderTest {
+
+	@Test
+	public void propertiesAreCollectedOnce() {
+		List<ItemMetadata> properties = SysEnvItemMetadataProvider.getSysEnvProperties();
+		assertSame(properties, SysEnvItemMetadataProvider.getSysEnvProperties());
+	}
+
+	@Test
+	public void systemPropertiesChanged() {
+		String name = "lsp4mp.sysenv.test";
+		List<ItemMetadata> properties = SysEnvItemMetadataProvider.getSysEnvProperties();
+		try {
+			System.setProperty(name, "foo");
+			List<ItemMetadata> newProperties = SysEnvItemMetadataProvider.getSysEnvProperties();
+			assertNotSame(properties, newProperties);
+			assertTrue(newProperties.stream()
+					.anyMatch(item -> name.equals(item.getName()) && "foo".equals(item.getDefaultValue())));
+		} finally {
+			System.clearProperty(name);
+		}
+		List<ItemMetadata> lastProperties = SysEnvItemMetadataProvider.getSysEnvProperties();
+		assertTrue(lastProperties.stream().noneMatch(item -> name.equals(item.getName())));
+	}
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.List;
+
+import org.eclipse.lsp4j.jsonrpc.json.adapters.EnumTypeAdapter;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileAssert;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Test for {@link MetadataTypeAdapterFactory}.
+ *
+ */
+public class MetadataTypeAdapterFactoryTest {
+
+	private static final String ALL_QUARKUS_PROPERTIES = "all-quarkus-properties.json";
+
+	@Test
+	public void readProjectInfo() throws Exception {
+		Gson defaultGson = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+		Gson gson = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory())
+				.registerTypeAdapterFactory(new MetadataTypeAdapterFactory()).create();
+
+		MicroProfileProjectInfo expected = read(defaultGson);
+		MicroProfileProjectInfo actual = read(gson);
+
+		assertEquals(expected.getProjectURI(), actual.getProjectURI());
+		assertEquals(expected.getClasspathKind(), actual.getClasspathKind());
+		assertEquals(expected.getProperties(), actual.getProperties());
+		assertEquals(expected.getHints(), actual.getHints());
+
+		// The same written JSON
+		assertEquals(defaultGson.toJson(expected), gson.toJson(actual));
+
+		// Repeated strings are shared
+		List<ItemMetadata> properties = actual.getProperties();
+		ItemMetadata first = properties.stream() //
+				.filter(p -> "java.lang.String".equals(p.getType())) //
+				.findFirst().get();
+		properties.stream() //
+				.filter(p -> "java.lang.String".equals(p.getType())) //
+				.forEach(p -> assertSame(first.getType(), p.getType()));
+		assertSame(read(gson).getProperties().get(0).getSourceType(), properties.get(0).getSourceType());
+	}
+
+	@Test
+	public void readNull() {
+		Gson gson = new GsonBuilder().registerTypeAdapterFactory(new MetadataTypeAdapterFactory()).create();
+		ItemMetadata item = gson.fromJson("{\"name\":\"foo\",\"type\":null,\"unknown\":{\"a\":[1]}}",
+				ItemMetadata.class);
+		assertEquals("foo", item.getName());
+		assertNull(item.getType());
+		assertNull(gson.fromJson("null", ItemMetadata.class));
+	}
+
+	private static MicroProfileProjectInfo read(Gson gson) throws Exception {
+		try (Reader reader = new InputStreamReader(
+				PropertiesFileAssert.class.getResourceAsStream(ALL_QUARKUS_PROPERTIES))) {
+			return gson.fromJson(reader, MicroProfileProjectInfo.class);
+		}
+	}
+}
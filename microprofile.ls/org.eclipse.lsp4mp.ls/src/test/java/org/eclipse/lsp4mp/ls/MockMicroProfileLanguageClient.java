@@ -36,6 +36,8 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCompletionResult;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesResult;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaFileInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaHoverParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaInlayHintParams;
@@ -260,6 +262,12 @@ public class MockMicroProfileLanguageClient implements MicroProfileLanguageClien
 		return CompletableFuture.completedFuture(null);
 	}
 
+	@Override
+	public CompletableFuture<MicroProfileJavaFeaturesResult> getJavaFeatures(
+			MicroProfileJavaFeaturesParams javaParams) {
+		return CompletableFuture.completedFuture(null);
+	}
+
 	@Override
 	public CompletableFuture<MicroProfileJavaCompletionResult> getJavaCompletion(
 			MicroProfileJavaCompletionParams javaParams) {
@@ -0,0 +1,112 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LanguageServerStatistics} and {@link LatencyHistogram}.
+ *
+ */
+public class LanguageServerStatisticsTest {
+
+	@Test
+	public void histogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Assert.assertEquals(0, histogram.getPercentile(0.5), 0);
+		for (int i = 0; i < 98; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+		}
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(150));
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(20000));
+
+		Assert.assertEquals(100, histogram.getCount());
+		Assert.assertEquals(5, histogram.getPercentile(0.5), 0);
+		Assert.assertEquals(5, histogram.getPercentile(0.9), 0);
+		Assert.assertEquals(200, histogram.getPercentile(0.99), 0);
+		Assert.assertEquals(20000, histogram.getPercentile(1), 0);
+		Assert.assertEquals(20000, histogram.getMax(), 0);
+		Assert.assertEquals((98 * 3 + 150 + 20000) / 100d, histogram.getAverage(), 0.001);
+	}
+
+	@Test
+	public void counters() {
+		LanguageServerStatistics statistics = new LanguageServerStatistics();
+		Assert.assertEquals(0, statistics.getCounter("projectInfoCache/hit"));
+		statistics.increment("projectInfoCache/hit");
+		statistics.increment("projectInfoCache/hit");
+		statistics.increment("projectInfoCache/miss");
+		Assert.assertEquals(2, statistics.getCounter("projectInfoCache/hit"));
+		Assert.assertEquals(1, statistics.getCounter("projectInfoCache/miss"));
+		Assert.assertEquals("[projectInfoCache/hit, projectInfoCache/miss]",
+				statistics.getCounters().keySet().toString());
+	}
+
+	@Test
+	public void messageTracer() {
+		LanguageServerStatistics statistics = new LanguageServerStatistics();
+		Function<MessageConsumer, MessageConsumer> tracer = statistics.createMessageTracer();
+		List<Message> consumed = new ArrayList<>();
+		MessageConsumer incoming = tracer.apply(consumed::add);
+
+		RequestMessage request = new RequestMessage();
+		request.setId(1);
+		request.setMethod("textDocument/hover");
+		incoming.consume(request);
+
+		NotificationMessage notification = new NotificationMessage();
+		notification.setMethod("textDocument/didChange");
+		incoming.consume(notification);
+
+		// response of a request which has not been traced
+		ResponseMessage unknown = new ResponseMessage();
+		unknown.setId(2);
+		incoming.consume(unknown);
+
+		Assert.assertEquals(3, consumed.size());
+		Assert.assertNull(statistics.getLatency("request/textDocument/hover"));
+		Assert.assertEquals(1, statistics.getLatency("notification/textDocument/didChange").getCount());
+
+		// response sent by the server
+		ResponseMessage response = new ResponseMessage();
+		response.setId(1);
+		response.setError(new ResponseError(-32603, "error", null));
+		statistics.createMessageTracer().apply(new OutgoingConsumer()).consume(response);
+		Assert.assertEquals(1, statistics.getLatency("request/textDocument/hover").getCount());
+		Assert.assertEquals(1, statistics.getCounter("request/textDocument/hover/error"));
+	}
+
+	private static class OutgoingConsumer extends StreamMessageConsumer {
+
+		public OutgoingConsumer() {
+			super(new ByteArrayOutputStream(), new MessageJsonHandler(Collections.emptyMap()));
+		}
+	}
+}
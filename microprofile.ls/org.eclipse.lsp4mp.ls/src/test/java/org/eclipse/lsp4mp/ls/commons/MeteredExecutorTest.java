@@ -0,0 +1,81 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MeteredExecutor}.
+ *
+ */
+public class MeteredExecutorTest {
+
+	private ExecutorService delegate;
+
+	@Before
+	public void setUp() {
+		delegate = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		delegate.shutdownNow();
+	}
+
+	@Test
+	public void metrics() throws Exception {
+		MeteredExecutor executor = new MeteredExecutor("test", delegate);
+		CompletableFuture<Void> blocking = new CompletableFuture<>();
+		CompletableFuture<Void> first = CompletableFuture.runAsync(() -> blocking.join(), executor);
+		CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+		}, executor);
+
+		// the single thread is busy, the second task is waiting
+		waitFor(executor, 1, 1);
+		Assert.assertEquals(0, executor.getCompletedTasks());
+
+		blocking.complete(null);
+		CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+		waitFor(executor, 0, 0);
+		Assert.assertEquals(2, executor.getCompletedTasks());
+		Assert.assertTrue(executor.getAverageWaitTime() >= 0);
+		Assert.assertTrue(executor.getAverageExecutionTime() >= 0);
+	}
+
+	@Test
+	public void requestExecutor() throws Exception {
+		MeteredExecutor executor = LanguageServerExecutors.getRequestExecutor();
+		String threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).get(5,
+				TimeUnit.SECONDS);
+		Assert.assertTrue(threadName, threadName.startsWith("lsp4mp-request-"));
+	}
+
+	private static void waitFor(MeteredExecutor executor, int running, int queued) throws InterruptedException {
+		long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (executor.getRunningTasks() != running || executor.getQueueDepth() != queued) {
+			if (System.nanoTime() > end) {
+				Assert.fail("Timeout");
+			}
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.Test;
+
+/**
+ * Test for {@link PieceTable}.
+ *
+ */
+public class PieceTableTest {
+
+	@Test
+	public void replace() throws BadLocationException {
+		PieceTable buffer = new PieceTable("abcdef");
+		buffer.replace(3, 0, "XY");
+		assertEquals("abcXYdef", buffer.substring(0, buffer.length()));
+		buffer.replace(0, 2, "");
+		assertEquals("cXYdef", buffer.substring(0, buffer.length()));
+		buffer.replace(1, 3, "_");
+		assertEquals("c_ef", buffer.substring(0, buffer.length()));
+		assertEquals("_e", buffer.substring(1, 3));
+		buffer.replace(4, 0, "gh");
+		assertEquals("c_efgh", buffer.getText());
+		assertEquals(6, buffer.length());
+	}
+
+	@Test
+	public void typing() throws BadLocationException {
+		PieceTable buffer = new PieceTable("key=");
+		String value = "value";
+		for (int i = 0; i < value.length(); i++) {
+			buffer.replace(4 + i, 0, String.valueOf(value.charAt(i)));
+		}
+		// the typed characters are stored in one piece
+		assertEquals(2, buffer.getPieceCount());
+		assertEquals("key=value", buffer.getText());
+		// the content is compacted when it is materialized
+		assertEquals(1, buffer.getPieceCount());
+	}
+
+	@Test(expected = BadLocationException.class)
+	public void badLocation() throws BadLocationException {
+		PieceTable buffer = new PieceTable("abc");
+		buffer.replace(2, 2, "");
+	}
+
+	@Test
+	public void randomReplace() throws BadLocationException {
+		Random random = new Random(1);
+		StringBuilder expected = new StringBuilder("0123456789");
+		PieceTable buffer = new PieceTable(expected.toString());
+		for (int i = 0; i < 5000; i++) {
+			int offset = random.nextInt(expected.length() + 1);
+			int length = random.nextInt(Math.min(5, expected.length() - offset) + 1);
+			String text = random.nextBoolean() ? "" : Integer.toString(i);
+			expected.replace(offset, offset + length, text);
+			buffer.replace(offset, length, text);
+			assertEquals(expected.length(), buffer.length());
+			if (i % 100 == 0) {
+				assertEquals(expected.toString(), buffer.getText());
+			}
+		}
+		assertTrue(buffer.getPieceCount() <= 1024);
+		assertEquals(expected.toString(), buffer.substring(0, buffer.length()));
+	}
+
+	@Test
+	public void updateTextDocument() throws BadLocationException {
+		TextDocument document = new TextDocument("a=1\nb=2", "test.properties");
+		document.setIncremental(true);
+		document.update(Arrays.asList(new TextDocumentContentChangeEvent(
+				new Range(new Position(1, 2), new Position(1, 3)), "22\nc=3")));
+		assertEquals("a=1\nb=22\nc=3", document.getText());
+		assertEquals("c=3", document.lineText(2));
+		assertEquals(new Position(2, 1), document.positionAt(document.getText().length() - 2));
+	}
+}
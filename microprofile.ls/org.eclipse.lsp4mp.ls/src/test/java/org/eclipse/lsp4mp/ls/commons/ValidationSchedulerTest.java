@@ -0,0 +1,143 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.lsp4mp.ls.commons.ValidationScheduler.Priority;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ValidationScheduler}.
+ *
+ */
+public class ValidationSchedulerTest {
+
+	private ValidationScheduler scheduler;
+
+	@Before
+	public void setUp() {
+		scheduler = new ValidationScheduler(1);
+	}
+
+	@After
+	public void tearDown() {
+		scheduler.shutdown();
+	}
+
+	@Test
+	public void coalesceAndPriority() throws Exception {
+		List<String> validated = new CopyOnWriteArrayList<>();
+		// block the single slot with an asynchronous validation
+		CompletableFuture<Void> blocking = new CompletableFuture<>();
+		scheduler.schedule("blocking", Priority.ACTIVE, 0, () -> blocking);
+		waitFor(() -> scheduler.getRunningValidations() == 1);
+
+		scheduler.schedule("a", Priority.BACKGROUND, 0, () -> validate(validated, "a1"));
+		scheduler.schedule("b", Priority.BACKGROUND, 0, () -> validate(validated, "b"));
+		// coalesce: 'a1' is replaced with 'a2'
+		scheduler.schedule("a", Priority.BACKGROUND, 0, () -> validate(validated, "a2"));
+		scheduler.schedule("active", Priority.ACTIVE, 0, () -> validate(validated, "active"));
+		Assert.assertEquals(3, scheduler.getQueueDepth());
+		Assert.assertTrue(scheduler.isPending("a"));
+
+		blocking.complete(null);
+		waitFor(() -> scheduler.getCompletedValidations() == 4);
+		Assert.assertEquals(Arrays.asList("active", "b", "a2"), validated);
+		Assert.assertEquals(1, scheduler.getCancelledValidations());
+		Assert.assertFalse(scheduler.isPending("a"));
+	}
+
+	@Test
+	public void cancelRunningValidation() throws Exception {
+		CompletableFuture<Void> running = new CompletableFuture<>();
+		List<String> validated = new CopyOnWriteArrayList<>();
+		scheduler.schedule("a", Priority.ACTIVE, 0, () -> {
+			validate(validated, "a1");
+			return running;
+		});
+		// wait for the start of the validation (and not only for its dispatch)
+		waitFor(() -> validated.size() == 1);
+
+		// a new version of the document cancels the running validation
+		scheduler.schedule("a", Priority.ACTIVE, 0, () -> validate(validated, "a2"));
+		waitFor(() -> running.isCancelled());
+		waitFor(() -> validated.size() == 2);
+		Assert.assertEquals(1, scheduler.getCancelledValidations());
+	}
+
+	@Test
+	public void cancelTwice() throws Exception {
+		CompletableFuture<Void> running = new CompletableFuture<>();
+		List<String> validated = new CopyOnWriteArrayList<>();
+		scheduler.schedule("a", Priority.ACTIVE, 0, () -> {
+			validate(validated, "a");
+			return running;
+		});
+		waitFor(() -> validated.size() == 1);
+
+		// the validation is counted once as cancelled
+		scheduler.cancel("a");
+		scheduler.cancel("a");
+		waitFor(() -> running.isCancelled());
+		waitFor(() -> scheduler.getRunningValidations() == 0);
+		Assert.assertEquals(1, scheduler.getCancelledValidations());
+		Assert.assertEquals(0, scheduler.getCompletedValidations());
+
+		scheduler.schedule("b", Priority.ACTIVE, 200, () -> null);
+		scheduler.cancel("b");
+		scheduler.schedule("b", Priority.ACTIVE, 0, () -> null);
+		waitFor(() -> scheduler.getCompletedValidations() == 1);
+		Assert.assertEquals(2, scheduler.getCancelledValidations());
+	}
+
+	@Test
+	public void delay() throws Exception {
+		List<String> validated = new CopyOnWriteArrayList<>();
+		scheduler.schedule("a", Priority.ACTIVE, 200, () -> validate(validated, "a1"));
+		scheduler.schedule("a", Priority.ACTIVE, 200, () -> validate(validated, "a2"));
+		Assert.assertTrue(scheduler.isPending("a"));
+		waitFor(() -> validated.size() == 1);
+		Thread.sleep(300);
+		Assert.assertEquals(Arrays.asList("a2"), validated);
+
+		scheduler.schedule("b", Priority.ACTIVE, 200, () -> validate(validated, "b"));
+		scheduler.cancel("b");
+		Thread.sleep(300);
+		Assert.assertEquals(Arrays.asList("a2"), validated);
+	}
+
+	private static CompletableFuture<?> validate(List<String> validated, String name) {
+		validated.add(name);
+		return null;
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > end) {
+				Assert.fail("Timeout");
+			}
+			Thread.sleep(10);
+		}
+	}
+}
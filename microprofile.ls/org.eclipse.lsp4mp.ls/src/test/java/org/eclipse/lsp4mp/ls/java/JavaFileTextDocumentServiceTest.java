@@ -0,0 +1,218 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.java;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.ClientCapabilities;
+import org.eclipse.lsp4j.CodeLens;
+import org.eclipse.lsp4j.CodeLensParams;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.HoverCapabilities;
+import org.eclipse.lsp4j.InlayHint;
+import org.eclipse.lsp4j.InlayHintParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.TextDocumentClientCapabilities;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeLensParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaFeaturesResult;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaInlayHintParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaProjectLabelsParams;
+import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
+import org.eclipse.lsp4mp.ls.MicroProfileLanguageServer;
+import org.eclipse.lsp4mp.ls.MicroProfileTextDocumentService;
+import org.eclipse.lsp4mp.ls.MockMicroProfileLanguageClient;
+import org.eclipse.lsp4mp.ls.commons.client.ExtendedClientCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileCodeLensSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileGeneralClientSettings;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the Java features (diagnostics, code lens, inlay hints) requested
+ * together with 'microprofile/java/features'.
+ *
+ */
+public class JavaFileTextDocumentServiceTest {
+
+	private static final String JAVA_FILE_URI = "mp-project/MyResource.java";
+
+	private static class FeaturesLanguageClient extends MockMicroProfileLanguageClient {
+
+		private final AtomicInteger featuresRequests = new AtomicInteger();
+
+		private final AtomicInteger singleFeatureRequests = new AtomicInteger();
+
+		private final CompletableFuture<PublishDiagnosticsParams> published = new CompletableFuture<>();
+
+		public FeaturesLanguageClient(MicroProfileLanguageServer languageServer) {
+			super(languageServer);
+		}
+
+		@Override
+		public CompletableFuture<ProjectLabelInfoEntry> getJavaProjectLabels(
+				MicroProfileJavaProjectLabelsParams javaParams) {
+			return CompletableFuture.completedFuture(
+					new ProjectLabelInfoEntry("mp-project", "mp-project", Arrays.asList("microprofile")));
+		}
+
+		@Override
+		public CompletableFuture<MicroProfileJavaFeaturesResult> getJavaFeatures(
+				MicroProfileJavaFeaturesParams javaParams) {
+			featuresRequests.incrementAndGet();
+			MicroProfileJavaFeaturesResult result = new MicroProfileJavaFeaturesResult();
+			if (javaParams.getDiagnostics() != null) {
+				result.setDiagnostics(Arrays.asList(new Diagnostic()));
+			}
+			if (javaParams.getCodeLens() != null) {
+				result.setCodeLens(Arrays.asList(new CodeLens()));
+			}
+			if (javaParams.getInlayHint() != null) {
+				result.setInlayHints(Arrays.asList(new InlayHint(new Position(0, 0), Either.forLeft("hint"))));
+			}
+			return CompletableFuture.completedFuture(result);
+		}
+
+		@Override
+		public CompletableFuture<List<PublishDiagnosticsParams>> getJavaDiagnostics(
+				MicroProfileJavaDiagnosticsParams javaParams) {
+			singleFeatureRequests.incrementAndGet();
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+
+		@Override
+		public CompletableFuture<List<? extends CodeLens>> getJavaCodelens(MicroProfileJavaCodeLensParams javaParams) {
+			singleFeatureRequests.incrementAndGet();
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+
+		@Override
+		public CompletableFuture<List<InlayHint>> getJavaInlayHint(MicroProfileJavaInlayHintParams javaParams) {
+			singleFeatureRequests.incrementAndGet();
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+
+		@Override
+		public void publishDiagnostics(PublishDiagnosticsParams diagnostics) {
+			published.complete(diagnostics);
+		}
+	}
+
+	@Test
+	public void featuresRequestedTogether() throws Exception {
+		MicroProfileLanguageServer server = new MicroProfileLanguageServer();
+		FeaturesLanguageClient client = createClient(server, true);
+
+		// Open the Java file: the validation, the code lens and the inlay hint
+		// requests share one features request
+		didOpen(server);
+		Assert.assertEquals(1, codeLens(server).size());
+		Assert.assertEquals(1, inlayHint(server).size());
+		PublishDiagnosticsParams diagnostics = client.published.get(10, TimeUnit.SECONDS);
+		Assert.assertEquals(JAVA_FILE_URI, diagnostics.getUri());
+		Assert.assertEquals(1, diagnostics.getDiagnostics().size());
+
+		Assert.assertEquals(1, client.featuresRequests.get());
+		Assert.assertEquals(0, client.singleFeatureRequests.get());
+	}
+
+	@Test
+	public void consumedFeatureSendsNewRequest() throws Exception {
+		MicroProfileLanguageServer server = new MicroProfileLanguageServer();
+		FeaturesLanguageClient client = createClient(server, true);
+
+		didOpen(server);
+		client.published.get(10, TimeUnit.SECONDS);
+		codeLens(server);
+		Assert.assertEquals(1, client.featuresRequests.get());
+
+		// The code lenses have been consumed (ex : code lens refresh), the result
+		// can depend on other files
+		Assert.assertEquals(1, codeLens(server).size());
+		Assert.assertEquals(2, client.featuresRequests.get());
+
+		// The inlay hints of the new request have not been consumed
+		Assert.assertEquals(1, inlayHint(server).size());
+		Assert.assertEquals(2, client.featuresRequests.get());
+	}
+
+	@Test
+	public void featuresNotSupported() throws Exception {
+		MicroProfileLanguageServer server = new MicroProfileLanguageServer();
+		FeaturesLanguageClient client = createClient(server, false);
+
+		// The validation, the code lens and the inlay hint requests send their own
+		// request
+		didOpen(server);
+		codeLens(server);
+		inlayHint(server);
+		long start = System.currentTimeMillis();
+		while (client.singleFeatureRequests.get() < 3 && System.currentTimeMillis() - start < 10000) {
+			Thread.sleep(10);
+		}
+
+		Assert.assertEquals(3, client.singleFeatureRequests.get());
+		Assert.assertEquals(0, client.featuresRequests.get());
+	}
+
+	private static FeaturesLanguageClient createClient(MicroProfileLanguageServer server,
+			boolean javaFeaturesSupport) {
+		FeaturesLanguageClient client = new FeaturesLanguageClient(server);
+		server.setClient(client);
+		ExtendedClientCapabilities extendedClientCapabilities = new ExtendedClientCapabilities();
+		extendedClientCapabilities.setJavaFeaturesSupport(javaFeaturesSupport);
+		ClientCapabilities capabilities = new ClientCapabilities();
+		TextDocumentClientCapabilities textDocument = new TextDocumentClientCapabilities();
+		textDocument.setHover(new HoverCapabilities());
+		capabilities.setTextDocument(textDocument);
+		server.getCapabilityManager().setClientCapabilities(capabilities, extendedClientCapabilities);
+		MicroProfileTextDocumentService textDocumentService = (MicroProfileTextDocumentService) server
+				.getTextDocumentService();
+		textDocumentService.updateClientCapabilities(capabilities, extendedClientCapabilities);
+		MicroProfileGeneralClientSettings settings = new MicroProfileGeneralClientSettings();
+		MicroProfileCodeLensSettings codeLens = new MicroProfileCodeLensSettings();
+		codeLens.setUrlCodeLensEnabled(true);
+		settings.setCodeLens(codeLens);
+		textDocumentService.updateClientSettings(settings);
+		return client;
+	}
+
+	private static void didOpen(MicroProfileLanguageServer server) {
+		DidOpenTextDocumentParams params = new DidOpenTextDocumentParams();
+		params.setTextDocument(new TextDocumentItem(JAVA_FILE_URI, "java", 1, ""));
+		server.getTextDocumentService().didOpen(params);
+	}
+
+	private static List<? extends CodeLens> codeLens(MicroProfileLanguageServer server) throws Exception {
+		CodeLensParams params = new CodeLensParams(new TextDocumentIdentifier(JAVA_FILE_URI));
+		return server.getTextDocumentService().codeLens(params).get(10, TimeUnit.SECONDS);
+	}
+
+	private static List<InlayHint> inlayHint(MicroProfileLanguageServer server) throws Exception {
+		InlayHintParams params = new InlayHintParams();
+		params.setTextDocument(new TextDocumentIdentifier(JAVA_FILE_URI));
+		return server.getTextDocumentService().inlayHint(params).get(10, TimeUnit.SECONDS);
+	}
+}
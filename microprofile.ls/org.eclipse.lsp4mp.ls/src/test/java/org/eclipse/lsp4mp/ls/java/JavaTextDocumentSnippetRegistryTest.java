@@ -32,6 +32,7 @@ import org.eclipse.lsp4mp.ls.commons.snippets.Snippet;
 import org.eclipse.lsp4mp.ls.commons.snippets.SnippetRegistry;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments.JavaTextDocument;
 import org.eclipse.lsp4mp.snippets.JavaSnippetCompletionContext;
+import org.eclipse.lsp4mp.snippets.SnippetContentType;
 import org.eclipse.lsp4mp.snippets.SnippetContextForJava;
 import org.junit.Test;
 
@@ -320,6 +321,67 @@ public class JavaTextDocumentSnippetRegistryTest {
 				, item.getTextEdit().getLeft().getNewText());
 	}
 
+	@Test
+	public void completionWithCursorContext() {
+		// Create the snippets
+		Snippet classSnippet = new Snippet();
+		classSnippet.setPrefixes(Arrays.asList("class"));
+		classSnippet.setBody(new ArrayList<>(Arrays.asList("package ${packagename};", //
+				"public class Foo {}")));
+		classSnippet.setContext(new SnippetContextForJava(Arrays.asList("javax.ws.rs.GET"), SnippetContentType.CLASS));
+		Snippet annotationSnippet = new Snippet();
+		annotationSnippet.setPrefixes(Arrays.asList("@Foo"));
+		annotationSnippet.setBody(new ArrayList<>(Arrays.asList("@Foo")));
+		annotationSnippet.setContext(new SnippetContextForJava(null, SnippetContentType.METHOD_ANNOTATION));
+		JavaTextDocumentSnippetRegistry registry = new JavaTextDocumentSnippetRegistry(false);
+		registry.registerSnippet(classSnippet);
+		registry.registerSnippet(annotationSnippet);
+
+		JavaTextDocument document = new JavaTextDocuments(null, null)
+				.createDocument(new TextDocumentItem("test.java", "java", 0, "abcd"));
+		document.setPackageName("com.foo");
+		ProjectLabelInfoEntry javaxProjectInfo = new ProjectLabelInfoEntry("", "", Arrays.asList("javax.ws.rs.GET"));
+
+		// Empty file
+		List<CompletionItem> items = registry.getCompletionItems(document, 0, true, true, javaxProjectInfo,
+				new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, ""));
+		assertEquals("Completion size", 1, items.size());
+		assertEquals("package com.foo;" + //
+				System.lineSeparator() + //
+				System.lineSeparator() + //
+				"public class Foo {}" //
+				, items.get(0).getTextEdit().getLeft().getNewText());
+
+		items = registry.getCompletionItems(document, 0, true, true, JAVAX_PROJECT_INFO,
+				new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, ""));
+		assertEquals("Completion size without javax.ws.rs.GET type", 0, items.size());
+
+		// The rendered snippet depends on the package name
+		document.setPackageName("com.bar");
+		items = registry.getCompletionItems(document, 0, true, true, javaxProjectInfo,
+				new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, ""));
+		assertEquals("Completion size", 1, items.size());
+		assertEquals("package com.bar;" + //
+				System.lineSeparator() + //
+				System.lineSeparator() + //
+				"public class Foo {}" //
+				, items.get(0).getTextEdit().getLeft().getNewText());
+
+		// Before method
+		items = registry.getCompletionItems(document, 0, true, true, javaxProjectInfo,
+				new JavaCursorContextResult(JavaCursorContextKind.BEFORE_METHOD, "@"));
+		assertEquals("Completion size", 1, items.size());
+		assertEquals("@Foo", items.get(0).getLabel());
+
+		items = registry.getCompletionItems(document, 0, true, true, javaxProjectInfo,
+				new JavaCursorContextResult(JavaCursorContextKind.BEFORE_METHOD, ""));
+		assertEquals("Completion size without @ prefix", 0, items.size());
+
+		// Client which doesn't support the cursor context
+		items = registry.getCompletionItems(document, 0, true, true, javaxProjectInfo, null);
+		assertEquals("Completion size without cursor context", 2, items.size());
+	}
+
 	private static Optional<Snippet> findByPrefix(String prefix, SnippetRegistry registry) {
 		return registry.getSnippets().stream().filter(snippet -> snippet.getPrefixes().contains(prefix)).findFirst();
 	}
@@ -16,7 +16,13 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.DidSaveTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaProjectLabelsParams;
 import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4mp.ls.api.MicroProfileJavaProjectLabelsProvider;
@@ -84,4 +90,24 @@ public class JavaTextDocumentsTest {
 		// the project is not a MP Project, the result is the default value.
 		Assert.assertFalse("Test executed in a non-MicroProfile project", result.get());
 	}
+
+	@Test
+	public void unsavedChanges() {
+		JavaTextDocuments documents = new JavaTextDocuments(PROVIDER, null);
+		String uri = "file:///" + MP_PROJECT + "/a%20folder/File1.java";
+		documents.onDidOpenTextDocument(
+				new DidOpenTextDocumentParams(new TextDocumentItem(uri, "java", 1, "class File1 {}")));
+		Assert.assertFalse(documents.hasUnsavedChanges(uri));
+
+		// Update the Java file, the URI coming from the JDT LS extension is not encoded
+		documents.onDidChangeTextDocument(new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(uri, 2),
+				Arrays.asList(new TextDocumentContentChangeEvent("class File1 { }"))));
+		Assert.assertTrue(documents.hasUnsavedChanges(uri));
+		Assert.assertTrue(documents.hasUnsavedChanges("file:/" + MP_PROJECT + "/a folder/File1.java"));
+		Assert.assertFalse(documents.hasUnsavedChanges("file:/" + MP_PROJECT + "/a folder/File2.java"));
+
+		// Save the Java file
+		documents.onDidSaveTextDocument(new DidSaveTextDocumentParams(new TextDocumentIdentifier(uri)));
+		Assert.assertFalse(documents.hasUnsavedChanges(uri));
+	}
 }
@@ -11,7 +11,9 @@ package org.eclipse.lsp4mp.ls.properties;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -136,6 +138,83 @@ public class MicroProfileProjectInfoCacheTest {
 
 	}
 
+	@Test
+	public void cancelSupersededProjectInfo() throws InterruptedException, ExecutionException {
+		List<CompletableFuture<MicroProfileProjectInfo>> requests = new ArrayList<>();
+		MicroProfileProjectInfoProvider provider = params -> {
+			CompletableFuture<MicroProfileProjectInfo> request = new CompletableFuture<>();
+			requests.add(request);
+			return request;
+		};
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider);
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+
+		// First load
+		CompletableFuture<MicroProfileProjectInfo> projectInfo1 = cache.getProjectInfoFromCache(params);
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProjectURI(PROJECT1);
+		requests.get(0).complete(info);
+		projectInfo1.get();
+
+		// Classpath changed -> a new load is started
+		cache.propertiesChanged(event);
+		CompletableFuture<MicroProfileProjectInfo> projectInfo2 = cache.getProjectInfoFromCache(params);
+		Assert.assertEquals(2, requests.size());
+
+		// Classpath changed again -> the load is superseded and cancelled
+		Collection<String> uris = cache.propertiesChanged(event);
+		Assert.assertEquals(Arrays.asList(PROJECT1_APPLICATION_PROPERTIES), uris);
+		Assert.assertTrue("Superseded project info should be cancelled", projectInfo2.isCancelled());
+		Assert.assertTrue("Superseded request should be cancelled", requests.get(1).isCancelled());
+
+		// The next load uses a new request
+		CompletableFuture<MicroProfileProjectInfo> projectInfo3 = cache.getProjectInfoFromCache(params);
+		Assert.assertNotSame(projectInfo2, projectInfo3);
+		Assert.assertEquals(3, requests.size());
+	}
+
+	@Test
+	public void lazyDescriptionsNotShared() throws InterruptedException, ExecutionException {
+		List<MicroProfileProjectInfoParams> requests = new ArrayList<>();
+		MicroProfileProjectInfoProvider provider = params -> {
+			requests.add(params);
+			MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+			info.setProjectURI(PROJECT1);
+			return CompletableFuture.completedFuture(info);
+		};
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider);
+
+		// The project info loaded with lazy descriptions (properties file) is not
+		// returned for a request which expects the descriptions (JSON schema)
+		MicroProfileProjectInfoParams lazyParams = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		lazyParams.setLazyDescriptions(true);
+		MicroProfileProjectInfo lazyInfo = cache.getProjectInfoFromCache(lazyParams).get();
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		MicroProfileProjectInfo info = cache.getProjectInfoFromCache(params).get();
+		Assert.assertNotSame(lazyInfo, info);
+		Assert.assertEquals(2, requests.size());
+		Assert.assertTrue(requests.get(0).isLazyDescriptions());
+		Assert.assertFalse(requests.get(1).isLazyDescriptions());
+
+		// Both project infos are cached
+		Assert.assertSame(lazyInfo, cache.getProjectInfoFromCache(lazyParams).get());
+		Assert.assertSame(info, cache.getProjectInfoFromCache(params).get());
+		Assert.assertEquals(2, requests.size());
+
+		// Classpath changed -> both project infos are evicted
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		Collection<String> uris = cache.propertiesChanged(event);
+		Assert.assertEquals(Arrays.asList(PROJECT1_APPLICATION_PROPERTIES), uris);
+		Assert.assertNotSame(lazyInfo, cache.getProjectInfoFromCache(lazyParams).get());
+		Assert.assertNotSame(info, cache.getProjectInfoFromCache(params).get());
+		Assert.assertEquals(4, requests.size());
+	}
+
 	@Test
 	public void getProjectInfoCacheProviderException() throws InterruptedException, ExecutionException {
 		MicroProfileProjectInfoProvider provider = new MicroProfileProjectInfoProviderThrowException();
@@ -458,6 +458,34 @@ public class PropertiesModelTest {
 		Assert.assertTrue("dev".equals(property.getProfile()));
 	}
 
+	@Test
+	public void propertiesIndex() {
+		String text = "a=\n" + //
+				"a=1\n" + //
+				"a=2\n" + //
+				"%dev.a=3\n" + //
+				"b=${a}/${c}\n" + //
+				"c=${a}";
+		PropertiesModel model = PropertiesModel.parse(text, "microprofile-config.properties");
+
+		// the first property which has a value wins
+		Assert.assertEquals("1", model.getValue("a"));
+		Assert.assertEquals("3", model.getValue("%dev.a"));
+		Assert.assertNull(model.getValue("d"));
+		Assert.assertTrue(model.hasKey("b"));
+		Assert.assertFalse(model.hasKey("d"));
+		Assert.assertEquals(4, model.keys().size());
+
+		Assert.assertEquals(3, model.getPropertiesByKey("a").size());
+		Assert.assertEquals(4, model.getPropertiesByName("a").size());
+		Assert.assertTrue(model.getPropertiesByKey("d").isEmpty());
+
+		Assert.assertEquals(2, model.getPropertyValueExpressions("a").size());
+		Assert.assertEquals(1, model.getPropertyValueExpressions("c").size());
+		Assert.assertTrue(model.getReferencedPropertyNames().contains("c"));
+		Assert.assertFalse(model.getReferencedPropertyNames().contains("b"));
+	}
+
 	private static void assertComments(Node comments, int expectedStart, int expectedEnd, String expectedText) {
 		Assert.assertEquals(comments.getNodeType(), NodeType.COMMENTS);
 		Assert.assertEquals(expectedText, comments.getText());
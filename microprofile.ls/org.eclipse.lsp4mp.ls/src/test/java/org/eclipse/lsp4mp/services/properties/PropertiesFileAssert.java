@@ -29,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.tools.JavaCompiler;
@@ -75,6 +76,7 @@ import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.runtime.ExecutionMode;
 import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntime;
 import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.eclipse.lsp4mp.ls.MetadataTypeAdapterFactory;
 import org.eclipse.lsp4mp.ls.MockMicroProfilePropertyDefinitionProvider;
 import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDefinitionProvider;
 import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
@@ -164,7 +166,8 @@ public class PropertiesFileAssert {
 	}
 
 	private static Gson createGson() {
-		return new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+		return new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory())
+				.registerTypeAdapterFactory(new MetadataTypeAdapterFactory()).create();
 	}
 
 	public static MicroProfilePropertyDefinitionProvider getDefaultMicroProfilePropertyDefinitionProvider() {
@@ -367,7 +370,7 @@ public class PropertiesFileAssert {
 
 	// ------------------- Completion resolve assert
 
-	private static SharedSettings getResolveSharedSettings() {
+	public static SharedSettings getResolveSharedSettings() {
 		CompletionItemResolveSupportCapabilities completionItemResolveSupportCapabilities = new CompletionItemResolveSupportCapabilities();
 		completionItemResolveSupportCapabilities.setProperties(Arrays.asList("documentation"));
 		CompletionItemCapabilities completionItemCapabilities = new CompletionItemCapabilities();
@@ -658,6 +661,12 @@ public class PropertiesFileAssert {
 	public static void testDefinitionFor(String value, String documentName, MicroProfileProjectInfo projectInfo,
 			MicroProfilePropertyDefinitionProvider definitionProvider, LocationLink... expected)
 			throws BadLocationException, InterruptedException, ExecutionException {
+		testDefinitionFor(value, documentName, projectInfo, definitionProvider, uri -> false, expected);
+	}
+
+	public static void testDefinitionFor(String value, String documentName, MicroProfileProjectInfo projectInfo,
+			MicroProfilePropertyDefinitionProvider definitionProvider, Predicate<String> hasUnsavedChanges,
+			LocationLink... expected) throws BadLocationException, InterruptedException, ExecutionException {
 		int offset = value.indexOf('|');
 		value = value.substring(0, offset) + value.substring(offset + 1);
 
@@ -666,7 +675,9 @@ public class PropertiesFileAssert {
 		Position position = document.positionAt(offset);
 
 		Either<List<? extends Location>, List<? extends LocationLink>> actual = languageService
-				.findDefinition(document, position, projectInfo, definitionProvider, true, NOOP_CHECKER).get();
+				.findDefinition(document, position, projectInfo, definitionProvider, hasUnsavedChanges, true,
+						NOOP_CHECKER)
+				.get();
 		assertLocationLink(actual.getRight(), expected);
 
 	}
@@ -960,12 +971,21 @@ public class PropertiesFileAssert {
 
 	public static void testInlayHintFor(String value, MicroProfileInlayHintSettings inlayHintSettings,
 			MicroProfileProjectInfo projectInfo, InlayHint... expected) throws Exception {
+		testInlayHintFor(value, null, inlayHintSettings, projectInfo, expected);
+	}
+
+	public static void testInlayHintFor(String value, Range range, InlayHint... expected) throws Exception {
+		testInlayHintFor(value, range, new MicroProfileInlayHintSettings(), getDefaultMicroProfileProjectInfo(),
+				expected);
+	}
+
+	public static void testInlayHintFor(String value, Range range, MicroProfileInlayHintSettings inlayHintSettings,
+			MicroProfileProjectInfo projectInfo, InlayHint... expected) throws Exception {
 
 		MicroProfileExecutionSettings executionSettings = new MicroProfileExecutionSettings();
 		executionSettings.setMode(ExecutionMode.FULL.name());
 
 		PropertiesModel model = parse(value, null);
-		Range range = null;
 		PropertiesFileLanguageService languageService = new PropertiesFileLanguageService();
 		List<InlayHint> actual = languageService.getInlayHint(model, projectInfo, range, inlayHintSettings,
 				executionSettings, () -> {
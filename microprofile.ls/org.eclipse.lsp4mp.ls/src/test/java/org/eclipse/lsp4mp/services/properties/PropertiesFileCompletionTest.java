@@ -10,17 +10,24 @@
 package org.eclipse.lsp4mp.services.properties;
 
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.c;
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.getResolveSharedSettings;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.r;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testCompletionFor;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testCompletionItemResolveFor;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testCompletionItemUnresolvedFor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.junit.Test;
 
@@ -499,4 +506,42 @@ public class PropertiesFileCompletionTest {
 				c("quarkus.http.cors = false", "quarkus.http.cors=false", r(0, 0, 21)));
 	}
 
+	@Test
+	public void completionOnKeyResolveLazyDescription() throws Exception {
+		// The description of the property declared in Java has not been sent with the
+		// project information
+		ItemMetadata property = new ItemMetadata();
+		property.setName("greeting.message");
+		property.setType("java.lang.String");
+		property.setSourceType("org.acme.GreetingResource");
+		property.setSourceField("message");
+		MicroProfileProjectInfo projectInfo = new MicroProfileProjectInfo();
+		projectInfo.setProperties(Collections.singletonList(property));
+		projectInfo.setHints(Collections.emptyList());
+
+		List<MicroProfilePropertyDocumentationParams> requests = new ArrayList<>();
+		MicroProfilePropertyDocumentationProvider documentationProvider = params -> {
+			requests.add(params);
+			return CompletableFuture.completedFuture("The greeting message.");
+		};
+
+		PropertiesFileLanguageService languageService = new PropertiesFileLanguageService();
+		CompletionItem resolved = languageService.resolveCompletionItem(new CompletionItem("greeting.message"),
+				"application.properties", projectInfo, getResolveSharedSettings().getCompletionCapabilities(),
+				documentationProvider, () -> {
+				}).get();
+		assertTrue(resolved.getDocumentation().getRight().getValue().contains("The greeting message."));
+		assertEquals(1, requests.size());
+		assertEquals("greeting.message", requests.get(0).getPropertyName());
+		assertEquals("org.acme.GreetingResource", requests.get(0).getSourceType());
+
+		// The collected description is kept
+		resolved = languageService.resolveCompletionItem(new CompletionItem("greeting.message"),
+				"application.properties", projectInfo, getResolveSharedSettings().getCompletionCapabilities(),
+				documentationProvider, () -> {
+				}).get();
+		assertTrue(resolved.getDocumentation().getRight().getValue().contains("The greeting message."));
+		assertEquals(1, requests.size());
+	}
+
 }
@@ -13,9 +13,13 @@ import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.ll;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.r;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testDefinitionFor;
 
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.junit.Test;
 
@@ -130,6 +134,52 @@ public class PropertiesFileDefinitionTest {
 		testDefinitionFor(value);
 	}
 
+	@Test
+	public void definitionOnKeyWithSourceLocation()
+			throws BadLocationException, InterruptedException, ExecutionException {
+		// The location of the Java field has been collected with the property
+		ItemMetadata property = new ItemMetadata();
+		property.setName("greeting.message");
+		property.setType("java.lang.String");
+		property.setSourceType("org.acme.GreetingResource");
+		property.setSourceField("message");
+		property.setSourceLocation(
+				new Location("file:///project/src/main/java/org/acme/GreetingResource.java", r(14, 11, 18)));
+		MicroProfileProjectInfo projectInfo = new MicroProfileProjectInfo();
+		projectInfo.setProperties(Collections.singletonList(property));
+		projectInfo.setHints(Collections.emptyList());
+
+		String value = "greeting.mess|age=hello";
+		testDefinitionFor(value, null, projectInfo, params -> {
+			throw new UnsupportedOperationException("The definition must not be searched");
+		}, ll("file:///project/src/main/java/org/acme/GreetingResource.java", r(0, 0, 16), r(14, 11, 18)));
+	}
+
+	@Test
+	public void definitionOnKeyWithSourceLocationAndUnsavedJavaFile()
+			throws BadLocationException, InterruptedException, ExecutionException {
+		// The location of the Java field has been collected with the property
+		ItemMetadata property = new ItemMetadata();
+		property.setName("greeting.message");
+		property.setType("java.lang.String");
+		property.setSourceType("org.acme.GreetingResource");
+		property.setSourceField("message");
+		property.setSourceLocation(
+				new Location("file:///project/src/main/java/org/acme/GreetingResource.java", r(14, 11, 18)));
+		MicroProfileProjectInfo projectInfo = new MicroProfileProjectInfo();
+		projectInfo.setProperties(Collections.singletonList(property));
+		projectInfo.setHints(Collections.emptyList());
+
+		// The Java file has unsaved changes, the collected location could be outdated,
+		// the definition is searched with the definition provider
+		String value = "greeting.mess|age=hello";
+		testDefinitionFor(value, null, projectInfo, params -> {
+			return CompletableFuture.completedFuture(
+					new Location("file:///project/src/main/java/org/acme/GreetingResource.java", r(16, 11, 18)));
+		}, uri -> uri.equals("file:///project/src/main/java/org/acme/GreetingResource.java"),
+				ll("file:///project/src/main/java/org/acme/GreetingResource.java", r(0, 0, 16), r(16, 11, 18)));
+	}
+
 	@Test
 	public void noProject() throws BadLocationException, InterruptedException, ExecutionException {
 		String value = "quarkus.datasour|ce.driver=XXXX";
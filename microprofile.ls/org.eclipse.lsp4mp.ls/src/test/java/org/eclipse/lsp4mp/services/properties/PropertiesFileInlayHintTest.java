@@ -15,10 +15,20 @@ import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.ihLabe
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.p;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testInlayHintFor;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.wrapWithQuarkusProject;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.eclipse.lsp4j.InlayHint;
 
 import org.eclipse.lsp4mp.commons.MicroProfileInlayHintSettings;
 import org.eclipse.lsp4mp.commons.MicroProfileInlayHintTypeSettings;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.runtime.ExecutionMode;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.settings.MicroProfileExecutionSettings;
 import org.junit.Test;
 
 /**
@@ -76,6 +86,39 @@ public class PropertiesFileInlayHintTest {
 						ihLabel("AsyncHandler$OverflowAction")));
 	}
 
+	@Test
+	public void inlayHintsAreCachedPerModel() throws Exception {
+		MicroProfileProjectInfo projectInfo = getDefaultMicroProfileProjectInfo();
+		MicroProfileExecutionSettings executionSettings = new MicroProfileExecutionSettings();
+		executionSettings.setMode(ExecutionMode.FULL.name());
+		PropertiesFileLanguageService languageService = new PropertiesFileLanguageService();
+		String value = "quarkus.log.file.async.overflow = BLOCK";
+
+		PropertiesModel model = PropertiesModel.parse(value, "microprofile-config.properties");
+		MicroProfileInlayHintSettings inlayHintSettings = createInlayHintSettings(true, true);
+		List<InlayHint> first = languageService.getInlayHint(model, projectInfo, null, inlayHintSettings,
+				executionSettings, () -> {
+				});
+		List<InlayHint> second = languageService.getInlayHint(model, projectInfo, null, inlayHintSettings,
+				executionSettings, () -> {
+				});
+		assertEquals(1, first.size());
+		assertSame(first.get(0), second.get(0));
+
+		// settings have changed
+		List<InlayHint> third = languageService.getInlayHint(model, projectInfo, null,
+				createInlayHintSettings(false, true), executionSettings, () -> {
+				});
+		assertNotSame(first.get(0), third.get(0));
+
+		// new version of the document
+		model = PropertiesModel.parse(value, "microprofile-config.properties");
+		List<InlayHint> fourth = languageService.getInlayHint(model, projectInfo, null, inlayHintSettings,
+				executionSettings, () -> {
+				});
+		assertNotSame(first.get(0), fourth.get(0));
+	}
+
 	private static MicroProfileInlayHintSettings createInlayHintSettings(boolean showConverters, boolean showTypes) {
 		MicroProfileInlayHintSettings inlayHintSettings = new MicroProfileInlayHintSettings();
 		MicroProfileInlayHintTypeSettings converterSettings = new MicroProfileInlayHintTypeSettings();
@@ -0,0 +1,107 @@
+/*******************************************************************************
+* Copyright (c) 2025 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SimilarTextIndex}.
+ *
+ */
+public class SimilarTextIndexTest {
+
+	private static final List<String> LEVELS = Arrays.asList("OFF", "SEVERE", "WARNING", "INFO", "CONFIG", "FINE",
+			"FINER", "FINEST", "ALL", "FATAL", "ERROR", "WARN", "DEBUG", "TRACE");
+
+	@Test
+	public void similar() {
+		SimilarTextIndex index = new SimilarTextIndex(Arrays.asList("quarkus.application.name",
+				"quarkus.application.version", "quarkus.http.port", "quarkus.application.name"));
+		Assert.assertEquals(Arrays.asList("quarkus.application.name", "quarkus.application.name"),
+				index.findSimilar("quarkus.applicationname", false, 10));
+		Assert.assertEquals(Arrays.asList(), index.findSimilar("quarkus.http", false, 10));
+	}
+
+	@Test
+	public void prefix() {
+		SimilarTextIndex index = new SimilarTextIndex(LEVELS);
+		Assert.assertEquals(Arrays.asList("FINE", "FINER", "FINEST", "FATAL"), index.findSimilar("F", true, 10));
+		Assert.assertEquals(Arrays.asList(), index.findSimilar("F", false, 10));
+		Assert.assertEquals(LEVELS, index.findSimilar("", true, 20));
+	}
+
+	@Test
+	public void maxResults() {
+		SimilarTextIndex index = new SimilarTextIndex(LEVELS);
+		// 'WARNING' and 'WARN' start with 'WARN', 'WARN' is also similar to 'WARN'
+		Assert.assertEquals(Arrays.asList("WARNING", "WARN"), index.findSimilar("WARN", true, 2));
+		Assert.assertEquals(Arrays.asList("FINE", "FINER"), index.findSimilar("F", true, 2));
+	}
+
+	@Test
+	public void sameResultThanFullScan() {
+		Random random = new Random(42);
+		List<String> texts = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			texts.add(randomText(random, 1 + random.nextInt(40)));
+		}
+		SimilarTextIndex index = new SimilarTextIndex(texts);
+		for (int i = 0; i < 200; i++) {
+			// search a mutated text of the index
+			String text = mutate(texts.get(random.nextInt(texts.size())), random);
+			List<String> expected = new ArrayList<>();
+			for (String reference : texts) {
+				int threshold = Math.round(0.1f * reference.length());
+				if (new LevenshteinDistance(threshold).apply(reference, text) != -1) {
+					expected.add(reference);
+				}
+			}
+			Assert.assertEquals("Search of '" + text + "'", expected,
+					index.findSimilar(text, false, Integer.MAX_VALUE));
+		}
+	}
+
+	private static String randomText(Random random, int length) {
+		StringBuilder text = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			text.append("abcde.".charAt(random.nextInt(6)));
+		}
+		return text.toString();
+	}
+
+	private static String mutate(String text, Random random) {
+		StringBuilder mutated = new StringBuilder(text);
+		int changes = random.nextInt(4);
+		for (int i = 0; i < changes && mutated.length() > 1; i++) {
+			int index = random.nextInt(mutated.length());
+			switch (random.nextInt(3)) {
+			case 0:
+				mutated.deleteCharAt(index);
+				break;
+			case 1:
+				mutated.insert(index, 'x');
+				break;
+			default:
+				mutated.setCharAt(index, 'y');
+			}
+		}
+		return mutated.toString();
+	}
+}
@@ -11,6 +11,7 @@ package org.eclipse.lsp4mp.services.properties.expressions;
 
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.ih;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.p;
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.r;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testInlayHintFor;
 
 import java.util.Collections;
@@ -53,6 +54,21 @@ public class PropertiesFileExpressionInlayHintTest {
 				ih(p(4, 26), " project/eclipse/microprofile-config"));
 	};
 
+	@Test
+	public void expressionInRange() throws Exception {
+		String value = "server.url=https://${host}:${port:8080}/${endpoint}\n" + //
+				"host=microprofile.io\n" + //
+				"app=project\n" + //
+				"service=eclipse/microprofile-config\n" + //
+				"endpoint=${app}/${service}";
+		// only the properties which intersect the range are processed
+		testInlayHintFor(value, r(0, 0, 1, 0), //
+				ih(p(0, 51), " https://microprofile.io:8080/project/eclipse/microprofile-config"));
+		testInlayHintFor(value, r(2, 0, 3, 5));
+		testInlayHintFor(value, r(3, 10, 4, 3), //
+				ih(p(4, 26), " project/eclipse/microprofile-config"));
+	};
+
 	@Test
 	public void invalidExpression() throws Exception {
 		String value = "server.url=https://${host}:${port}/${endpoint}\n" + // error -> here port is not defined
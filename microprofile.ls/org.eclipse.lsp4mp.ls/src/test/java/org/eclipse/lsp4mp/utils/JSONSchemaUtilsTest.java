@@ -17,6 +17,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -99,6 +100,30 @@ public class JSONSchemaUtilsTest {
 				jsonSchema);
 	}
 
+	@Test
+	public void cachedUntilPropertiesChange() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		addItem("quarkus.application.name", "java.lang.String", null, info);
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+
+		String jsonSchema = JSONSchemaUtils.toJSONSchema(wrapper, true);
+		Assert.assertSame(jsonSchema, JSONSchemaUtils.toJSONSchema(wrapper, true));
+		String notLenientJsonSchema = JSONSchemaUtils.toJSONSchema(wrapper, false);
+		Assert.assertNotEquals(jsonSchema, notLenientJsonSchema);
+		Assert.assertSame(notLenientJsonSchema, JSONSchemaUtils.toJSONSchema(wrapper, false));
+
+		// properties from Java sources have changed
+		ItemMetadata item = new ItemMetadata();
+		item.setName("quarkus.application.version");
+		item.setType("java.lang.String");
+		List<ItemMetadata> properties = new ArrayList<>();
+		properties.add(item);
+		wrapper.updateSourcesProperties(properties, new ArrayList<>());
+		String newJsonSchema = JSONSchemaUtils.toJSONSchema(wrapper, true);
+		Assert.assertNotEquals(jsonSchema, newJsonSchema);
+		Assert.assertTrue(newJsonSchema.contains("\"version\""));
+	}
+
 	private static void addItem(String name, String type, String description, MicroProfileProjectInfo info) {
 		addItem(name, type, description, null, info);
 	}
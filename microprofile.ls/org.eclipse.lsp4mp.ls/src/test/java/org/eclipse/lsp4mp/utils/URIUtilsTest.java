@@ -31,6 +31,16 @@ public class URIUtilsTest {
 		Assert.assertEquals("file:///C%3A/Users/a%20folder/application.properties", encodedFileURI);
 	}
 
+	@Test
+	public void sameFileURI() {
+		Assert.assertTrue(URIUtils.isSameFileURI("file:///c%3A/Users/a%20folder/Foo.java",
+				"file:/C:/Users/a folder/Foo.java"));
+		Assert.assertTrue(URIUtils.isSameFileURI("file:///home/a%20folder/Foo.java",
+				"file:/home/a folder/Foo.java"));
+		Assert.assertFalse(URIUtils.isSameFileURI("file:///home/a%20folder/Foo.java",
+				"file:/home/a folder/Bar.java"));
+	}
+
 	@Test
 	public void linuxEncodedFileURI() {
 		String fileURI = "file://home/a folder/application.properties";